@@ -0,0 +1,72 @@
+package com.changelog.auth.service;
+
+import com.changelog.auth.security.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost: the cached key and parser in {@link JwtService} against deriving the
+ * key and building a parser on every call, which is what JwtService used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SIGNING_KEY = "benchmark-signing-key-benchmark-signing-key";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setIssuer("changelog");
+        props.setSigningKey(SIGNING_KEY);
+        jwtService = new JwtService(props);
+        token = jwtService.issue("user@example.com", Map.of("uid", "1", "role", "USER"));
+    }
+
+    @Benchmark
+    public Jws<Claims> parseCached() {
+        return jwtService.parse(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseRebuiltPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SIGNING_KEY.getBytes()))
+                .build()
+                .parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public String issueCached() {
+        return jwtService.issue("user@example.com", Map.of("uid", "1", "role", "USER"));
+    }
+
+    @Benchmark
+    public String issueRebuiltPerCall() {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setIssuer("changelog")
+                .setSubject("user@example.com")
+                .addClaims(Map.of("uid", "1", "role", "USER"))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(SIGNING_KEY.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,87 @@
+package com.changelog.tickets.dto;
+
+import com.changelog.tickets.model.TicketStatus;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON serialization of the list and dashboard responses, with the same mapper settings
+ * Spring Boot applies (Java time module, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private TicketsPageResponse ticketsPage;
+    private DashboardHomeResponse homePage;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<TicketSummaryResponse> tickets = IntStream.range(0, pageSize).mapToObj(i -> TicketSummaryResponse.builder()
+                        .id(456530599L + i)
+                        .slug("refactor-reevaluation-processor-" + i)
+                        .title("Refactor reevaluation processor " + i)
+                        .background("The nightly reevaluation job ran for fifteen minutes. ".repeat(4))
+                        .status(TicketStatus.ACTIVE)
+                        .visibility("Public")
+                        .startDate(LocalDate.of(2025, 12, 10).minusDays(i))
+                        .technologies(new String[]{"Java", "Spring Boot", "PostgreSQL"})
+                        .build())
+                .toList();
+
+        ticketsPage = TicketsPageResponse.builder()
+                .tickets(tickets)
+                .size(pageSize)
+                .nextCursor("MjAyNS0xMi0xMHw0NTY1MzA1OTk")
+                .build();
+
+        List<EntrySummaryResponse> entries = IntStream.range(0, 5).mapToObj(i -> EntrySummaryResponse.builder()
+                        .entryId(443682370L + i)
+                        .ticketName("Refactor reevaluation processor")
+                        .ticketSlug("refactor-reevaluation-processor")
+                        .title("Identified bottlenecks " + i)
+                        .excerpt("Found inefficient JPA queries. ".repeat(6))
+                        .technologies(new String[]{"Spring Boot", "PostgreSQL"})
+                        .date(LocalDate.of(2025, 12, 12).minusDays(i))
+                        .visibility("Public")
+                        .build())
+                .toList();
+
+        homePage = DashboardHomeResponse.builder()
+                .activeTickets(tickets.subList(0, Math.min(10, tickets.size())))
+                .recentEntries(entries)
+                .metrics(DashboardMetrics.builder()
+                        .activeTickets(12)
+                        .completedTickets(40)
+                        .logsThisWeek(9)
+                        .lastUpdate(LocalDate.of(2025, 12, 12))
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] ticketsPage() throws Exception {
+        return writer.writeValueAsBytes(ticketsPage);
+    }
+
+    @Benchmark
+    public byte[] dashboardHome() throws Exception {
+        return writer.writeValueAsBytes(homePage);
+    }
+}
@@ -0,0 +1,110 @@
+package com.changelog.tickets.mapper;
+
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.dto.EntrySummaryResponse;
+import com.changelog.tickets.dto.TicketDetailResponse;
+import com.changelog.tickets.dto.TicketSummaryResponse;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Technology;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntrySummaryView;
+import com.changelog.tickets.repository.TechnologyRepository;
+import com.changelog.tickets.repository.TicketSummaryView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Entity and projection to response mapping, run once per row of every list response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private TicketMapper ticketMapper;
+    private EntryMapper entryMapper;
+
+    private Ticket ticket;
+    private TicketSummaryView ticketView;
+    private Entry entry;
+    private EntrySummaryView entryView;
+
+    @Setup
+    public void setUp() {
+        // The repository is only read once, to load the dictionary; mapping reads its maps
+        TechnologyRepository technologyRepository = mock(TechnologyRepository.class);
+        when(technologyRepository.findAll()).thenReturn(List.of(new Technology(1, "Java"),
+                new Technology(2, "Spring Boot"), new Technology(3, "PostgreSQL"), new Technology(4, "Hibernate")));
+        TechnologyDictionary technologyDictionary = new TechnologyDictionary(technologyRepository);
+        ticketMapper = new TicketMapper(technologyDictionary);
+        entryMapper = new EntryMapper(technologyDictionary);
+
+        Integer[] technologyIds = {1, 2, 3, 4};
+
+        ticket = Ticket.builder()
+                .id(456530599L)
+                .slug("refactor-reevaluation-processor")
+                .title("Refactor reevaluation processor")
+                .status(TicketStatus.ACTIVE)
+                .visibility("Public")
+                .startDate(LocalDate.of(2025, 12, 10))
+                .background("The nightly reevaluation job ran for fifteen minutes. ".repeat(8))
+                .technologyIds(technologyIds)
+                .learned("Batch the reads.")
+                .roadblocksSummary("Lock contention on cl_entry.")
+                .metricsSummary("Cut from 15m to 30s.")
+                .build();
+
+        ticketView = new TicketSummaryView(ticket.getId(), ticket.getSlug(), ticket.getTitle(), ticket.getBackground(),
+                ticket.getStatus(), ticket.getVisibility(), ticket.getStartDate(), null, technologyIds);
+
+        entry = Entry.builder()
+                .id(443682370L)
+                .ticket(ticket)
+                .date(LocalDate.of(2025, 12, 12))
+                .title("Identified bottlenecks")
+                .body("Found inefficient JPA queries. ".repeat(40))
+                .excerpt("Found inefficient JPA queries.")
+                .technologyIds(technologyIds)
+                .visibility("Public")
+                .build();
+
+        entryView = new EntrySummaryView(entry.getId(), entry.getDate(), entry.getTitle(), entry.getExcerpt(),
+                technologyIds, entry.getVisibility(), ticket.getTitle(), ticket.getSlug());
+    }
+
+    @Benchmark
+    public TicketSummaryResponse ticketToSummary() {
+        return ticketMapper.toSummary(ticket);
+    }
+
+    @Benchmark
+    public TicketSummaryResponse ticketViewToSummary() {
+        return ticketMapper.toSummary(ticketView);
+    }
+
+    @Benchmark
+    public TicketDetailResponse ticketToDetailResponse() {
+        return ticketMapper.toDetailResponse(ticket);
+    }
+
+    @Benchmark
+    public EntrySummaryResponse entryToSummary() {
+        return entryMapper.toSummary(entry);
+    }
+
+    @Benchmark
+    public EntrySummaryResponse entryViewToSummary() {
+        return entryMapper.toSummary(entryView);
+    }
+}
@@ -0,0 +1,91 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.dto.TicketFilters;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria building for the ticket list filters, per request on the LIKE search path. The
+ * factory is bootstrapped against an in-memory H2 database but nothing is executed, this
+ * only measures building the predicate and turning the criteria into a query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSpecificationsBenchmark {
+
+    @Param({"status", "searchThreeTokens"})
+    public String filterShape;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CriteriaBuilder cb;
+    private TicketFilters filters;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:specifications_benchmark;MODE=PostgreSQL");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.changelog.tickets.model");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "hibernate.hbm2ddl.auto", "none"));
+        factory.afterPropertiesSet();
+
+        entityManagerFactory = factory.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        cb = entityManager.getCriteriaBuilder();
+
+        filters = switch (filterShape) {
+            case "status" -> TicketFilters.builder().status(TicketStatus.ACTIVE).build();
+            case "searchThreeTokens" -> TicketFilters.builder()
+                    .statusNot(TicketStatus.ARCHIVED)
+                    .visibility("Public")
+                    .search("reevaluation batch postgres")
+                    .build();
+            default -> throw new IllegalArgumentException(filterShape);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public Predicate predicate() {
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        return TicketSpecifications.fromFilters(filters).toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public TypedQuery<Ticket> query() {
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        query.where(TicketSpecifications.fromFilters(filters).toPredicate(root, query, cb));
+        return entityManager.createQuery(query);
+    }
+}
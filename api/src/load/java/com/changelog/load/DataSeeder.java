@@ -0,0 +1,358 @@
+package com.changelog.load;
+
+import com.changelog.common.util.Excerpts;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.util.EntryIdGenerator;
+import com.changelog.tickets.util.TicketIdGenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk-loads synthetic tickets and entries over plain JDBC batches, bypassing the API and
+ * Hibernate. IDs are reserved from cl_id_block in one step, so a running API keeps leasing
+ * blocks above the seeded range.
+ * <p>
+ * The data is shaped like the real thing rather than uniform: entries per ticket follow a
+ * Zipf distribution (a few long-running tickets hold most of the log), bodies range from a
+ * couple of sentences to several pages, and technologies are drawn with skewed popularity so
+ * filters and search terms have realistic selectivity. The same seed yields the same data.
+ * Technology names are added to cl_technology when missing, rows store their codes.
+ * <p>
+ * On Postgres the search_vector trigger runs for every ticket row, which is most of the
+ * ticket insert time. Add {@code reWriteBatchedInserts=true} to the URL (done by default
+ * in {@link LoadTool}) so the driver sends multi-row inserts.
+ */
+public class DataSeeder {
+
+    static final List<String> TECHNOLOGIES = List.of(
+            "Java", "Spring Boot", "PostgreSQL", "Docker", "Kubernetes", "React", "TypeScript", "Redis",
+            "Kafka", "AWS", "Terraform", "Hibernate", "Liquibase", "Grafana", "Prometheus", "Nginx",
+            "Python", "Go", "gRPC", "GraphQL", "Elasticsearch", "RabbitMQ", "Jenkins", "GitHub Actions",
+            "Next.js", "Tailwind", "Vite", "JUnit", "Mockito", "Testcontainers", "Caffeine", "Netty");
+
+    static final List<String> WORDS = List.of(
+            "migration", "latency", "index", "cache", "deploy", "rollback", "schema", "cursor",
+            "pipeline", "refactor", "benchmark", "timeout", "retry", "queue", "replica", "snapshot",
+            "throughput", "profile", "allocation", "query", "tracing", "batch", "partition", "token",
+            "upgrade", "dashboard", "endpoint", "payload", "pooling", "threads", "storage", "vacuum",
+            "the", "a", "with", "after", "before", "during", "while", "because", "and", "then",
+            "fixed", "added", "measured", "removed", "moved", "tuned", "found", "reduced", "split");
+
+    private static final String INSERT_TICKET = """
+            INSERT INTO cl_ticket (id, slug, title, status, start_date, end_date, background, technology_ids,
+                                   learned, visibility, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO cl_entry (id, ticket_id, date, title, body, excerpt, technology_ids, visibility,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private int tickets = 2_000;
+    private int entries = 100_000;
+    private int batchSize = 1_000;
+    private double skew = 1.1;
+    private long seed = 42;
+
+    public DataSeeder(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    public DataSeeder tickets(int tickets) { this.tickets = tickets; return this; }
+
+    public DataSeeder entries(int entries) { this.entries = entries; return this; }
+
+    public DataSeeder batchSize(int batchSize) { this.batchSize = batchSize; return this; }
+
+    /**
+     * Zipf exponent of the entries-per-ticket distribution, 0 spreads entries evenly.
+     */
+    public DataSeeder skew(double skew) { this.skew = skew; return this; }
+
+    public DataSeeder seed(long seed) { this.seed = seed; return this; }
+
+    public void run() throws SQLException {
+        Random random = new Random(seed);
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+
+            long firstTicketId = reserve(connection, "cl_ticket", tickets, TicketIdGenerator.MIN_BLOCK_ID);
+            long firstEntryId = reserve(connection, "cl_entry", entries, EntryIdGenerator.MIN_BLOCK_ID);
+            connection.commit();
+
+            int[] codes = technologyCodes(connection);
+            connection.commit();
+
+            long started = System.nanoTime();
+            LocalDate[] startDates = insertTickets(connection, random, firstTicketId, codes);
+            long ticketsDone = System.nanoTime();
+            insertEntries(connection, random, firstTicketId, firstEntryId, startDates, codes);
+            long entriesDone = System.nanoTime();
+
+            System.out.printf("Seeded %,d tickets in %s and %,d entries in %s%n",
+                    tickets, rate(tickets, ticketsDone - started),
+                    entries, rate(entries, entriesDone - ticketsDone));
+        }
+    }
+
+    private long reserve(Connection connection, String sequence, int count, long min) throws SQLException {
+        long first;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT next_value FROM cl_id_block WHERE name = ? FOR UPDATE")) {
+            select.setString(1, sequence);
+            try (ResultSet rs = select.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("No cl_id_block row for sequence " + sequence);
+                }
+                first = Math.max(rs.getLong(1), min);
+            }
+        }
+        long last = first + count - 1;
+        long max = sequence.equals("cl_ticket") ? TicketIdGenerator.MAX_BLOCK_ID : EntryIdGenerator.MAX_BLOCK_ID;
+        if (last > max) {
+            throw new IllegalStateException("Not enough block IDs left in " + sequence + " for " + count + " rows");
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE cl_id_block SET next_value = ? WHERE name = ?")) {
+            update.setLong(1, last + 1);
+            update.setString(2, sequence);
+            update.executeUpdate();
+        }
+        return first;
+    }
+
+    /**
+     * Codes of {@link #TECHNOLOGIES}, by list position, adding the names cl_technology lacks.
+     */
+    private static int[] technologyCodes(Connection connection) throws SQLException {
+        int[] codes = new int[TECHNOLOGIES.size()];
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id FROM cl_technology WHERE lower(name) = lower(?)");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO cl_technology (name) VALUES (?)", new String[]{"id"})) {
+            for (int i = 0; i < codes.length; i++) {
+                select.setString(1, TECHNOLOGIES.get(i));
+                try (ResultSet rs = select.executeQuery()) {
+                    if (rs.next()) {
+                        codes[i] = rs.getInt(1);
+                        continue;
+                    }
+                }
+                insert.setString(1, TECHNOLOGIES.get(i));
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    codes[i] = keys.getInt(1);
+                }
+            }
+        }
+        return codes;
+    }
+
+    private LocalDate[] insertTickets(Connection connection, Random random, long firstId, int[] codes)
+            throws SQLException {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate[] startDates = new LocalDate[tickets];
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_TICKET)) {
+            for (int i = 0; i < tickets; i++) {
+                long id = firstId + i;
+                String title = capitalize(sentence(random, 3 + random.nextInt(5)));
+                TicketStatus status = ticketStatus(random);
+                LocalDate startDate = today.minusDays(random.nextInt(3 * 365));
+                LocalDate endDate = status == TicketStatus.ACTIVE
+                        ? null
+                        : startDate.plusDays(random.nextInt((int) ChronoUnit.DAYS.between(startDate, today) + 1));
+                startDates[i] = startDate;
+
+                insert.setLong(1, id);
+                insert.setString(2, slug(title, id));
+                insert.setString(3, title);
+                insert.setString(4, status.name());
+                insert.setObject(5, startDate);
+                if (endDate != null) insert.setObject(6, endDate);
+                else insert.setNull(6, Types.DATE);
+                insert.setString(7, paragraphs(random, 1 + random.nextInt(3)));
+                insert.setArray(8, connection.createArrayOf("integer", technologyIds(random, codes)));
+                insert.setString(9, status == TicketStatus.ACTIVE ? null : paragraphs(random, 1));
+                insert.setString(10, visibility(random));
+                insert.setObject(11, timestamp(startDate));
+                insert.setObject(12, timestamp(endDate != null ? endDate : today));
+                insert.addBatch();
+
+                if ((i + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return startDates;
+    }
+
+    private void insertEntries(Connection connection, Random random, long firstTicketId, long firstEntryId,
+                               LocalDate[] startDates, int[] codes) throws SQLException {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int[] perTicket = entriesPerTicket(random);
+
+        long id = firstEntryId;
+        int pending = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ENTRY)) {
+            for (int t = 0; t < tickets; t++) {
+                long span = ChronoUnit.DAYS.between(startDates[t], today) + 1;
+                for (int n = 0; n < perTicket[t]; n++) {
+                    LocalDate date = startDates[t].plusDays(random.nextLong(span));
+                    String body = paragraphs(random, bodyParagraphs(random));
+
+                    insert.setLong(1, id++);
+                    insert.setLong(2, firstTicketId + t);
+                    insert.setObject(3, date);
+                    insert.setString(4, capitalize(sentence(random, 2 + random.nextInt(6))));
+                    insert.setString(5, body);
+                    insert.setString(6, Excerpts.of(body));
+                    insert.setArray(7, connection.createArrayOf("integer", technologyIds(random, codes)));
+                    insert.setString(8, visibility(random));
+                    insert.setObject(9, timestamp(date));
+                    insert.setObject(10, timestamp(date));
+                    insert.addBatch();
+
+                    if (++pending == batchSize) {
+                        insert.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    /**
+     * Splits the entry total over tickets by Zipf weight, then shuffles so the busiest
+     * tickets are not simply the oldest IDs.
+     */
+    private int[] entriesPerTicket(Random random) {
+        double[] weights = new double[tickets];
+        double total = 0;
+        for (int i = 0; i < tickets; i++) {
+            weights[i] = 1 / Math.pow(i + 1, skew);
+            total += weights[i];
+        }
+
+        int[] counts = new int[tickets];
+        int assigned = 0;
+        for (int i = 0; i < tickets; i++) {
+            counts[i] = (int) (entries * weights[i] / total);
+            assigned += counts[i];
+        }
+        // Rounding remainder goes to random tickets
+        for (; assigned < entries; assigned++) {
+            counts[random.nextInt(tickets)]++;
+        }
+
+        for (int i = tickets - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = counts[i];
+            counts[i] = counts[j];
+            counts[j] = swap;
+        }
+        return counts;
+    }
+
+    private static TicketStatus ticketStatus(Random random) {
+        int roll = random.nextInt(10);
+        return roll < 3 ? TicketStatus.ACTIVE : roll < 9 ? TicketStatus.COMPLETED : TicketStatus.ARCHIVED;
+    }
+
+    private static String visibility(Random random) {
+        return random.nextInt(10) < 8 ? "Public" : "Private";
+    }
+
+    // Mostly a paragraph or two, with a long tail of multi-page write-ups
+    private static int bodyParagraphs(Random random) {
+        double roll = random.nextDouble();
+        return roll < 0.6 ? 1 + random.nextInt(2) : roll < 0.95 ? 3 + random.nextInt(5) : 10 + random.nextInt(30);
+    }
+
+    static String[] technologies(Random random) {
+        return Arrays.stream(technologyIndexes(random))
+                .mapToObj(TECHNOLOGIES::get)
+                .toArray(String[]::new);
+    }
+
+    private static Integer[] technologyIds(Random random, int[] codes) {
+        return Arrays.stream(technologyIndexes(random))
+                .mapToObj(i -> codes[i])
+                .toArray(Integer[]::new);
+    }
+
+    // Positions in TECHNOLOGIES
+    private static int[] technologyIndexes(Random random) {
+        int count = 1 + random.nextInt(5);
+        return random.ints(count, 0, TECHNOLOGIES.size())
+                // Squaring a uniform index favors the front of the list
+                .map(i -> i * i / TECHNOLOGIES.size())
+                .distinct()
+                .toArray();
+    }
+
+    static String sentence(Random random, int words) {
+        String[] picked = new String[words];
+        for (int i = 0; i < words; i++) {
+            picked[i] = WORDS.get(random.nextInt(WORDS.size()));
+        }
+        return String.join(" ", picked);
+    }
+
+    private static String paragraphs(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < count; p++) {
+            if (p > 0) text.append("\n\n");
+            int sentences = 3 + random.nextInt(6);
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) text.append(' ');
+                text.append(capitalize(sentence(random, 6 + random.nextInt(14)))).append('.');
+            }
+        }
+        return text.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static String slug(String title, long id) {
+        return title.toLowerCase().replaceAll("[^a-z0-9]+", "-") + "-" + id;
+    }
+
+    private static OffsetDateTime timestamp(LocalDate date) {
+        return date.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static String rate(int rows, long nanos) {
+        double seconds = nanos / 1e9;
+        return String.format("%.1fs (%,.0f rows/s)", seconds, rows / Math.max(seconds, 1e-9));
+    }
+}
@@ -0,0 +1,166 @@
+package com.changelog.load;
+
+import com.changelog.ApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Command line entry point of the load harness, run through the {@code load} Maven profile:
+ * <pre>
+ * mvn -Pload test-compile exec:exec -Dload.args="local --tickets=5000 --entries=250000"
+ * mvn -Pload test-compile exec:exec -Dload.args="seed --jdbc-url=jdbc:postgresql://localhost:5432/changelog --db-user=... --db-password=..."
+ * mvn -Pload test-compile exec:exec -Dload.args="run --base-url=http://localhost:8080 --email=... --password=..."
+ * </pre>
+ * <ul>
+ *   <li>{@code seed} bulk-loads a database the API has already migrated (Liquibase on Postgres).</li>
+ *   <li>{@code run} drives traffic at an API started separately, e.g. with the dev profile.</li>
+ *   <li>{@code local} starts the API in this JVM on an in-memory H2 database, seeds it and runs
+ *   traffic against it. Client and server share the machine, so use it to compare changes
+ *   against each other rather than for absolute numbers. {@code --api.<property>=<value>}
+ *   options are passed to the API, e.g. {@code --api.spring.threads.virtual.enabled=true}.</li>
+ * </ul>
+ * Traffic options: {@code --concurrency}, {@code --duration}, {@code --warmup} (ISO-8601, e.g.
+ * PT2M), {@code --rate} (req/s, closed loop when unset), {@code --mix} (e.g.
+ * {@code list:30,entries:10,search:15,slug:25,dashboard:15,write:5}) and {@code --report}, the
+ * JSON results file (target/load-report.json by default).
+ * <p>
+ * Seeding updates tables behind the API's back: the dashboard counters catch up on their next
+ * reconcile and cached ticket details expire by TTL, so seed before starting a run.
+ */
+public final class LoadTool {
+
+    private static final String H2_URL = "jdbc:h2:mem:changelog_load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private LoadTool() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: LoadTool seed|run|local [--option=value ...], see the class javadoc");
+            System.exit(2);
+        }
+        Map<String, String> options = options(args);
+
+        switch (args[0]) {
+            case "seed" -> seeder(options, jdbcUrl(options.getOrDefault("jdbc-url", H2_URL)),
+                    options.getOrDefault("db-user", "sa"), options.getOrDefault("db-password", "")).run();
+            case "run" -> report(options, driver(options, URI.create(options.getOrDefault("base-url", "http://localhost:8080"))));
+            case "local" -> local(options);
+            default -> throw new IllegalArgumentException("Unknown command " + args[0]);
+        }
+    }
+
+    private static void local(Map<String, String> options) throws Exception {
+        List<String> apiArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + H2_URL,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                // Per-request info logging would measure the console more than the API
+                "--logging.level.root=WARN",
+                "--security.jwt.signing-key=" + UUID.randomUUID() + UUID.randomUUID()));
+        options.forEach((key, value) -> {
+            if (key.startsWith("api.")) apiArgs.add("--" + key.substring(4) + "=" + value);
+        });
+
+        // Devtools is on the test classpath, its restarter would relaunch main() with the API's arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (ConfigurableApplicationContext api = new SpringApplicationBuilder(ApiApplication.class)
+                .run(apiArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) api).getWebServer().getPort();
+
+            seeder(options, H2_URL, "sa", "").run();
+
+            TrafficDriver driver = driver(options, URI.create("http://localhost:" + port));
+            if (!options.containsKey("token") && !options.containsKey("email")) {
+                driver.login("load@changelog.local", "load-test-password", true);
+            }
+            report(options, driver);
+        }
+    }
+
+    private static DataSeeder seeder(Map<String, String> options, String jdbcUrl, String user, String password) {
+        return new DataSeeder(jdbcUrl, user, password)
+                .tickets(Integer.parseInt(options.getOrDefault("tickets", "2000")))
+                .entries(Integer.parseInt(options.getOrDefault("entries", "100000")))
+                .batchSize(Integer.parseInt(options.getOrDefault("batch-size", "1000")))
+                .skew(Double.parseDouble(options.getOrDefault("skew", "1.1")))
+                .seed(Long.parseLong(options.getOrDefault("seed", "42")));
+    }
+
+    private static TrafficDriver driver(Map<String, String> options, URI baseUri) throws Exception {
+        TrafficDriver driver = new TrafficDriver(baseUri)
+                .concurrency(Integer.parseInt(options.getOrDefault("concurrency", "16")))
+                .duration(Duration.parse(options.getOrDefault("duration", "PT60S")))
+                .warmup(Duration.parse(options.getOrDefault("warmup", "PT10S")))
+                .rate(Double.parseDouble(options.getOrDefault("rate", "0")))
+                .sampleSize(Integer.parseInt(options.getOrDefault("sample-size", "500")));
+        if (options.containsKey("mix")) {
+            driver.mix(mix(options.get("mix")));
+        }
+        if (options.containsKey("token")) {
+            driver.token(options.get("token"));
+        } else if (options.containsKey("email")) {
+            driver.login(options.get("email"), options.getOrDefault("password", ""), false);
+        }
+        return driver;
+    }
+
+    private static void report(Map<String, String> options, TrafficDriver driver) throws Exception {
+        List<LatencyRecorder.EndpointSummary> summaries = driver.run();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, String> recorded = new LinkedHashMap<>(options);
+        recorded.keySet().removeAll(List.of("token", "password", "db-password"));
+        report.put("options", recorded);
+        report.put("results", summaries);
+
+        File file = new File(options.getOrDefault("report", "target/load-report.json"));
+        if (file.getParentFile() != null) file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("Report written to " + file.getAbsolutePath());
+    }
+
+    private static Map<TrafficDriver.Operation, Integer> mix(String spec) {
+        Map<TrafficDriver.Operation, Integer> weights = new EnumMap<>(TrafficDriver.Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(TrafficDriver.Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    // The Postgres driver only sends multi-row inserts for batches when asked to
+    private static String jdbcUrl(String url) {
+        if (!url.startsWith("jdbc:postgresql:") || url.contains("reWriteBatchedInserts")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option=value, got " + args[i]);
+            }
+            int eq = args[i].indexOf('=');
+            if (eq < 0) options.put(args[i].substring(2), "true");
+            else options.put(args[i].substring(2, eq), args[i].substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,277 @@
+package com.changelog.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted mix of API calls from a fixed number of workers and reports latency
+ * percentiles and throughput per endpoint.
+ * <p>
+ * Without a target rate every worker sends its next request as soon as the previous one
+ * returns (closed loop), which finds peak throughput but under-reports latency once the
+ * server saturates, since slow responses also slow the arrivals. With {@link #rate} set,
+ * requests are scheduled at fixed intervals and latency is measured from the scheduled
+ * start, so time spent queued behind a slow request counts against the percentiles.
+ */
+public class TrafficDriver {
+
+    public enum Operation {
+        LIST, ENTRIES, SEARCH, SLUG, DASHBOARD, WRITE;
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final List<String> SEARCH_TERMS = DataSeeder.WORDS.subList(0, 32);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper json = new ObjectMapper();
+
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    private int concurrency = 16;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private double rate;
+    private int sampleSize = 500;
+    private String token;
+
+    private final List<String> slugs = new ArrayList<>();
+    private final List<Long> ticketIds = new ArrayList<>();
+
+    public TrafficDriver(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        mix.putAll(Map.of(Operation.LIST, 30, Operation.ENTRIES, 10, Operation.SEARCH, 15,
+                Operation.SLUG, 25, Operation.DASHBOARD, 15, Operation.WRITE, 5));
+    }
+
+    /**
+     * Relative weights, operations left out are not sent.
+     */
+    public TrafficDriver mix(Map<Operation, Integer> weights) {
+        mix.clear();
+        mix.putAll(weights);
+        return this;
+    }
+
+    public TrafficDriver concurrency(int concurrency) { this.concurrency = concurrency; return this; }
+
+    public TrafficDriver duration(Duration duration) { this.duration = duration; return this; }
+
+    public TrafficDriver warmup(Duration warmup) { this.warmup = warmup; return this; }
+
+    /**
+     * Target requests per second across all workers, 0 for closed-loop.
+     */
+    public TrafficDriver rate(double rate) { this.rate = rate; return this; }
+
+    public TrafficDriver sampleSize(int sampleSize) { this.sampleSize = sampleSize; return this; }
+
+    public TrafficDriver token(String token) { this.token = token; return this; }
+
+    /**
+     * Logs in for write traffic. With register set the account is created first, which the
+     * API only allows while it has no users (a fresh H2 database).
+     */
+    public TrafficDriver login(String email, String password, boolean register) throws IOException, InterruptedException {
+        String credentials = json.writeValueAsString(Map.of("email", email, "password", password));
+        if (register) {
+            send(post("/api/v1/auth/register", credentials).build());
+        }
+        HttpResponse<String> response = client.send(post("/api/v1/auth/login", credentials).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + email + " failed with " + response.statusCode());
+        }
+        token = json.readTree(response.body()).path("accessToken").asText();
+        return this;
+    }
+
+    public List<LatencyRecorder.EndpointSummary> run() throws Exception {
+        if (mix.getOrDefault(Operation.WRITE, 0) > 0 && token == null) {
+            throw new IllegalStateException("Write traffic needs a token or login credentials");
+        }
+        sampleTickets();
+
+        Operation[] table = weightedTable();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long interval = rate > 0 ? (long) (concurrency * 1e9 / rate) : 0;
+
+        System.out.printf("Driving %s with %d workers for %s after %s warm-up (%s)%n", baseUri, concurrency,
+                duration, warmup, rate > 0 ? rate + " req/s" : "closed loop");
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<LatencyRecorder>> results = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                // Staggered so paced workers don't fire in lockstep
+                long firstSend = start + (interval * w) / concurrency;
+                Random random = new Random(w);
+                results.add(workers.submit(() -> work(table, random, firstSend, interval, measureFrom, end)));
+            }
+
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> result : results) {
+                total.mergeFrom(result.get());
+            }
+            List<LatencyRecorder.EndpointSummary> summaries = total.summarize(duration);
+            LatencyRecorder.print(summaries, System.out);
+            return summaries;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private LatencyRecorder work(Operation[] table, Random random, long firstSend, long interval,
+                                 long measureFrom, long end) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long scheduled = firstSend;
+        while (true) {
+            long begin;
+            if (interval > 0) {
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) throw new InterruptedException();
+                }
+                begin = scheduled;
+                scheduled += interval;
+            } else {
+                begin = System.nanoTime();
+            }
+            if (begin >= end) {
+                return recorder;
+            }
+
+            Operation operation = table[random.nextInt(table.length)];
+            int status;
+            try {
+                status = send(request(operation, random)).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            }
+            if (begin >= measureFrom) {
+                recorder.record(operation.label(), System.nanoTime() - begin, status);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, Random random) throws IOException {
+        return switch (operation) {
+            case LIST -> get("/api/v1/tickets?cursor=&size=20" + switch (random.nextInt(3)) {
+                case 0 -> "&status=ACTIVE";
+                case 1 -> "&statusNot=ARCHIVED";
+                default -> "";
+            });
+            case ENTRIES -> get("/api/v1/entries?cursor=&size=20");
+            case SEARCH -> get("/api/v1/tickets?cursor=&size=20&search="
+                    + URLEncoder.encode(SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size())), StandardCharsets.UTF_8));
+            case SLUG -> get("/api/v1/tickets/slug/" + slugs.get(skewedIndex(random, slugs.size())));
+            case DASHBOARD -> get("/api/v1/dashboard/home");
+            case WRITE -> post("/api/v1/entries", json.writeValueAsString(newEntry(random)))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+        };
+    }
+
+    private Map<String, Object> newEntry(Random random) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("title", DataSeeder.sentence(random, 4));
+        entry.put("ticketId", String.valueOf(ticketIds.get(skewedIndex(random, ticketIds.size()))));
+        entry.put("date", LocalDate.now(ZoneOffset.UTC).toString());
+        entry.put("body", DataSeeder.sentence(random, 40 + random.nextInt(200)));
+        entry.put("visibility", "Public");
+        entry.put("technologies", DataSeeder.technologies(random));
+        return entry;
+    }
+
+    /**
+     * Collects slugs and IDs to address, walking the ticket list with keyset pages.
+     */
+    private void sampleTickets() throws IOException, InterruptedException {
+        String cursor = "";
+        while (slugs.size() < sampleSize) {
+            HttpResponse<String> response = client.send(get("/api/v1/tickets?size=100&cursor="
+                    + URLEncoder.encode(cursor, StandardCharsets.UTF_8)), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Listing tickets failed with " + response.statusCode());
+            }
+            JsonNode page = json.readTree(response.body());
+            for (JsonNode ticket : page.path("tickets")) {
+                slugs.add(ticket.path("slug").asText());
+                ticketIds.add(ticket.path("id").asLong());
+            }
+            cursor = page.path("nextCursor").asText(null);
+            if (cursor == null) break;
+        }
+        if (slugs.isEmpty()) {
+            throw new IllegalStateException("No tickets at " + baseUri + ", seed the database first");
+        }
+    }
+
+    private Operation[] weightedTable() {
+        List<Operation> table = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) table.add(operation);
+        });
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no positive weights");
+        }
+        return table.toArray(Operation[]::new);
+    }
+
+    // A few hot tickets take most of the reads, like a front page does
+    private static int skewedIndex(Random random, int size) {
+        double u = random.nextDouble();
+        return (int) (u * u * size);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
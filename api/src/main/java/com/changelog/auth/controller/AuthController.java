@@ -7,6 +7,7 @@ import com.changelog.auth.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,4 +26,11 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req) {
         return ResponseEntity.ok(auth.login(req));
     }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) return ResponseEntity.status(401).build();
+        auth.revokeTokens(authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,6 +1,11 @@
 package com.changelog.auth.identity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +16,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     long count();
+
+    @Query("select new com.changelog.auth.identity.UserTokenVersion(u.userId, u.tokenVersion) from User u")
+    List<UserTokenVersion> findTokenVersions();
+
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.userId = :userId")
+    int incrementTokenVersion(@Param("userId") UUID userId);
 }
@@ -0,0 +1,6 @@
+package com.changelog.auth.identity;
+
+import java.util.UUID;
+
+public record UserTokenVersion(UUID userId, int tokenVersion) {
+}
@@ -1,6 +1,8 @@
 package com.changelog.auth.security;
 
+import com.changelog.auth.security.TokenVersionCache.TokenState;
 import com.changelog.auth.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -18,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -26,6 +30,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService uds;
+    private final TokenVersionCache tokenVersions;
+    private final JwtProperties props;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -45,21 +51,48 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = header.substring(7);
 
         try {
-            var jws = jwtService.parse(token);
-            String email = jws.getBody().getSubject();
-
-            var userDetails = uds.loadUserByUsername(email);
-            var auth = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-            );
-            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            Claims claims = jwtService.parse(token).getBody();
+            var auth = authenticate(claims);
+            if (auth != null) {
+                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         } catch (Exception ex) {
             SecurityContextHolder.clearContext();
         }
 
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the authentication for a verified token, or null when its version was revoked
+     */
+    private UsernamePasswordAuthenticationToken authenticate(Claims claims) {
+        String userId = claims.get(JwtService.CLAIM_USER_ID, String.class);
+        Integer tokenVersion = claims.get(JwtService.CLAIM_TOKEN_VERSION, Integer.class);
+
+        // Tokens issued before token versions existed can only be checked against the database
+        TokenState state = userId == null || tokenVersion == null
+                ? TokenState.UNKNOWN
+                : tokenVersions.check(UUID.fromString(userId), tokenVersion);
+
+        if (state == TokenState.REVOKED) {
+            return null;
+        }
+
+        if (state == TokenState.CURRENT && props.isClaimsOnlyAuth()) {
+            var principal = User.withUsername(claims.getSubject())
+                    .password("")
+                    .authorities("ROLE_" + claims.get(JwtService.CLAIM_ROLE, String.class))
+                    .build();
+            return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        }
+
+        var userDetails = uds.loadUserByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+}
@@ -4,17 +4,49 @@ import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Component
 @ConfigurationProperties(prefix = "security.jwt")
 public class JwtProperties {
+    /**
+     * Key for tokens without a kid header: everything issued before key rotation, or all
+     * tokens when no keys are configured.
+     */
     private String signingKey;
     private String issuer;
     private int accessTokenTtlMinutes = 60;
 
-    public void setSigningKey(String signingKey) { this.signingKey = signingKey; }
+    /**
+     * Rotation keys by kid. New tokens are signed with activeKeyId and carry it as kid,
+     * tokens signed with any other listed key stay valid until they expire.
+     */
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private String activeKeyId;
+
+    /**
+     * Authenticate from the verified uid/role/tv claims instead of loading the user on every
+     * request. Revocation goes through token versions (TokenVersionCache).
+     */
+    private boolean claimsOnlyAuth = false;
+    private int tokenVersionRefreshSeconds = 30;
+
+    // Bumped by the setters JwtService builds its keys from, so it can tell when a rebind changed them
+    private volatile int revision;
+
+    public void setSigningKey(String signingKey) { this.signingKey = signingKey; revision++; }
+
+    public void setIssuer(String issuer) { this.issuer = issuer; revision++; }
+
+    public void setAccessTokenTtlMinutes(int accessTokenTtlMinutes) { this.accessTokenTtlMinutes = accessTokenTtlMinutes; revision++; }
+
+    public void setKeys(Map<String, String> keys) { this.keys = new LinkedHashMap<>(keys); revision++; }
+
+    public void setActiveKeyId(String activeKeyId) { this.activeKeyId = activeKeyId; revision++; }
 
-    public void setIssuer(String issuer) { this.issuer = issuer; }
+    public void setClaimsOnlyAuth(boolean claimsOnlyAuth) { this.claimsOnlyAuth = claimsOnlyAuth; }
 
-    public void setAccessTokenTtlMinutes(int accessTokenTtlMinutes) { this.accessTokenTtlMinutes = accessTokenTtlMinutes; }
+    public void setTokenVersionRefreshSeconds(int tokenVersionRefreshSeconds) { this.tokenVersionRefreshSeconds = tokenVersionRefreshSeconds; }
 }
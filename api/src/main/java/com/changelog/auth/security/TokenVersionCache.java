@@ -0,0 +1,72 @@
+package com.changelog.auth.security;
+
+import com.changelog.auth.identity.UserRepository;
+import com.changelog.auth.identity.UserTokenVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of every user's token_version, so the auth filter can reject revoked
+ * tokens without a query. Refreshed in the background. A bump made on another instance is
+ * honoured here after at most one refresh interval.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionCache {
+
+    public enum TokenState {
+        CURRENT,
+        REVOKED,
+        /**
+         * User not in the last snapshot (e.g. registered since), or a token newer than it (issued
+         * after a bump on another instance). Callers check the database.
+         */
+        UNKNOWN
+    }
+
+    private final UserRepository users;
+
+    private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenState check(UUID userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            return TokenState.UNKNOWN;
+        }
+        if (tokenVersion == current) {
+            return TokenState.CURRENT;
+        }
+        // Only an older token is known to be revoked, a newer one means this snapshot is behind
+        return tokenVersion < current ? TokenState.REVOKED : TokenState.UNKNOWN;
+    }
+
+    /**
+     * Applies a bump made by this instance straight away.
+     */
+    public void update(UUID userId, int tokenVersion) {
+        // Versions only grow, so a refresh that read before the bump can't roll it back
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "#{@jwtProperties.tokenVersionRefreshSeconds * 1000}")
+    public void refresh() {
+        Map<UUID, Integer> latest = users.findTokenVersions().stream()
+                .collect(Collectors.toMap(UserTokenVersion::userId, UserTokenVersion::tokenVersion));
+
+        latest.forEach(this::update);
+
+        Set<UUID> deleted = Set.copyOf(versions.keySet());
+        deleted.stream().filter(userId -> !latest.containsKey(userId)).forEach(versions::remove);
+
+        log.debug("Refreshed token versions of {} users", latest.size());
+    }
+}
@@ -5,14 +5,18 @@ import com.changelog.auth.dto.LoginRequest;
 import com.changelog.auth.dto.RegisterRequest;
 import com.changelog.auth.identity.User;
 import com.changelog.auth.identity.UserRepository;
+import com.changelog.auth.security.TokenVersionCache;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+@Timed("changelog.service")
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -21,6 +25,7 @@ public class AuthService {
     private final PasswordEncoder encoder;
     private final AuthenticationManager authManager;
     private final JwtService jwt;
+    private final TokenVersionCache tokenVersions;
 
     public AuthResponse register(RegisterRequest req) {
         long userCount = users.count();
@@ -36,11 +41,7 @@ public class AuthService {
                     .build();
             users.save(u);
 
-            String token = jwt.issue(
-                    u.getEmail(),
-                    Map.of("uid", u.getUserId().toString(), "role", "USER")
-            );
-            return new AuthResponse(token);
+            return new AuthResponse(issueToken(u));
         } else {
             throw new IllegalStateException("No longer accepting new users. ");
         }
@@ -53,10 +54,27 @@ public class AuthService {
                 new UsernamePasswordAuthenticationToken(email, req.getPassword())
         );
         var u = users.findByEmail(email).orElseThrow();
-        String token = jwt.issue(
+        return new AuthResponse(issueToken(u));
+    }
+
+    /**
+     * Invalidates every token issued to the user so far by bumping their token version.
+     */
+    @Transactional
+    public void revokeTokens(String email) {
+        var u = users.findByEmail(email).orElseThrow();
+        users.incrementTokenVersion(u.getUserId());
+        tokenVersions.update(u.getUserId(), u.getTokenVersion() + 1);
+    }
+
+    private String issueToken(User u) {
+        return jwt.issue(
                 u.getEmail(),
-                Map.of("uid", u.getUserId().toString(), "role", "USER")
+                Map.of(
+                        JwtService.CLAIM_USER_ID, u.getUserId().toString(),
+                        JwtService.CLAIM_ROLE, "USER",
+                        JwtService.CLAIM_TOKEN_VERSION, u.getTokenVersion()
+                )
         );
-        return new AuthResponse(token);
     }
 }
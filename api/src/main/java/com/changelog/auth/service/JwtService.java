@@ -3,35 +3,118 @@ package com.changelog.auth.service;
 import com.changelog.auth.security.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Issues and verifies access tokens. Keys and the parser are built once and reused (both are
+ * immutable and thread-safe), and rebuilt on the next call after {@link JwtProperties} is
+ * rebound with different values.
+ */
+@Timed("changelog.service")
 @Service
 @RequiredArgsConstructor
 public class JwtService {
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "tv";
+
     private final JwtProperties props;
 
-    private Key key() { return Keys.hmacShaKeyFor(props.getSigningKey().getBytes()); }
+    private volatile KeyRing keyRing;
 
     public String issue(String subject, Map<String, Object> claims) {
+        KeyRing ring = keyRing();
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(props.getAccessTokenTtlMinutes() * 60L);
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setIssuer(props.getIssuer())
                 .setSubject(subject)
                 .addClaims(claims)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(exp))
-                .signWith(key(), SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(ring.signingKey(), SignatureAlgorithm.HS256);
+        if (ring.signingKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, ring.signingKeyId());
+        }
+        return builder.compact();
     }
 
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token);
+        return keyRing().parser().parseClaimsJws(token);
+    }
+
+    private KeyRing keyRing() {
+        KeyRing ring = keyRing;
+        int revision = props.getRevision();
+        if (ring == null || ring.revision() != revision) {
+            // Racing threads may both build, they build the same thing
+            ring = buildKeyRing(revision);
+            keyRing = ring;
+        }
+        return ring;
+    }
+
+    private KeyRing buildKeyRing(int revision) {
+        Map<String, Key> keysById = new HashMap<>();
+        props.getKeys().forEach((kid, secret) -> keysById.put(kid, hmacKey(secret)));
+        Key defaultKey = StringUtils.hasText(props.getSigningKey()) ? hmacKey(props.getSigningKey()) : null;
+
+        String activeKeyId = props.getActiveKeyId();
+        Key signingKey;
+        if (StringUtils.hasText(activeKeyId)) {
+            signingKey = keysById.get(activeKeyId);
+            if (signingKey == null) {
+                throw new IllegalStateException("JWT active key " + activeKeyId + " is not among the configured keys");
+            }
+        } else if (defaultKey != null) {
+            activeKeyId = null;
+            signingKey = defaultKey;
+        } else {
+            throw new IllegalStateException("No JWT signing key configured");
+        }
+
+        JwtParser parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver(Map.copyOf(keysById), defaultKey))
+                .build();
+
+        return new KeyRing(revision, activeKeyId, signingKey, parser);
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record KeyRing(int revision, String signingKeyId, Key signingKey, JwtParser parser) {
+    }
+
+    private static final class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        private final Map<String, Key> keysById;
+        private final Key defaultKey;
+
+        KeyIdResolver(Map<String, Key> keysById, Key defaultKey) {
+            this.keysById = keysById;
+            this.defaultKey = defaultKey;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            Key key = kid == null ? defaultKey : keysById.get(kid);
+            if (key == null) {
+                throw new JwtException("No key for kid " + kid);
+            }
+            return key;
+        }
     }
 }
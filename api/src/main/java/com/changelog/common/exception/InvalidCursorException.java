@@ -0,0 +1,8 @@
+package com.changelog.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor " + cursor + " is not valid");
+    }
+}
@@ -0,0 +1,27 @@
+package com.changelog.common.id;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Allocation state of one ID sequence: the next value that has not been leased yet.
+ */
+@Entity
+@Table(name = "cl_id_block")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBlock {
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
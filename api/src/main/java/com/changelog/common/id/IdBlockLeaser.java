@@ -0,0 +1,42 @@
+package com.changelog.common.id;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdBlockLeaser {
+
+    private final IdBlockRepository idBlockRepository;
+
+    /**
+     * Reserves the next block of a sequence. Runs in its own short transaction so the row
+     * lock is released straight away, not held until the caller's insert commits.
+     *
+     * @param name sequence row in cl_id_block
+     * @param size IDs per block
+     * @param min  inclusive lower bound, the sequence is moved up to it if it starts below
+     * @param max  inclusive upper bound, the last block may be shorter than size
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public IdRange lease(String name, int size, long min, long max) {
+        IdBlock block = idBlockRepository.findForUpdate(name)
+                .orElseThrow(() -> new IllegalStateException("No cl_id_block row for sequence " + name));
+
+        long first = Math.max(block.getNextValue(), min);
+        if (first > max) {
+            throw new IllegalStateException("ID range exhausted for sequence " + name);
+        }
+
+        long last = Math.min(first + size - 1, max);
+        block.setNextValue(last + 1);
+
+        log.info("Leased IDs {}-{} for sequence {}", first, last, name);
+
+        return new IdRange(first, last);
+    }
+}
@@ -0,0 +1,17 @@
+package com.changelog.common.id;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+
+    // SELECT ... FOR UPDATE, so concurrent leases (also across instances) queue on the row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from IdBlock b where b.name = :name")
+    Optional<IdBlock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,7 @@
+package com.changelog.common.id;
+
+/**
+ * Inclusive range of IDs leased to one generator instance.
+ */
+public record IdRange(long first, long last) {
+}
@@ -0,0 +1,12 @@
+package com.changelog.common.id;
+
+public enum IdStrategy {
+    /**
+     * 9-digit IDs leased in blocks from cl_id_block.
+     */
+    BLOCK,
+    /**
+     * Time-prefixed IDs from {@link TimeOrderedIdGenerator}, no database round trip.
+     */
+    TIME_ORDERED
+}
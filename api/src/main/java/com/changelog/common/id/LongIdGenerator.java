@@ -0,0 +1,21 @@
+package com.changelog.common.id;
+
+/**
+ * Source of primary keys for entities whose IDs are assigned before insert.
+ */
+public interface LongIdGenerator {
+
+    long generateId();
+
+    /**
+     * IDs for a batch of inserts. Generators that pay a round trip per refill override this to
+     * reserve the whole batch at once.
+     */
+    default long[] generateIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generateId();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,93 @@
+package com.changelog.common.id;
+
+import com.changelog.config.ChangelogProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Snowflake-style IDs: milliseconds since {@link #EPOCH}, then the node ID, then a
+ * per-millisecond sequence. IDs from one node are strictly increasing and nodes never
+ * overlap, so instances need no coordination beyond a distinct changelog.ids.node-id.
+ * <p>
+ * The layout is 41 + 5 + 7 = 53 bits so IDs stay exact as JSON numbers in the frontend
+ * (Number.MAX_SAFE_INTEGER). That allows 32 nodes and 128 IDs per millisecond per node
+ * until 2089. IDs from about 244 seconds after the epoch on are above the 9-digit block
+ * range, so both schemes can share a table as long as nothing is keyed earlier than that.
+ */
+@Component
+public class TimeOrderedIdGenerator implements LongIdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2020-01-01T00:00:00Z");
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    public static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+
+    private final Clock clock;
+    private final int nodeId;
+
+    private long lastMillis = -1L;
+    private int sequence;
+
+    @Autowired
+    public TimeOrderedIdGenerator(ChangelogProperties properties) {
+        this(Clock.systemUTC(), properties.getIds().getNodeId());
+    }
+
+    TimeOrderedIdGenerator(Clock clock, int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Invalid node ID: " + nodeId + " (0-" + MAX_NODE_ID + ")");
+        }
+        this.clock = clock;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long generateId() {
+        return generateIdAt(clock.millis());
+    }
+
+    /**
+     * Next ID for the given wall-clock millisecond. Never goes back in time: an earlier
+     * millisecond than the last one used continues from the last one, and a millisecond
+     * whose sequence ran out borrows the next.
+     */
+    public synchronized long generateIdAt(long epochMillis) {
+        if (epochMillis < EPOCH_MILLIS) {
+            throw new IllegalArgumentException("Timestamp before ID epoch: " + Instant.ofEpochMilli(epochMillis));
+        }
+
+        long millis = Math.max(epochMillis, lastMillis);
+
+        if (millis == lastMillis) {
+            if (sequence == MAX_SEQUENCE) {
+                millis++;
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastMillis = millis;
+
+        return ((millis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /**
+     * Wall-clock millisecond encoded in an ID from this scheme.
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
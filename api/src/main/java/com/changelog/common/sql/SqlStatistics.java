@@ -0,0 +1,96 @@
+package com.changelog.common.sql;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC work (statements, rows, time spent in the driver) done while a scope is open on the
+ * current thread. Scopes nest: work counts towards the innermost scope and everything it
+ * was opened inside of, so a test can measure a whole request while the request measures
+ * itself. Threads doing work on a scope's behalf join it through {@link #propagate}.
+ * <p>
+ * Statements issued with no scope open (scheduled jobs, startup) are not counted anywhere.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread, to be closed with {@link #stop()} on the same thread.
+     */
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public void stop() {
+        if (CURRENT.get() != this) {
+            throw new IllegalStateException("SQL statistics scope closed out of order");
+        }
+        if (parent == null) CURRENT.remove();
+        else CURRENT.set(parent);
+    }
+
+    /**
+     * Runs the task within the scope open where it was created, for work handed to other threads.
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatistics captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatistics previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void recordStatement(long elapsedNanos, long affectedRows) {
+        for (SqlStatistics s = CURRENT.get(); s != null; s = s.parent) {
+            s.statements.increment();
+            s.nanos.add(elapsedNanos);
+            if (affectedRows > 0) s.rows.add(affectedRows);
+        }
+    }
+
+    static void recordRowRead() {
+        for (SqlStatistics s = CURRENT.get(); s != null; s = s.parent) {
+            s.rows.increment();
+        }
+    }
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    /**
+     * Rows read from result sets plus rows reported changed by updates.
+     */
+    public long rows() {
+        return rows.sum();
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(nanos.sum());
+    }
+}
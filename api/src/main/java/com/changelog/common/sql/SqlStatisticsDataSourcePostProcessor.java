@@ -0,0 +1,63 @@
+package com.changelog.common.sql;
+
+import com.changelog.config.ChangelogProperties;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource so every statement is counted into {@link SqlStatistics}.
+ * Result sets are proxied only when rows are counted (changelog.sql.count-rows, or Server-Timing),
+ * as that puts a proxy call in front of every column read. Code that needs the pool itself can
+ * still unwrap the proxy (e.g. to read Hikari's pool size).
+ */
+@Component
+@ConditionalOnProperty(prefix = "changelog.sql", name = "statistics-enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean countRows;
+
+    // Bound here rather than injected, a post-processor comes up before the properties bean is bound
+    public SqlStatisticsDataSourcePostProcessor(Environment environment) {
+        this.countRows = Binder.get(environment)
+                .bind("changelog.sql", ChangelogProperties.Sql.class)
+                .orElseGet(ChangelogProperties.Sql::new)
+                .countsRows();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(new SqlStatisticsListener());
+        if (countRows) {
+            builder.proxyResultSet(countingRows());
+        }
+        return builder.build();
+    }
+
+    // Counts in the result set's own proxy logic, a method listener would be called for every
+    // JDBC call on every connection, statement and result set
+    private static ResultSetProxyLogicFactory countingRows() {
+        return (resultSet, connectionInfo, proxyConfig) -> {
+            ResultSetProxyLogic logic = new SimpleResultSetProxyLogic(resultSet, connectionInfo, proxyConfig);
+            return (proxy, method, args) -> {
+                Object result = logic.invoke(proxy, method, args);
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    SqlStatistics.recordRowRead();
+                }
+                return result;
+            };
+        };
+    }
+}
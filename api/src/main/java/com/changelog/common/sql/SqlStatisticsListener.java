@@ -0,0 +1,47 @@
+package com.changelog.common.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds statement executions into the open {@link SqlStatistics} scope, rows read are counted
+ * by the result set proxies (see {@link SqlStatisticsDataSourcePostProcessor}).
+ * Time is taken here in nanoseconds, datasource-proxy's own elapsed time is in milliseconds,
+ * which rounds most single-row lookups to zero.
+ */
+class SqlStatisticsListener implements QueryExecutionListener {
+
+    private static final String STARTED = SqlStatisticsListener.class.getName() + ".started";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStatistics.active()) {
+            execInfo.addCustomValue(STARTED, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        if (started != null) {
+            SqlStatistics.recordStatement(System.nanoTime() - started, affectedRows(execInfo.getResult()));
+        }
+    }
+
+    // executeUpdate returns a count, executeBatch one per statement, execute/executeQuery no count
+    private static long affectedRows(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(count.longValue(), 0);
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) total += Math.max(count, 0);
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) total += Math.max(count, 0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,135 @@
+package com.changelog.common.util;
+
+import com.changelog.common.id.IdBlockLeaser;
+import com.changelog.common.id.IdRange;
+import com.changelog.common.id.LongIdGenerator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Long ID generator that leases blocks of IDs from cl_id_block and hands them out
+ * from memory. Instances never share a block, so IDs are unique without a lookup per
+ * insert. Only leasing a new block touches the database.
+ * <p>
+ * Rows created by the old random generator can sit inside a leased range, so each new
+ * block is checked once against existing IDs and those are skipped.
+ */
+public abstract class AbstractBlockLongIdGenerator implements LongIdGenerator {
+
+    private final String sequenceName;
+    private final long min;
+    private final long max;
+    private final int blockSize;
+    private final IdBlockLeaser leaser;
+
+    private final AtomicReference<Block> current = new AtomicReference<>();
+
+    /**
+     * @param sequenceName cl_id_block row this generator leases from
+     * @param min          inclusive lower bound for IDs
+     * @param max          inclusive upper bound for IDs
+     * @param blockSize    IDs leased per round trip
+     */
+    protected AbstractBlockLongIdGenerator(String sequenceName, long min, long max, int blockSize,
+                                           IdBlockLeaser leaser) {
+        if (min <= 0 || max <= min) {
+            throw new IllegalArgumentException("Invalid ID range: min=" + min + ", max=" + max);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.sequenceName = sequenceName;
+        this.min = min;
+        this.max = max;
+        this.blockSize = blockSize;
+        this.leaser = leaser;
+    }
+
+    /**
+     * Return the IDs already taken within [from, to] for the given entity type.
+     */
+    protected abstract Collection<Long> findExistingIds(long from, long to);
+
+    @Override
+    public long generateId() {
+        while (true) {
+            Block block = current.get();
+
+            if (block != null) {
+                long id = block.next();
+                if (id != Block.EXHAUSTED) {
+                    return id;
+                }
+            }
+
+            refill(block);
+        }
+    }
+
+    /**
+     * Leases a range sized to the batch instead of draining the shared block, so a bulk insert
+     * costs one lease (plus one per collision with existing IDs) whatever the block size.
+     */
+    @Override
+    public long[] generateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            IdRange range = leaser.lease(sequenceName, count - filled, min, max);
+            Block block = new Block(range, takenIds(range));
+            while (filled < count) {
+                long id = block.next();
+                if (id == Block.EXHAUSTED) break;
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private synchronized void refill(Block exhausted) {
+        // Another thread got here first and already swapped in a fresh block
+        if (current.get() != exhausted) {
+            return;
+        }
+
+        IdRange range = leaser.lease(sequenceName, blockSize, min, max);
+        current.set(new Block(range, takenIds(range)));
+    }
+
+    private long[] takenIds(IdRange range) {
+        return findExistingIds(range.first(), range.last()).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+    }
+
+    private static final class Block {
+
+        static final long EXHAUSTED = -1L;
+
+        private final AtomicLong next;
+        private final long last;
+        private final long[] taken;
+
+        Block(IdRange range, long[] taken) {
+            this.next = new AtomicLong(range.first());
+            this.last = range.last();
+            this.taken = taken;
+        }
+
+        long next() {
+            while (true) {
+                long id = next.getAndIncrement();
+                if (id > last) {
+                    return EXHAUSTED;
+                }
+                if (Arrays.binarySearch(taken, id) < 0) {
+                    return id;
+                }
+            }
+        }
+    }
+}
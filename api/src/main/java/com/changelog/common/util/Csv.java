@@ -0,0 +1,64 @@
+package com.changelog.common.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 rows: CRLF line endings, fields quoted only when they contain a comma, quote or
+ * line break, quotes doubled inside quoted fields.
+ */
+public final class Csv {
+
+    /**
+     * Separator between the elements of an array value, which share one field.
+     */
+    public static final String ARRAY_SEPARATOR = ";";
+
+    private Csv() {}
+
+    /**
+     * Writes one row. Null values become empty fields, arrays are joined with
+     * {@link #ARRAY_SEPARATOR} and anything else is written as its toString.
+     */
+    public static void writeRow(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(out, text(values[i]));
+        }
+        out.write("\r\n");
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Object[] array) {
+            StringBuilder joined = new StringBuilder();
+            for (Object element : array) {
+                if (!joined.isEmpty()) {
+                    joined.append(ARRAY_SEPARATOR);
+                }
+                joined.append(element == null ? "" : element);
+            }
+            return joined.toString();
+        }
+        return value.toString();
+    }
+
+    private static void writeField(Writer out, String field) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
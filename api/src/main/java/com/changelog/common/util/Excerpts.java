@@ -0,0 +1,44 @@
+package com.changelog.common.util;
+
+/**
+ * Bounded plain-text previews of long bodies, stored alongside the body so list
+ * views never have to read the full TEXT column.
+ */
+public final class Excerpts {
+
+    /**
+     * Longest excerpt we store, ellipsis included. cl_entry.excerpt is sized to fit.
+     */
+    public static final int MAX_LENGTH = 280;
+
+    private static final String ELLIPSIS = "…";
+
+    private Excerpts() {}
+
+    /**
+     * Collapses whitespace and cuts the text at the last word boundary that fits,
+     * appending an ellipsis when anything was dropped.
+     *
+     * @return the excerpt, or null for a null/blank text
+     */
+    public static String of(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        String collapsed = text.strip().replaceAll("\\s+", " ");
+        if (collapsed.length() <= MAX_LENGTH) {
+            return collapsed;
+        }
+
+        int limit = MAX_LENGTH - ELLIPSIS.length();
+        int cut = collapsed.lastIndexOf(' ', limit);
+
+        // A single very long word: cut mid-word rather than returning almost nothing
+        if (cut < limit / 2) {
+            cut = limit;
+        }
+
+        return collapsed.substring(0, cut).stripTrailing() + ELLIPSIS;
+    }
+}
@@ -0,0 +1,41 @@
+package com.changelog.common.util;
+
+import com.changelog.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page, ordered by (date DESC, id DESC).
+ * Clients only ever see the encoded form and hand it back unchanged.
+ */
+public record KeysetCursor(LocalDate date, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * @return the decoded position, or null for a missing/blank cursor (first page)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDate.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
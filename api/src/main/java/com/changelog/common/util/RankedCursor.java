@@ -0,0 +1,39 @@
+package com.changelog.common.util;
+
+import com.changelog.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a ranked page, ordered by (rank DESC, date DESC, id DESC). The
+ * rank is the database's real value, which survives the round trip through its decimal form
+ * exactly, so the next page starts right after it. Opaque to clients, like {@link KeysetCursor}.
+ */
+public record RankedCursor(float rank, LocalDate date, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * @return the decoded position, or null for a missing/blank cursor (first page)
+     */
+    public static RankedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            return new RankedCursor(Float.parseFloat(parts[0]), LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = rank + SEPARATOR + date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
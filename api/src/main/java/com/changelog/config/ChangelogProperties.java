@@ -0,0 +1,182 @@
+package com.changelog.config;
+
+import com.changelog.common.id.IdStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "changelog")
+public class ChangelogProperties {
+
+    private Search search = new Search();
+
+    private Ids ids = new Ids();
+
+    private Cache cache = new Cache();
+
+    private Dashboard dashboard = new Dashboard();
+
+    private Concurrency concurrency = new Concurrency();
+
+    private Sql sql = new Sql();
+
+    private Bulk bulk = new Bulk();
+
+    private Imports imports = new Imports();
+
+    @Data
+    public static class Search {
+        /**
+         * Use the Postgres tsvector indexes for ticket and entry search. When disabled (H2, tests)
+         * search falls back to the LIKE specifications.
+         */
+        private boolean fullTextEnabled = false;
+    }
+
+    @Data
+    public static class Ids {
+        /**
+         * IDs leased from cl_id_block per round trip. Unused IDs of a block are lost on
+         * restart, which only leaves gaps.
+         */
+        private int blockSize = 100;
+
+        private IdStrategy ticketStrategy = IdStrategy.BLOCK;
+
+        private IdStrategy entryStrategy = IdStrategy.BLOCK;
+
+        /**
+         * Distinguishes instances in time-ordered IDs, must be unique per running
+         * instance (0-31).
+         */
+        private int nodeId = 0;
+
+        /**
+         * Re-key existing block IDs of every TIME_ORDERED entity on startup. Run once,
+         * on a single instance, while nothing else writes.
+         */
+        private boolean rekeyOnStartup = false;
+
+        private int rekeyBatchSize = 500;
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * Ticket details kept per cache (by id, by slug). Writes evict precisely, the TTL
+         * only bounds how long a missed eviction could serve stale data.
+         */
+        private long ticketDetailMaxSize = 1_000;
+
+        private Duration ticketDetailTtl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Dashboard {
+        /**
+         * How often the dashboard counters are recounted from the database. Writes keep them
+         * current in between, this only corrects drift (e.g. changes made outside the API).
+         */
+        private Duration metricsReconcileInterval = Duration.ofMinutes(5);
+
+        /**
+         * How long the home page waits for its sections, which load concurrently. Sections
+         * not done by then are served empty and the response is flagged partial.
+         */
+        private Duration sectionTimeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Concurrency {
+        private boolean enabled = true;
+
+        /**
+         * Requests in progress at once, streams aside. 0 uses the connection pool's maximum size
+         * less maxStreams, which keeps requests waiting in the filter, where they can time out
+         * quickly, rather than on the pool.
+         */
+        private int maxRequests = 0;
+
+        /**
+         * Exports and imports in progress at once. They hold a connection for the whole
+         * stream, so they are limited apart from other requests and far more tightly.
+         */
+        private int maxStreams = 2;
+
+        /**
+         * Requests allowed to wait for a slot, beyond that they get 503 straight away.
+         */
+        private int maxWaiting = 100;
+
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+
+        // Auth is cheap (a token check or one lookup by key) and must keep working under load
+        private List<String> exemptPaths = new ArrayList<>(List.of("/actuator/**", "/api/v1/auth/**"));
+
+        private List<String> streamPaths = new ArrayList<>(List.of("/api/v1/export/**", "/api/v1/import/**"));
+    }
+
+    @Data
+    public static class Sql {
+        /**
+         * Count statements, rows and JDBC time per request (changelog.sql.* meters, tagged by
+         * controller and handler method).
+         */
+        private boolean statisticsEnabled = true;
+
+        /**
+         * Also report them to the client in a Server-Timing header. Exposes how the request was
+         * served, so keep it off where that matters.
+         */
+        private boolean serverTiming = false;
+
+        /**
+         * Also count the rows read from result sets (changelog.sql.rows). Every result set is
+         * then proxied, which costs on each call to it, so it is off unless asked for here or
+         * needed by Server-Timing.
+         */
+        private boolean countRows = false;
+
+        public boolean countsRows() {
+            return countRows || serverTiming;
+        }
+    }
+
+    @Data
+    public static class Bulk {
+        /**
+         * Items accepted per bulk request. All of them are held in memory and inserted in one
+         * transaction, larger imports should be split.
+         */
+        private int maxEntries = 5_000;
+
+        /**
+         * Entities persisted between flushes. Each flush sends them as JDBC batches
+         * (hibernate.jdbc.batch_size) and then clears the persistence context.
+         */
+        private int flushSize = 500;
+    }
+
+    @Data
+    public static class Imports {
+        /**
+         * Input lines per transaction. The checkpoint advances once per chunk, so a resumed
+         * import redoes at most this many lines (upserts, so harmlessly).
+         */
+        private int chunkSize = 1_000;
+
+        /**
+         * NDJSON exports to import at startup, after which the application exits. Tickets are
+         * imported before entries, which reference them.
+         */
+        private String ticketsFile;
+
+        private String entriesFile;
+    }
+}
@@ -0,0 +1,53 @@
+package com.changelog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "changelog.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ChangelogProperties properties, DataSource dataSource) {
+        ChangelogProperties.Concurrency config = properties.getConcurrency();
+
+        int streams = Math.max(config.getMaxStreams(), 1);
+        int limit = config.getMaxRequests() > 0
+                ? config.getMaxRequests()
+                : Math.max(poolSize(dataSource) - streams, 1);
+        log.info("Limiting requests in progress to {}, exports and imports to {}", limit, streams);
+
+        return new ConcurrencyLimitFilter(limit, streams, config.getMaxWaiting(), config.getAcquireTimeout(),
+                config.getExemptPaths(), config.getStreamPaths());
+    }
+
+    // Ahead of Spring Security, so shed requests don't even get their token parsed
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            log.warn("Could not read the connection pool size", ex);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
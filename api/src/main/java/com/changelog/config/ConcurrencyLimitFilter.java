@@ -0,0 +1,134 @@
+package com.changelog.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the requests in progress at about what the connection pool can serve. Without it,
+ * a slow database lets requests pile up on the pool (or, with virtual threads, pile up
+ * without any bound at all), each holding its thread while it waits. Requests past the cap
+ * wait briefly for a slot, and are turned away with 503 once too many are waiting, so
+ * paths exempt from the cap (health probes, auth) keep being answered.
+ * <p>
+ * Exports and imports hold their slot for as long as they stream, so they get a lane of
+ * their own: a few of them can't take every slot and shed the rest of the API.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final Lane requests;
+    private final Lane streams;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+    private final List<String> exemptPaths;
+    private final List<String> streamPaths;
+
+    private Counter rejected;
+
+    public ConcurrencyLimitFilter(int limit, int streamLimit, int maxWaiting, Duration acquireTimeout,
+                                  List<String> exemptPaths, List<String> streamPaths) {
+        this.requests = new Lane("requests", limit);
+        this.streams = new Lane("streams", streamLimit);
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeout = acquireTimeout;
+        this.exemptPaths = List.copyOf(exemptPaths);
+        this.streamPaths = List.copyOf(streamPaths);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Lane lane : List.of(requests, streams)) {
+            Gauge.builder("changelog.requests.limiter.active", lane, l -> l.limit - l.permits.availablePermits())
+                    .tag("lane", lane.name)
+                    .register(registry);
+            Gauge.builder("changelog.requests.limiter.waiting", lane.waiting, AtomicInteger::get)
+                    .tag("lane", lane.name)
+                    .register(registry);
+        }
+        rejected = Counter.builder("changelog.requests.limiter.rejected").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return matches(exemptPaths, request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Lane lane = matches(streamPaths, request) ? streams : requests;
+        if (!acquire(lane)) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            log.debug("Rejected {} {}, {} {} in progress", request.getMethod(), request.getRequestURI(),
+                    lane.limit, lane.name);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            lane.permits.release();
+        }
+    }
+
+    private boolean acquire(Lane lane) {
+        if (lane.permits.tryAcquire()) {
+            return true;
+        }
+
+        if (lane.waiting.incrementAndGet() > maxWaiting) {
+            lane.waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return lane.permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lane.waiting.decrementAndGet();
+        }
+    }
+
+    private static boolean matches(List<String> patterns, HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return patterns.stream().anyMatch(pattern -> PATHS.match(pattern, path));
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final int limit;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Lane(String name, int limit) {
+            this.name = name;
+            this.limit = limit;
+            this.permits = new Semaphore(limit, true);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.changelog.config;
 
+import com.changelog.common.exception.InvalidCursorException;
+import com.changelog.tickets.exception.InvalidBulkRequestException;
+import com.changelog.tickets.exception.InvalidExportRequestException;
+import com.changelog.tickets.exception.InvalidImportException;
+import com.changelog.tickets.exception.InvalidSearchRequestException;
 import com.changelog.tickets.exception.TicketNotFoundException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +24,56 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException ex) {
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "Invalid cursor",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidBulkRequest(InvalidBulkRequestException ex) {
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "Invalid bulk request",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidExportRequest(InvalidExportRequestException ex) {
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "Invalid export request",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidImport(InvalidImportException ex) {
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "Invalid import",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(InvalidSearchRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidSearchRequest(InvalidSearchRequestException ex) {
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "Invalid search request",
+                        "message", ex.getMessage()
+                ));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,27 @@
+package com.changelog.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "changelog.sql", name = "statistics-enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    @Bean
+    public SqlStatisticsFilter sqlStatisticsFilter(MeterRegistry registry, ChangelogProperties properties) {
+        ChangelogProperties.Sql sql = properties.getSql();
+        return new SqlStatisticsFilter(registry, sql.isServerTiming(), sql.countsRows());
+    }
+
+    // Outside the request limiter, so the app timing includes time spent waiting for a slot
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilterRegistration(SqlStatisticsFilter filter) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
@@ -0,0 +1,121 @@
+package com.changelog.config;
+
+import com.changelog.common.sql.SqlStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Measures the JDBC work of each request and records it per handler method:
+ * changelog.sql.statements and changelog.sql.rows (distributions, rows only when counted) and
+ * changelog.sql.time.
+ * A handler whose statement count grows with the page size shows up as a rising maximum
+ * long before anyone notices the latency.
+ * <p>
+ * With the Server-Timing header enabled the same numbers go back to the client, e.g.
+ * {@code db;dur=4.21;desc="3 statements, 20 rows", app;dur=11.80}, where browser dev tools
+ * show them next to the request. The header is set just before the response commits, so
+ * anything that runs after the body is written is only in the meters, as are bodies large
+ * enough to overflow the response buffer (which commits it mid-write).
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry registry;
+    private final boolean serverTiming;
+    private final boolean countRows;
+
+    public SqlStatisticsFilter(MeterRegistry registry, boolean serverTiming, boolean countRows) {
+        this.registry = registry;
+        this.serverTiming = serverTiming;
+        this.countRows = countRows;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        SqlStatistics statistics = SqlStatistics.start();
+        ServerTimingResponse timed = serverTiming ? new ServerTimingResponse(response, statistics, started) : null;
+        try {
+            chain.doFilter(request, timed != null ? timed : response);
+        } finally {
+            statistics.stop();
+            // Responses without a body are committed by the container after this returns
+            if (timed != null && !response.isCommitted()) {
+                timed.addServerTiming();
+            }
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Tags tags = handlerTags(request);
+        DistributionSummary.builder("changelog.sql.statements")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(registry)
+                .record(statistics.statements());
+        // Without counting, only rows changed by updates would be in it
+        if (countRows) {
+            DistributionSummary.builder("changelog.sql.rows")
+                    .baseUnit("rows")
+                    .tags(tags)
+                    .register(registry)
+                    .record(statistics.rows());
+        }
+        Timer.builder("changelog.sql.time")
+                .tags(tags)
+                .register(registry)
+                .record(statistics.jdbcTime());
+    }
+
+    // Left on the request by the handler mapping, absent for requests that never reached one (404s, shed requests)
+    private static Tags handlerTags(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return Tags.of("controller", handler.getBeanType().getSimpleName(), "handler", handler.getMethod().getName());
+        }
+        return Tags.of("controller", "none", "handler", "none");
+    }
+
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatistics statistics;
+        private final long started;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStatistics statistics, long started) {
+            super(response);
+            this.statistics = statistics;
+            this.started = started;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addServerTiming();
+        }
+
+        void addServerTiming() {
+            if (added) return;
+            added = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.addHeader(SERVER_TIMING, String.format(Locale.ROOT,
+                    "db;dur=%.2f;desc=\"%d statements, %d rows\", app;dur=%.2f",
+                    statistics.jdbcTime().toNanos() / 1e6, statistics.statements(), statistics.rows(),
+                    (System.nanoTime() - started) / 1e6));
+        }
+    }
+}
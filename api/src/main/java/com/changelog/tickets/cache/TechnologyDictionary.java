@@ -0,0 +1,226 @@
+package com.changelog.tickets.cache;
+
+import com.changelog.tickets.model.Technology;
+import com.changelog.tickets.repository.TechnologyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The cl_technology table in memory, loaded when the application starts. Tickets and entries
+ * store technology codes; this maps them to canonical names for responses and exports, and
+ * names to codes for writes and filters. Names match whatever their casing.
+ * <p>
+ * Rows are never changed or removed, so entries can't go stale. Codes another instance added
+ * since startup are read from the database the first time they're seen.
+ * <p>
+ * New names are inserted in the caller's transaction, on its connection, and only remembered
+ * once it commits. A code from a rolled back insert never outlives that transaction.
+ */
+@Slf4j
+@Component
+public class TechnologyDictionary {
+
+    /**
+     * Code of a name nobody has used, which matches no row in a filter.
+     */
+    public static final int UNKNOWN = 0;
+
+    private final TechnologyRepository technologyRepository;
+
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+    public TechnologyDictionary(TechnologyRepository technologyRepository) {
+        this.technologyRepository = technologyRepository;
+
+        technologyRepository.findAll().forEach(this::remember);
+        log.info("Loaded {} technologies", namesById.size());
+    }
+
+    /**
+     * @return the names of the codes, in order, or null for null. Codes without a row are left out.
+     */
+    public String[] names(Integer[] codes) {
+        if (codes == null) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>(codes.length);
+        for (Integer code : codes) {
+            String name = name(code);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    /**
+     * Codes for names being written, adding the names the dictionary doesn't have yet. Blank
+     * names and repeats (in any casing) are dropped, null stays null.
+     */
+    public Integer[] codesFor(String[] names) {
+        if (names == null) {
+            return null;
+        }
+
+        // New names go in sorted, so two writers adding the same ones can't wait on each other
+        Arrays.stream(names)
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::strip)
+                .filter(name -> !idsByName.containsKey(key(name)))
+                .sorted(Comparator.comparing(TechnologyDictionary::key))
+                .forEach(this::codeFor);
+
+        Set<Integer> codes = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                codes.add(codeFor(name.strip()));
+            }
+        }
+        return codes.toArray(Integer[]::new);
+    }
+
+    /**
+     * Codes to filter by, never adding names: an unknown name gets {@link #UNKNOWN}.
+     *
+     * @return an empty array for no names
+     */
+    public Integer[] existingCodes(List<String> names) {
+        if (names == null) {
+            return new Integer[0];
+        }
+
+        return names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(name -> existingCode(name.strip()))
+                .distinct()
+                .toArray(Integer[]::new);
+    }
+
+    /**
+     * @return counts keyed by name instead of code, most frequent first, ties by name
+     */
+    public Map<String, Long> byName(Map<Integer, Long> countsByCode) {
+        Map<String, Long> countsByName = new HashMap<>();
+        countsByCode.forEach((code, count) -> {
+            String name = name(code);
+            if (name != null) {
+                countsByName.merge(name, count, Long::sum);
+            }
+        });
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        countsByName.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private String name(Integer code) {
+        String name = namesById.get(code);
+        if (name == null && code != null) {
+            name = pendingInThisTransaction().values().stream()
+                    .filter(technology -> technology.getId().equals(code))
+                    .map(Technology::getName)
+                    .findFirst()
+                    .orElseGet(() -> technologyRepository.findById(code).map(this::remember).orElse(null));
+        }
+        return name;
+    }
+
+    private int existingCode(String name) {
+        Integer code = idsByName.get(key(name));
+        if (code != null) {
+            return code;
+        }
+        Technology pending = pendingInThisTransaction().get(key(name));
+        if (pending != null) {
+            return pending.getId();
+        }
+
+        return technologyRepository.findByName(name)
+                .map(technology -> {
+                    remember(technology);
+                    return technology.getId();
+                })
+                .orElse(UNKNOWN);
+    }
+
+    private int codeFor(String name) {
+        Integer code = idsByName.get(key(name));
+        if (code != null) {
+            return code;
+        }
+
+        Map<String, Technology> added = addedInThisTransaction();
+        Technology technology = added.get(key(name));
+        if (technology == null) {
+            // A name another transaction is adding waits for it here, and is found once it commits
+            technologyRepository.insertIfAbsent(name);
+            technology = technologyRepository.findByName(name).orElseThrow();
+            added.put(key(name), technology);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(technology);
+        }
+        return technology.getId();
+    }
+
+    // Names added by the current transaction, remembered for everyone when it commits
+    private Map<String, Technology> addedInThisTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return pendingInThisTransaction();
+        }
+
+        Map<String, Technology> added = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, added);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TechnologyDictionary.this);
+                if (status == STATUS_COMMITTED) {
+                    added.values().forEach(TechnologyDictionary.this::remember);
+                }
+            }
+        });
+        return added;
+    }
+
+    // Until then only that transaction can see them
+    @SuppressWarnings("unchecked")
+    private Map<String, Technology> pendingInThisTransaction() {
+        Map<String, Technology> pending = (Map<String, Technology>) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending : Map.of();
+    }
+
+    private String remember(Technology technology) {
+        namesById.put(technology.getId(), technology.getName());
+        idsByName.put(key(technology.getName()), technology.getId());
+        return technology.getName();
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
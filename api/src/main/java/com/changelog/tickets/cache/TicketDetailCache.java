@@ -0,0 +1,118 @@
+package com.changelog.tickets.cache;
+
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.dto.TicketDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of ticket detail responses, by id (ticket fields only) and by slug
+ * (ticket plus its first entries page). Anything that changes a ticket or its entries
+ * evicts the ticket by id, which also drops whatever slug it was cached under.
+ * <p>
+ * Cached responses are shared between requests and must not be modified.
+ */
+@Component
+public class TicketDetailCache implements MeterBinder {
+
+    private final Cache<Long, TicketDetailResponse> byId;
+    private final Cache<String, TicketDetailResponse> bySlug;
+
+    // Last slug each ticket was cached under, so an eviction by id can find it. At most one
+    // small entry per ticket, left in place when Caffeine drops the slug on its own.
+    private final Map<Long, String> slugsById = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TicketDetailCache(ChangelogProperties properties) {
+        ChangelogProperties.Cache config = properties.getCache();
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(config.getTicketDetailMaxSize())
+                .expireAfterWrite(config.getTicketDetailTtl())
+                .recordStats()
+                .build();
+
+        this.bySlug = Caffeine.newBuilder()
+                .maximumSize(config.getTicketDetailMaxSize())
+                .expireAfterWrite(config.getTicketDetailTtl())
+                .recordStats()
+                .build();
+    }
+
+    public TicketDetailResponse getById(Long id, Function<Long, TicketDetailResponse> loader) {
+        return byId.get(id, loader);
+    }
+
+    public TicketDetailResponse getBySlug(String slug, Function<String, TicketDetailResponse> loader) {
+        long generation = evictions.get();
+
+        TicketDetailResponse detail = bySlug.get(slug, key -> {
+            TicketDetailResponse loaded = loader.apply(key);
+            slugsById.put(loaded.getId(), key);
+            return loaded;
+        });
+
+        // An eviction while this was loading can't have seen the slug yet, so the loaded
+        // state may predate it. Serve it to this caller but don't keep it.
+        if (evictions.get() != generation) {
+            bySlug.invalidate(slug);
+        }
+
+        return detail;
+    }
+
+    /**
+     * Evicts a ticket from both caches. Inside a transaction this waits for the commit, so a
+     * concurrent read can't re-cache the state from before the change.
+     */
+    public void evict(Long ticketId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(ticketId);
+                }
+            });
+        } else {
+            evictNow(ticketId);
+        }
+    }
+
+    /**
+     * Drops every cached ticket, for changes made around the services (bulk loads, SQL).
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        byId.invalidateAll();
+        bySlug.invalidateAll();
+        slugsById.clear();
+    }
+
+    private void evictNow(Long ticketId) {
+        evictions.incrementAndGet();
+        byId.invalidate(ticketId);
+
+        String slug = slugsById.remove(ticketId);
+        if (slug != null) {
+            bySlug.invalidate(slug);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "ticketDetailById");
+        CaffeineCacheMetrics.monitor(registry, bySlug, "ticketDetailBySlug");
+    }
+}
@@ -0,0 +1,62 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.tickets.dto.ContentVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GETs from a {@link ContentVersion} alone, only calling the body
+ * supplier (and so loading anything) when the client's copy is stale.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(HttpHeaders request, ContentVersion version, Supplier<T> body) {
+        return respond(request, version, body, content -> true);
+    }
+
+    /**
+     * Content failing {@code cacheable} (e.g. degraded) goes out without validators, so a
+     * client never revalidates its way into keeping it.
+     */
+    static <T> ResponseEntity<T> respond(HttpHeaders request, ContentVersion version, Supplier<T> body,
+                                         Predicate<T> cacheable) {
+        if (version.matches(request)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+
+        T content = body.get();
+        if (!cacheable.test(content)) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(content);
+        }
+        return withValidators(ResponseEntity.ok(), version).body(content);
+    }
+
+    // No version means nothing to validate against (the ticket is gone), the read decides the status
+    static <T> ResponseEntity<T> respond(HttpHeaders request, Optional<ContentVersion> version, Supplier<T> body) {
+        return version.map(v -> respond(request, v, body))
+                .orElseGet(() -> ResponseEntity.ok(body.get()));
+    }
+
+    /**
+     * no-cache lets browsers and shared caches keep the response, provided they revalidate it
+     * first. Without an explicit policy Spring Security sends no-store, so nothing is ever kept
+     * and the validators go unused.
+     */
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, ContentVersion version) {
+        builder.cacheControl(CacheControl.noCache());
+        builder.eTag(version.etag());
+        if (version.lastModified() != null) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder;
+    }
+}
@@ -1,9 +1,13 @@
 package com.changelog.tickets.controller;
 
 import com.changelog.tickets.dto.DashboardHomeResponse;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.DashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,9 +17,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping("/home")
-    public DashboardHomeResponse getHome() {
-        return dashboardService.getHomePage();
+    public ResponseEntity<DashboardHomeResponse> getHome(@RequestHeader HttpHeaders headers) {
+        return ConditionalGet.respond(headers, contentVersionService.ofDashboard(),
+                dashboardService::getHomePage, home -> !home.isPartial());
     }
 }
\ No newline at end of file
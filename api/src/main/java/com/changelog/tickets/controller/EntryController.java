@@ -1,33 +1,103 @@
 package com.changelog.tickets.controller;
 
+import com.changelog.config.ChangelogProperties;
 import com.changelog.tickets.dto.*;
+import com.changelog.tickets.exception.InvalidBulkRequestException;
+import com.changelog.tickets.exception.InvalidSearchRequestException;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.EntryService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/entries")
 @RequiredArgsConstructor
 @Slf4j
 public class EntryController {
 
+    static final String NDJSON = "application/x-ndjson";
+
     private final EntryService entryService;
+    private final ContentVersionService contentVersionService;
+    private final ObjectMapper objectMapper;
+    private final ChangelogProperties properties;
 
     @GetMapping
-    public EntriesPageResponse getEntries(
-            @PageableDefault(page = 0, size = 10, direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<EntriesPageResponse> getEntries(
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(page = 0, size = 10, direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader HttpHeaders headers) {
+
+        log.info("GET /api/v1/entries with pageable: {}, cursor: {}", pageable, cursor);
 
-        log.info("GET /api/v1/entries with pageable: {}", pageable);
+        return ConditionalGet.respond(headers, contentVersionService.ofTicketsAndEntries(), () -> {
+            // Presence of the cursor param (even empty, for the first page) opts into keyset paging
+            if (cursor != null) {
+                return entryService.getEntries(cursor, pageable.getPageSize());
+            }
+
+            return entryService.getEntries(pageable);
+        });
+    }
 
-        return entryService.getEntries(pageable);
+    // Keyset paged only, the first page is requested without a cursor
+    @GetMapping("/search")
+    public ResponseEntity<EntriesPageResponse> searchEntries(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String ticketId,
+            @RequestParam(required = false) String visibility,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(name = "technology", required = false) List<String> technologies,
+            @RequestParam(required = false) String technologyMatch,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(page = 0, size = 10) Pageable pageable,
+            @RequestHeader HttpHeaders headers) {
+
+        log.info("GET /api/v1/entries/search q={}, ticketId={}, visibility={}, from={}, to={}, technologies={} ({}), facets={}, cursor={}",
+                q, ticketId, visibility, from, to, technologies, technologyMatch, facets, cursor);
+
+        EntrySearchFilters filters = EntrySearchFilters.builder()
+                .search(q)
+                .ticketId(ticketId(ticketId))
+                .visibility(visibility == null || visibility.isBlank() ? null : visibility)
+                .from(date("from", from))
+                .to(date("to", to))
+                .technologies(technologies == null ? null : technologies.stream().filter(t -> !t.isBlank()).toList())
+                .technologyMatch(TechnologyMatch.fromParam(technologyMatch))
+                .facets(facets)
+                .build();
+
+        if (filters.getFrom() != null && filters.getTo() != null && filters.getFrom().isAfter(filters.getTo())) {
+            throw new InvalidSearchRequestException("from must not be after to");
+        }
+
+        return ConditionalGet.respond(headers, contentVersionService.ofTicketsAndEntries(),
+                () -> entryService.searchEntries(filters, cursor, pageable.getPageSize()));
     }
 
     @PostMapping
@@ -44,6 +114,52 @@ public class EntryController {
 
     }
 
+    // Items are validated one by one in the service, so one bad item doesn't reject the rest
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public BulkEntryResponse createEntries(InputStream body) throws IOException {
+
+        List<CreateEntryRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidBulkRequestException("Expected a JSON array of entries");
+            }
+            ObjectReader reader = objectMapper.readerFor(CreateEntryRequest.class);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new InvalidBulkRequestException("Unterminated JSON array");
+                }
+                addWithinLimit(requests, reader.readValue(parser));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidBulkRequestException("Malformed JSON at line "
+                    + e.getLocation().getLineNr() + ": " + e.getOriginalMessage(), e);
+        }
+
+        log.info("POST /api/v1/entries/bulk with {} entries", requests.size());
+
+        return entryService.createEntries(requests);
+    }
+
+    @PostMapping(value = "/bulk", consumes = NDJSON)
+    @PreAuthorize("isAuthenticated()")
+    public BulkEntryResponse createEntriesFromNdjson(InputStream body) throws IOException {
+
+        List<CreateEntryRequest> requests = new ArrayList<>();
+        try (MappingIterator<CreateEntryRequest> lines = objectMapper.readerFor(CreateEntryRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                addWithinLimit(requests, lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidBulkRequestException("Malformed NDJSON at line "
+                    + e.getLocation().getLineNr() + ": " + e.getOriginalMessage(), e);
+        }
+
+        log.info("POST /api/v1/entries/bulk with {} NDJSON entries", requests.size());
+
+        return entryService.createEntries(requests);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public EntryDetailResponse updateEntry(
@@ -63,4 +179,34 @@ public class EntryController {
         entryService.deleteEntry(id);
     }
 
+    // Checked as items are parsed, so an oversized body is turned away without reading the rest of it
+    private void addWithinLimit(List<CreateEntryRequest> requests, CreateEntryRequest request) {
+        int maxEntries = properties.getBulk().getMaxEntries();
+        if (requests.size() == maxEntries) {
+            throw new InvalidBulkRequestException("At most " + maxEntries + " entries per request");
+        }
+        requests.add(request);
+    }
+
+    private static Long ticketId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new InvalidSearchRequestException("ticketId must be a number: " + value);
+        }
+    }
+
+    private static LocalDate date(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidSearchRequestException(name + " must be an ISO date (yyyy-MM-dd): " + value);
+        }
+    }
 }
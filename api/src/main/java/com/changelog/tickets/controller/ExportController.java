@@ -0,0 +1,113 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.tickets.dto.ExportFilters;
+import com.changelog.tickets.dto.ExportFormat;
+import com.changelog.tickets.exception.InvalidExportRequestException;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Full exports of tickets and entries, written to the response as they are read. The body is
+ * written on the request thread rather than handed to an async executor, so an export counts
+ * against the request limiter and the per-request SQL statistics for as long as it runs.
+ */
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/tickets")
+    @PreAuthorize("isAuthenticated()")
+    public void exportTickets(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String visibility,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        log.info("GET /api/v1/export/tickets format={}, status={}, visibility={}, from={}, to={}",
+                format, status, visibility, from, to);
+
+        ExportFormat parsedFormat = ExportFormat.fromParam(format);
+        ExportFilters filters = filters(status, visibility, from, to);
+        ExportResponseStream body = new ExportResponseStream(response, parsedFormat, "tickets",
+                ExportResponseStream.acceptsGzip(acceptEncoding));
+
+        exportService.exportTickets(filters, parsedFormat, body);
+        body.finish();
+    }
+
+    @GetMapping("/entries")
+    @PreAuthorize("isAuthenticated()")
+    public void exportEntries(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String visibility,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        log.info("GET /api/v1/export/entries format={}, status={}, visibility={}, from={}, to={}",
+                format, status, visibility, from, to);
+
+        ExportFormat parsedFormat = ExportFormat.fromParam(format);
+        ExportFilters filters = filters(status, visibility, from, to);
+        ExportResponseStream body = new ExportResponseStream(response, parsedFormat, "entries",
+                ExportResponseStream.acceptsGzip(acceptEncoding));
+
+        exportService.exportEntries(filters, parsedFormat, body);
+        body.finish();
+    }
+
+    private static ExportFilters filters(String status, String visibility, String from, String to) {
+        ExportFilters filters = ExportFilters.builder()
+                .status(status(status))
+                .visibility(visibility == null || visibility.isBlank() ? null : visibility)
+                .from(date("from", from))
+                .to(date("to", to))
+                .build();
+
+        if (filters.getFrom() != null && filters.getTo() != null && filters.getFrom().isAfter(filters.getTo())) {
+            throw new InvalidExportRequestException("from must not be after to");
+        }
+        return filters;
+    }
+
+    private static TicketStatus status(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TicketStatus.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidExportRequestException("Unknown status: " + value);
+        }
+    }
+
+    private static LocalDate date(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidExportRequestException(name + " must be an ISO date (yyyy-MM-dd): " + value);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.tickets.dto.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The response body of an export. Headers (and the gzip encoding) are only applied on the
+ * first write, so an export failing before it has produced anything leaves the response
+ * untouched and the error handler can still answer with a plain JSON error.
+ */
+final class ExportResponseStream extends OutputStream {
+
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final HttpServletResponse response;
+    private final ExportFormat format;
+    private final String filename;
+    private final boolean gzip;
+
+    private OutputStream target;
+
+    ExportResponseStream(HttpServletResponse response, ExportFormat format, String name, boolean gzip) {
+        this.response = response;
+        this.format = format;
+        this.filename = name + "." + format.extension();
+        this.gzip = gzip;
+    }
+
+    /**
+     * Whether the client takes gzip: listed in Accept-Encoding without q=0. A bare "*" isn't
+     * taken as consent, as some proxies send it without decoding anything.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        target().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        target().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Completes the body, opening it first for an export that wrote nothing. The servlet
+     * stream itself is left for the container to close.
+     */
+    void finish() throws IOException {
+        OutputStream out = target();
+        if (out instanceof GZIPOutputStream compressed) {
+            compressed.finish();
+        }
+        out.flush();
+    }
+
+    private OutputStream target() throws IOException {
+        if (target == null) {
+            response.setContentType(format.contentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(filename).build().toString());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                target = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+            } else {
+                target = response.getOutputStream();
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,45 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.tickets.dto.ImportResult;
+import com.changelog.tickets.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Imports of the files written by {@link ExportController}, read from the request body as it
+ * arrives. After a failure, sending the same file again with the same checkpoint name resumes
+ * after the last committed chunk. Once a file is through, its checkpoint name is free again.
+ */
+@RestController
+@RequestMapping("/api/v1/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/tickets", consumes = EntryController.NDJSON)
+    @PreAuthorize("isAuthenticated()")
+    public ImportResult importTickets(@RequestParam(required = false) String checkpoint, InputStream body)
+            throws IOException {
+
+        log.info("POST /api/v1/import/tickets checkpoint={}", checkpoint);
+
+        return importService.importTickets(body, checkpoint);
+    }
+
+    @PostMapping(value = "/entries", consumes = EntryController.NDJSON)
+    @PreAuthorize("isAuthenticated()")
+    public ImportResult importEntries(@RequestParam(required = false) String checkpoint, InputStream body)
+            throws IOException {
+
+        log.info("POST /api/v1/import/entries checkpoint={}", checkpoint);
+
+        return importService.importEntries(body, checkpoint);
+    }
+}
@@ -2,6 +2,7 @@ package com.changelog.tickets.controller;
 
 import com.changelog.tickets.dto.*;
 import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.TicketService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,18 +26,24 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public TicketsPageResponse getTickets(
+    public ResponseEntity<TicketsPageResponse> getTickets(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String statusNot,
             @RequestParam(required = false) String visibility,
             @RequestParam(required = false) String search,
-            @PageableDefault(page = 0, size = 10, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable
+            @RequestParam(name = "technology", required = false) List<String> technologies,
+            @RequestParam(required = false) String technologyMatch,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(page = 0, size = 10, sort = "startDate", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader HttpHeaders headers
     ) {
 
-        log.info("GET /api/v1/tickets status={}, statusNot={}, visibility={}, pageable={}, search={}",
-                status, statusNot, visibility, pageable, search);
+        log.info("GET /api/v1/tickets status={}, statusNot={}, visibility={}, pageable={}, search={}, technologies={} ({}), facets={}, cursor={}",
+                status, statusNot, visibility, pageable, search, technologies, technologyMatch, facets, cursor);
 
         TicketStatus parsedStatus = null;
         if (status != null && !status.isBlank()) {
@@ -52,16 +60,38 @@ public class TicketController {
                 .statusNot(parsedStatusNot)
                 .visibility(visibility)
                 .search(search)
+                .technologies(technologies == null ? null : technologies.stream().filter(t -> !t.isBlank()).toList())
+                .technologyMatch(TechnologyMatch.fromParam(technologyMatch))
+                .facets(facets)
                 .build();
 
-        return ticketService.getTickets(filters, pageable);
+        return ConditionalGet.respond(headers, contentVersionService.ofTickets(), () -> {
+            // Presence of the cursor param (even empty, for the first page) opts into keyset paging
+            if (cursor != null) {
+                return ticketService.getTickets(filters, cursor, pageable.getPageSize());
+            }
+
+            return ticketService.getTickets(filters, pageable);
+        });
     }
 
     @GetMapping("/{ticketId}/entries")
-    public List<EntrySummaryResponse> getEntriesForTicket(@PathVariable Long ticketId) {
-        log.info("GET /api/v1/tickets/{}/entries", ticketId);
-
-        return ticketService.getEntriesForTicket(ticketId);
+    public ResponseEntity<EntriesPageResponse> getEntriesForTicket(
+            @PathVariable Long ticketId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(page = 0, size = 20, sort = "date", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader HttpHeaders headers) {
+
+        log.info("GET /api/v1/tickets/{}/entries pageable={}, cursor={}", ticketId, pageable, cursor);
+
+        return ConditionalGet.respond(headers, contentVersionService.ofTicketWithEntries(ticketId), () -> {
+            // Same contract as /api/v1/entries: a cursor param (even empty) switches to keyset paging
+            if (cursor != null) {
+                return ticketService.getEntriesForTicket(ticketId, cursor, pageable.getPageSize());
+            }
+
+            return ticketService.getEntriesForTicket(ticketId, pageable);
+        });
     }
 
     @PostMapping
@@ -78,15 +108,16 @@ public class TicketController {
     }
 
     @GetMapping("/{id}")
-    public TicketDetailResponse getTicketById(@PathVariable Long id) {
+    public ResponseEntity<TicketDetailResponse> getTicketById(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
         log.info("GET id - /api/v1/tickets/{}", id);
-        return ticketService.getTicketById(id);
+        return ConditionalGet.respond(headers, contentVersionService.ofTicket(id), () -> ticketService.getTicketById(id));
     }
 
     @GetMapping("/slug/{slug}")
-    public TicketDetailResponse getTicketBySlug(@PathVariable String slug) {
+    public ResponseEntity<TicketDetailResponse> getTicketBySlug(@PathVariable String slug, @RequestHeader HttpHeaders headers) {
         log.info("GET slug - /api/v1/tickets/{}", slug);
-        return ticketService.getTicketBySlug(slug);
+        return ConditionalGet.respond(headers, contentVersionService.ofTicketWithEntries(slug),
+                () -> ticketService.getTicketBySlug(slug));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,18 @@
+package com.changelog.tickets.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import, one result per submitted item in submission order. Valid items
+ * are created even when others are rejected.
+ */
+@Data
+@Builder
+public class BulkEntryResponse {
+    private int created;
+    private int rejected;
+    private List<BulkEntryResult> results;
+}
@@ -0,0 +1,17 @@
+package com.changelog.tickets.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Created items carry entryId, rejected ones the reason in error.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkEntryResult {
+    private int index;
+    private Long entryId;
+    private String error;
+}
@@ -0,0 +1,77 @@
+package com.changelog.tickets.dto;
+
+import com.changelog.tickets.repository.ChangeWatermark;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Validators for a read response, derived from the watermarks of the rows it is built from
+ * rather than from the response itself, so a conditional request can be answered before any
+ * of it is loaded. The ETag is strong: equal watermarks mean identical content.
+ */
+public record ContentVersion(String etag, Instant lastModified) {
+
+    public static ContentVersion of(ChangeWatermark... watermarks) {
+        String tag = Arrays.stream(watermarks)
+                .map(mark -> Long.toString(mark.count(), 36) + "-" + Long.toString(micros(mark.lastModified()), 36))
+                .collect(Collectors.joining("."));
+
+        Instant latest = Arrays.stream(watermarks)
+                .map(ChangeWatermark::lastModified)
+                .filter(Objects::nonNull)
+                .map(OffsetDateTime::toInstant)
+                .max(Instant::compareTo)
+                .orElse(null);
+
+        return new ContentVersion("\"" + tag + "\"", latest);
+    }
+
+    /**
+     * For content that also depends on something other than the rows, like the current date.
+     */
+    public ContentVersion qualifiedBy(String qualifier) {
+        return new ContentVersion(etag.substring(0, etag.length() - 1) + "." + qualifier + "\"", lastModified);
+    }
+
+    /**
+     * Whether the client's copy is current. If-None-Match wins over If-Modified-Since when
+     * both are sent, which only has second precision.
+     */
+    public boolean matches(HttpHeaders request) {
+        List<String> ifNoneMatch = request.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            // Weak comparison, as for any GET
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || stripWeak(tag).equals(etag));
+        }
+
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getIfModifiedSince();
+            return ifModifiedSince >= 0 && lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() <= ifModifiedSince;
+        } catch (IllegalArgumentException ex) {
+            // Unparseable date, treat as unconditional
+            return false;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long micros(OffsetDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        Instant instant = time.toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
@@ -11,4 +11,7 @@ public class DashboardHomeResponse {
     private List<TicketSummaryResponse> activeTickets;
     private List<EntrySummaryResponse> recentEntries;
     private DashboardMetrics metrics;
+
+    // Some section failed or timed out and is served empty
+    private boolean partial;
 }
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.changelog.tickets.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Offset pages carry page/totalElements/totalPages. Cursor pages skip the count
+ * query and carry nextCursor instead, which is absent on the last page.
+ * technologyFacets is only present when asked for.
+ */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EntriesPageResponse {
     List<EntrySummaryResponse> entries;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private String nextCursor;
+    // Matching rows per technology over the whole result, not just this page, most frequent first
+    private Map<String, Long> technologyFacets;
 }
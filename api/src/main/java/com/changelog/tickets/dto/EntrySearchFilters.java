@@ -0,0 +1,29 @@
+package com.changelog.tickets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Entry search criteria, null or empty fields match everything. The date range is inclusive,
+ * technologies combine as technologyMatch says (all of them when null).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntrySearchFilters {
+    private String search;
+    private Long ticketId;
+    private String visibility;
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> technologies;
+    private TechnologyMatch technologyMatch;
+    // Not a filter: also count the matching entries per technology
+    private boolean facets;
+}
@@ -5,6 +5,10 @@ import lombok.Data;
 
 import java.time.LocalDate;
 
+/**
+ * Feed lists (global entries, dashboard) fill excerpt and leave body null. Per-ticket
+ * lists and write responses carry both.
+ */
 @Data
 @Builder
 public class EntrySummaryResponse {
@@ -13,6 +17,7 @@ public class EntrySummaryResponse {
     private String ticketSlug;
     private String title;
     private String body;
+    private String excerpt;
     private String[] technologies;
     private LocalDate date;
     private String visibility;
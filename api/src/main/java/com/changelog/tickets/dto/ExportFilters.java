@@ -0,0 +1,24 @@
+package com.changelog.tickets.dto;
+
+import com.changelog.tickets.model.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Export filters, null fields match everything. The date range is inclusive and applies to
+ * the ticket start date or the entry date.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportFilters {
+    private TicketStatus status;
+    private String visibility;
+    private LocalDate from;
+    private LocalDate to;
+}
@@ -0,0 +1,20 @@
+package com.changelog.tickets.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one import run. Lines are counted from the start of the input, so
+ * {@code position} is what a resumed run would skip.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResult {
+    private String checkpoint;
+    private long skipped;
+    private long inserted;
+    private long updated;
+    private long position;
+}
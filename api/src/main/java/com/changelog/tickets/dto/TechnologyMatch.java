@@ -0,0 +1,35 @@
+package com.changelog.tickets.dto;
+
+import com.changelog.tickets.exception.InvalidSearchRequestException;
+
+import java.util.Locale;
+
+/**
+ * How repeated technology= filters combine.
+ */
+public enum TechnologyMatch {
+
+    /**
+     * At least one of them ({@code &&} on Postgres).
+     */
+    ANY,
+
+    /**
+     * Every one of them ({@code @>} on Postgres).
+     */
+    ALL;
+
+    /**
+     * @return ALL for a missing parameter
+     */
+    public static TechnologyMatch fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidSearchRequestException("Unknown technology match: " + value);
+        }
+    }
+}
@@ -7,6 +7,10 @@ import lombok.Data;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * The slug lookup embeds the newest page of entries. When there are more, nextEntriesCursor
+ * continues from there through GET /api/v1/tickets/{id}/entries?cursor=...
+ */
 @Data
 @Builder
 public class TicketDetailResponse {
@@ -23,5 +27,5 @@ public class TicketDetailResponse {
     private String roadblocksSummary;
     private String metricsSummary;
     private List<EntrySummaryResponse> entries;
-
+    private String nextEntriesCursor;
 }
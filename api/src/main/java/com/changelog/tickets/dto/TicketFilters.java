@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,4 +17,8 @@ public class TicketFilters {
     private TicketStatus statusNot;
     private String visibility;
     private String search;
-}
\ No newline at end of file
+    private List<String> technologies;
+    private TechnologyMatch technologyMatch;
+    // Not a filter: also count the matching tickets per technology
+    private boolean facets;
+}
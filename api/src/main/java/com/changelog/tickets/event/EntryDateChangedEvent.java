@@ -0,0 +1,9 @@
+package com.changelog.tickets.event;
+
+import java.time.LocalDate;
+
+/**
+ * An entry was created (previous is null), deleted (current is null) or saved with a date.
+ */
+public record EntryDateChangedEvent(Long entryId, LocalDate previous, LocalDate current) {
+}
@@ -0,0 +1,9 @@
+package com.changelog.tickets.event;
+
+import com.changelog.tickets.model.TicketStatus;
+
+/**
+ * A ticket was created (previous is null) or its status changed.
+ */
+public record TicketStatusChangedEvent(Long ticketId, TicketStatus previous, TicketStatus current) {
+}
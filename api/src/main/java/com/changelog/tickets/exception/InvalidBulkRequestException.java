@@ -0,0 +1,12 @@
+package com.changelog.tickets.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidBulkRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,13 +1,19 @@
 package com.changelog.tickets.mapper;
 
+import com.changelog.tickets.cache.TechnologyDictionary;
 import com.changelog.tickets.dto.EntryDetailResponse;
 import com.changelog.tickets.dto.EntrySummaryResponse;
 import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.repository.EntrySummaryView;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class EntryMapper {
 
+    private final TechnologyDictionary technologyDictionary;
+
     public EntryDetailResponse toDetailResponse(Entry entry) {
         if (entry == null) {
             return null;
@@ -18,7 +24,7 @@ public class EntryMapper {
                 .date(entry.getDate())
                 .title(entry.getTitle())
                 .body(entry.getBody())
-                .technologies(entry.getTechnologies())
+                .technologies(technologyDictionary.names(entry.getTechnologyIds()))
                 .visibility(entry.getVisibility())
                 .build();
     }
@@ -30,9 +36,23 @@ public class EntryMapper {
                 .ticketSlug(entry.getTicket().getSlug())
                 .title(entry.getTitle())
                 .body(entry.getBody())
-                .technologies(entry.getTechnologies())
+                .excerpt(entry.getExcerpt())
+                .technologies(technologyDictionary.names(entry.getTechnologyIds()))
                 .date(entry.getDate())
                 .visibility(entry.getVisibility())
                 .build();
     }
+
+    public EntrySummaryResponse toSummary(EntrySummaryView view) {
+        return EntrySummaryResponse.builder()
+                .entryId(view.id())
+                .ticketName(view.ticketTitle())
+                .ticketSlug(view.ticketSlug())
+                .title(view.title())
+                .excerpt(view.excerpt())
+                .technologies(technologyDictionary.names(view.technologyIds()))
+                .date(view.date())
+                .visibility(view.visibility())
+                .build();
+    }
 }
@@ -1,14 +1,21 @@
 package com.changelog.tickets.mapper;
 
+import com.changelog.tickets.cache.TechnologyDictionary;
 import com.changelog.tickets.dto.TicketDetailResponse;
 import com.changelog.tickets.dto.TicketSummaryResponse;
 import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.repository.TicketSummaryView;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class TicketMapper {
+
+    private final TechnologyDictionary technologyDictionary;
+
     //TODO refactor into one abstract mapper
     public TicketDetailResponse toDetailResponse(Ticket ticket) {
         if (ticket == null) {
@@ -24,7 +31,7 @@ public class TicketMapper {
                 .startDate(ticket.getStartDate())
                 .endDate(ticket.getEndDate())
                 .background(ticket.getBackground())
-                .technologies(ticket.getTechnologies())
+                .technologies(technologyDictionary.names(ticket.getTechnologyIds()))
                 .learned(ticket.getLearned())
                 .roadblocksSummary(ticket.getRoadblocksSummary())
                 .metricsSummary(ticket.getMetricsSummary())
@@ -41,7 +48,21 @@ public class TicketMapper {
                 .visibility(ticket.getVisibility())
                 .startDate(ticket.getStartDate())
                 .endDate(ticket.getEndDate())
-                .technologies(ticket.getTechnologies())
+                .technologies(technologyDictionary.names(ticket.getTechnologyIds()))
+                .build();
+    }
+
+    public TicketSummaryResponse toSummary(TicketSummaryView view) {
+        return TicketSummaryResponse.builder()
+                .id(view.id())
+                .slug(view.slug())
+                .title(view.title())
+                .background(view.background())
+                .status(view.status())
+                .visibility(view.visibility())
+                .startDate(view.startDate())
+                .endDate(view.endDate())
+                .technologies(technologyDictionary.names(view.technologyIds()))
                 .build();
     }
 }
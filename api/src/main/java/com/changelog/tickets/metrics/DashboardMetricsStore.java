@@ -0,0 +1,142 @@
+package com.changelog.tickets.metrics;
+
+import com.changelog.tickets.dto.DashboardMetrics;
+import com.changelog.tickets.event.EntryDateChangedEvent;
+import com.changelog.tickets.event.TicketStatusChangedEvent;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.DateCount;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.StatusCount;
+import com.changelog.tickets.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard counters kept in memory: tickets per status and entries per date. Committed
+ * ticket and entry writes adjust them through events, and a periodic recount from the
+ * database replaces them to correct drift (writes from other instances, or outside the API).
+ * <p>
+ * Entries are counted per date rather than as a running weekly total, so the week window
+ * moves with the clock and the most recent date doubles as the last update.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardMetricsStore {
+
+    private static final int WEEK_DAYS = 7;
+
+    private final TicketRepository ticketRepository;
+    private final EntryRepository entryRepository;
+
+    // Null until the first recount, events arriving before that are covered by it
+    private volatile Counts counts;
+
+    public DashboardMetrics snapshot() {
+        Counts current = counts;
+        if (current == null) {
+            reconcile();
+            current = counts;
+        }
+
+        LocalDate oneWeekAgo = LocalDate.now().minusDays(WEEK_DAYS);
+        long logsThisWeek = current.entriesByDate.tailMap(oneWeekAgo, false).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        Map.Entry<LocalDate, Long> latest = current.entriesByDate.lastEntry();
+
+        return DashboardMetrics.builder()
+                .activeTickets(current.tickets(TicketStatus.ACTIVE))
+                .completedTickets(current.tickets(TicketStatus.COMPLETED))
+                .logsThisWeek(logsThisWeek)
+                .lastUpdate(latest == null ? null : latest.getKey())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        Counts current = counts;
+        if (current == null || event.previous() == event.current()) {
+            return;
+        }
+        if (event.previous() != null) {
+            current.ticketsByStatus.get(event.previous()).decrementAndGet();
+        }
+        if (event.current() != null) {
+            current.ticketsByStatus.get(event.current()).incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntryDateChanged(EntryDateChangedEvent event) {
+        Counts current = counts;
+        if (current == null || (event.previous() != null && event.previous().equals(event.current()))) {
+            return;
+        }
+        if (event.previous() != null) {
+            // Drop dates that reach zero, so the last key stays the latest date with entries
+            current.entriesByDate.computeIfPresent(event.previous(), (date, count) -> count > 1 ? count - 1 : null);
+        }
+        if (event.current() != null) {
+            current.entriesByDate.merge(event.current(), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Recounts from the database and swaps the result in. Writes committing while the counts
+     * are read may be missed or counted twice, the next run corrects them.
+     * <p>
+     * The interval is a placeholder (default as in ChangelogProperties.Dashboard) rather than
+     * a bean reference, so slices that import the properties class under another name work.
+     */
+    @Scheduled(fixedDelayString = "${changelog.dashboard.metrics-reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        Counts fresh = new Counts();
+        for (StatusCount row : ticketRepository.countGroupedByStatus()) {
+            fresh.ticketsByStatus.get(row.status()).set(row.count());
+        }
+        for (DateCount row : entryRepository.countGroupedByDate()) {
+            fresh.entriesByDate.put(row.date(), row.count());
+        }
+
+        Counts previous = counts;
+        if (previous != null && !previous.sameAs(fresh)) {
+            log.info("Dashboard metrics drifted, corrected from database");
+        }
+        counts = fresh;
+    }
+
+    private static final class Counts {
+        private final Map<TicketStatus, AtomicLong> ticketsByStatus = new EnumMap<>(TicketStatus.class);
+        private final ConcurrentSkipListMap<LocalDate, Long> entriesByDate = new ConcurrentSkipListMap<>();
+
+        private Counts() {
+            // Every status present up front, so the map itself is never written after this
+            for (TicketStatus status : TicketStatus.values()) {
+                ticketsByStatus.put(status, new AtomicLong());
+            }
+        }
+
+        private long tickets(TicketStatus status) {
+            return ticketsByStatus.get(status).get();
+        }
+
+        private boolean sameAs(Counts other) {
+            for (TicketStatus status : TicketStatus.values()) {
+                if (tickets(status) != other.tickets(status)) {
+                    return false;
+                }
+            }
+            return entriesByDate.equals(other.entriesByDate);
+        }
+    }
+}
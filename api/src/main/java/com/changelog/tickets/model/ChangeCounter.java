@@ -0,0 +1,30 @@
+package com.changelog.tickets.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-table count of the writes that don't move max(updated_at): deletes and ID rekeys.
+ */
+@Entity
+@Table(name = "cl_change_counter")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeCounter {
+
+    public static final String TICKETS = "cl_ticket";
+    public static final String ENTRIES = "cl_entry";
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false)
+    private String name;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -1,9 +1,11 @@
 package com.changelog.tickets.model;
 
+import com.changelog.common.util.Excerpts;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -15,7 +17,7 @@ import java.time.OffsetDateTime;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = "ticket")
-public class Entry {
+public class Entry implements Persistable<Long> {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
@@ -34,8 +36,14 @@ public class Entry {
     @Column(name = "body", columnDefinition = "text")
     private String body;
 
-    @Column(name = "technologies", columnDefinition = "text[]")
-    private String[] technologies;
+    // Derived from body on every write, list views read this instead of body
+    @Setter(AccessLevel.NONE)
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+
+    // Codes into cl_technology, TechnologyDictionary maps them to and from names
+    @Column(name = "technology_ids")
+    private Integer[] technologyIds;
 
     @Column(name = "visibility", nullable = false)
     private String visibility;
@@ -47,4 +55,29 @@ public class Entry {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
-}
\ No newline at end of file
+
+    // See Ticket.newEntity
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity = true;
+
+    @PrePersist
+    @PreUpdate
+    void refreshExcerpt() {
+        excerpt = Excerpts.of(body);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.changelog.tickets.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * How far a named import got: the number of input lines whose rows are committed, and the
+ * SHA-256 of those lines. Deleted once the import has read its whole input.
+ */
+@Entity
+@Table(name = "cl_import_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCheckpoint {
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false, length = 128)
+    private String name;
+
+    @Column(name = "position", nullable = false)
+    private long position;
+
+    @Column(name = "digest", nullable = false, length = 64)
+    private String digest;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public ImportCheckpoint(String name, long position, String digest) {
+        this.name = name;
+        this.position = position;
+        this.digest = digest;
+    }
+}
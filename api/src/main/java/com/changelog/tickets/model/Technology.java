@@ -0,0 +1,34 @@
+package com.changelog.tickets.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A technology name and its code, as stored in ticket and entry technology_ids.
+ */
+@Entity
+@Table(name = "cl_technology")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Technology {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Integer id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    public Technology(String name) {
+        this.name = name;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -17,7 +18,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = "entries")
-public class Ticket {
+public class Ticket implements Persistable<Long> {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
@@ -42,8 +43,9 @@ public class Ticket {
     @Column(name = "background", columnDefinition = "text")
     private String background;
 
-    @Column(name = "technologies", columnDefinition = "text[]")
-    private String[] technologies;
+    // Codes into cl_technology, TechnologyDictionary maps them to and from names
+    @Column(name = "technology_ids")
+    private Integer[] technologyIds;
 
     @Column(name = "learned", columnDefinition = "text")
     private String learned;
@@ -65,6 +67,15 @@ public class Ticket {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    // IDs are assigned before save, so Spring Data can't tell new from detached by the
+    // id alone and would merge (an extra SELECT) instead of persisting.
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity = true;
+
     @Builder.Default
     @OneToMany(
             mappedBy = "ticket",
@@ -82,4 +93,15 @@ public class Ticket {
         entries.remove(entry);
         entry.setTicket(null);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.ChangeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChangeCounterRepository extends JpaRepository<ChangeCounter, String> {
+
+    // Call inside the writing transaction, readers then see the new version with the change.
+    // The row lock is held until commit, which is why plain inserts and updates don't bump it
+    @Modifying
+    @Query("update ChangeCounter c set c.version = c.version + 1 where c.name = :name")
+    int bump(@Param("name") String name);
+}
@@ -0,0 +1,11 @@
+package com.changelog.tickets.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A count and the latest updated_at of a set of rows. Any insert or update moves the timestamp
+ * and any delete changes the count, so two equal watermarks mean the rows are unchanged. The
+ * count is the row count for a single ticket, and the cl_change_counter version for a table.
+ */
+public record ChangeWatermark(long count, OffsetDateTime lastModified) {
+}
@@ -0,0 +1,6 @@
+package com.changelog.tickets.repository;
+
+import java.time.LocalDate;
+
+public record DateCount(LocalDate date, long count) {
+}
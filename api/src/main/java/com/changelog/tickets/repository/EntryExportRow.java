@@ -0,0 +1,37 @@
+package com.changelog.tickets.repository;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * An entry with its full body and its ticket's id and slug, as written by the export. Like
+ * {@link TicketExportRow}, technologyIds is for the export only, files carry the names.
+ */
+public record EntryExportRow(
+        Long id,
+        Long ticketId,
+        String ticketSlug,
+        LocalDate date,
+        String title,
+        String body,
+        String[] technologies,
+        String visibility,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        @JsonIgnore Integer[] technologyIds
+) {
+
+    // Selected by EntryRepository#streamForExport
+    public EntryExportRow(Long id, Long ticketId, String ticketSlug, LocalDate date, String title, String body,
+                          Integer[] technologyIds, String visibility, OffsetDateTime createdAt,
+                          OffsetDateTime updatedAt) {
+        this(id, ticketId, ticketSlug, date, title, body, null, visibility, createdAt, updatedAt, technologyIds);
+    }
+
+    public EntryExportRow withTechnologies(String[] technologies) {
+        return new EntryExportRow(id, ticketId, ticketSlug, date, title, body, technologies, visibility, createdAt,
+                updatedAt, technologyIds);
+    }
+}
@@ -1,14 +1,206 @@
 package com.changelog.tickets.repository;
 
 import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.TicketStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface EntryRepository extends JpaRepository<Entry, Long> {
+/**
+ * Every list query fetches the owning ticket in the same statement, since summaries
+ * carry the ticket title and slug. Keep new list queries that way to avoid N+1 selects.
+ * <p>
+ * Feed-style lists (global entries, dashboard) select {@link EntrySummaryView} rather
+ * than the entity so the body column is never read.
+ */
+public interface EntryRepository extends JpaRepository<Entry, Long>, EntrySummaryRepository {
 
-    long countByDateAfter(LocalDate date);
+    // The change counter with max(updated_at), backed by the updated_at index: one statement, no scan
+    @Query("""
+            select new com.changelog.tickets.repository.ChangeWatermark(c.version, (select max(e.updatedAt) from Entry e))
+            from ChangeCounter c
+            where c.name = com.changelog.tickets.model.ChangeCounter.ENTRIES
+            """)
+    ChangeWatermark findWatermark();
 
-    List<Entry> findByTicketIdOrderByDateAsc(Long ticketId);
+    @Query("select new com.changelog.tickets.repository.DateCount(e.date, count(e)) from Entry e group by e.date")
+    List<DateCount> countGroupedByDate();
+
+    @Query("select e.id from Entry e where e.id between :from and :to")
+    List<Long> findIdsBetween(@Param("from") long from, @Param("to") long to);
+
+    @Query("select e.id from Entry e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Re-keyed rows leave the range, so callers can keep reading the first batch
+    @Query("""
+            select new com.changelog.tickets.repository.RekeyCandidate(e.id, e.createdAt)
+            from Entry e
+            where e.id <= :maxId
+            order by e.createdAt, e.id
+            """)
+    List<RekeyCandidate> findRekeyCandidates(@Param("maxId") long maxId, Limit limit);
+
+    @Modifying
+    @Query(value = "UPDATE cl_entry SET id = :newId WHERE id = :id", nativeQuery = true)
+    int updateId(@Param("id") long id, @Param("newId") long newId);
+
+    // Per-ticket pages over idx_cl_entry_ticket_date_desc (ticket_id, date DESC)
+    @EntityGraph(attributePaths = "ticket")
+    Page<Entry> findByTicketId(Long ticketId, Pageable pageable);
+
+    @Query("""
+            select e from Entry e join fetch e.ticket
+            where e.ticket.id = :ticketId
+            order by e.date desc, e.id desc
+            """)
+    List<Entry> findLatestByTicketId(@Param("ticketId") Long ticketId, Limit limit);
+
+    @Query("""
+            select e from Entry e join fetch e.ticket
+            where e.ticket.id = :ticketId
+              and (e.date < :date or (e.date = :date and e.id < :id))
+            order by e.date desc, e.id desc
+            """)
+    List<Entry> findLatestByTicketIdBefore(@Param("ticketId") Long ticketId,
+                                           @Param("date") LocalDate date,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Query(value = """
+            select new com.changelog.tickets.repository.EntrySummaryView(
+                e.id, e.date, e.title, e.excerpt, e.technologyIds, e.visibility, t.title, t.slug)
+            from Entry e join e.ticket t
+            """,
+            countQuery = "select count(e) from Entry e")
+    Page<EntrySummaryView> findSummaries(Pageable pageable);
+
+    // Keyset pages over idx_cl_entry_date_desc, id breaks ties between entries on the same day
+    @Query("""
+            select new com.changelog.tickets.repository.EntrySummaryView(
+                e.id, e.date, e.title, e.excerpt, e.technologyIds, e.visibility, t.title, t.slug)
+            from Entry e join e.ticket t
+            order by e.date desc, e.id desc
+            """)
+    List<EntrySummaryView> findLatestSummaries(Limit limit);
+
+    @Query("""
+            select new com.changelog.tickets.repository.EntrySummaryView(
+                e.id, e.date, e.title, e.excerpt, e.technologyIds, e.visibility, t.title, t.slug)
+            from Entry e join e.ticket t
+            where e.date < :date or (e.date = :date and e.id < :id)
+            order by e.date desc, e.id desc
+            """)
+    List<EntrySummaryView> findLatestSummariesBefore(@Param("date") LocalDate date,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+
+    // Unordered, callers put the rows back in the order of the ids they asked for
+    @Query("""
+            select new com.changelog.tickets.repository.EntrySummaryView(
+                e.id, e.date, e.title, e.excerpt, e.technologyIds, e.visibility, t.title, t.slug)
+            from Entry e join e.ticket t
+            where e.id in :ids
+            """)
+    List<EntrySummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ranked full-text search over the trigger-maintained search_vector (Postgres only), served
+     * by idx_cl_entry_search_vector. Null filter arguments are ignored, as is an empty technology
+     * code array, otherwise entries carry all (matchAll) or any of them. Pages seek on
+     * (rank, date, id) after the cursor arguments, null for the first page. Returns ids and
+     * ranks, load the rows with {@link #findSummariesByIdIn}.
+     */
+    @Query(value = """
+            SELECT ranked.id AS id, ranked.rank AS rank FROM (
+                SELECT e.id, e.date,
+                       ts_rank_cd(e.search_vector, websearch_to_tsquery('english', :search)) AS rank
+                FROM cl_entry e
+                WHERE e.search_vector @@ websearch_to_tsquery('english', :search)
+                  AND (CAST(:ticketId AS bigint) IS NULL OR e.ticket_id = CAST(:ticketId AS bigint))
+                  AND (CAST(:visibility AS varchar) IS NULL OR e.visibility = CAST(:visibility AS varchar))
+                  AND (CAST(:from AS date) IS NULL OR e.date >= CAST(:from AS date))
+                  AND (CAST(:to AS date) IS NULL OR e.date <= CAST(:to AS date))
+                  AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                       OR (CAST(:matchAll AS boolean) AND e.technology_ids @> CAST(:technologyIds AS int[]))
+                       OR (NOT CAST(:matchAll AS boolean) AND e.technology_ids && CAST(:technologyIds AS int[])))
+            ) ranked
+            WHERE CAST(:cursorRank AS real) IS NULL
+               OR ranked.rank < CAST(:cursorRank AS real)
+               OR (ranked.rank = CAST(:cursorRank AS real)
+                   AND (ranked.date < CAST(:cursorDate AS date)
+                        OR (ranked.date = CAST(:cursorDate AS date) AND ranked.id < :cursorId)))
+            ORDER BY ranked.rank DESC, ranked.date DESC, ranked.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<EntrySearchHit> searchFullText(@Param("search") String search,
+                                        @Param("ticketId") Long ticketId,
+                                        @Param("visibility") String visibility,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to,
+                                        @Param("technologyIds") Integer[] technologyIds,
+                                        @Param("matchAll") boolean matchAll,
+                                        @Param("cursorRank") Float cursorRank,
+                                        @Param("cursorDate") LocalDate cursorDate,
+                                        @Param("cursorId") Long cursorId,
+                                        @Param("limit") int limit);
+
+    /**
+     * Technology facets of {@link #searchFullText}, over all matches rather than a page.
+     */
+    @Query(value = """
+            SELECT tech.technology_id AS id, count(DISTINCT e.id) AS count
+            FROM cl_entry e CROSS JOIN LATERAL unnest(e.technology_ids) AS tech(technology_id)
+            WHERE e.search_vector @@ websearch_to_tsquery('english', :search)
+              AND (CAST(:ticketId AS bigint) IS NULL OR e.ticket_id = CAST(:ticketId AS bigint))
+              AND (CAST(:visibility AS varchar) IS NULL OR e.visibility = CAST(:visibility AS varchar))
+              AND (CAST(:from AS date) IS NULL OR e.date >= CAST(:from AS date))
+              AND (CAST(:to AS date) IS NULL OR e.date <= CAST(:to AS date))
+              AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                   OR (CAST(:matchAll AS boolean) AND e.technology_ids @> CAST(:technologyIds AS int[]))
+                   OR (NOT CAST(:matchAll AS boolean) AND e.technology_ids && CAST(:technologyIds AS int[])))
+            GROUP BY tech.technology_id
+            """,
+            nativeQuery = true)
+    List<TechnologyCount> countFullTextTechnologies(@Param("search") String search,
+                                                    @Param("ticketId") Long ticketId,
+                                                    @Param("visibility") String visibility,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    @Param("technologyIds") Integer[] technologyIds,
+                                                    @Param("matchAll") boolean matchAll);
+
+    /**
+     * Export counterpart of {@link TicketRepository#streamForExport}: status filters on the
+     * owning ticket, the date range on the entry date.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.changelog.tickets.repository.EntryExportRow(
+                e.id, t.id, t.slug, e.date, e.title, e.body, e.technologyIds, e.visibility, e.createdAt, e.updatedAt)
+            from Entry e join e.ticket t
+            where (:status is null or t.status = :status)
+              and (:visibility is null or e.visibility = :visibility)
+              and (:from is null or e.date >= :from)
+              and (:to is null or e.date <= :to)
+            order by e.id
+            """)
+    Stream<EntryExportRow> streamForExport(@Param("status") TicketStatus status,
+                                           @Param("visibility") String visibility,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
 }
@@ -0,0 +1,12 @@
+package com.changelog.tickets.repository;
+
+/**
+ * An entry matched by full-text search and its rank. An interface, as the native query's
+ * rows can't be mapped onto a record.
+ */
+public interface EntrySearchHit {
+
+    Long getId();
+
+    Float getRank();
+}
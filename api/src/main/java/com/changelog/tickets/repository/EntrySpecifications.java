@@ -0,0 +1,88 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.tickets.dto.TechnologyMatch;
+import com.changelog.tickets.dto.EntrySearchFilters;
+import com.changelog.tickets.model.Entry;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class EntrySpecifications {
+
+    private EntrySpecifications() {}
+
+    /**
+     * Every filter but the full-text search, which only the Postgres query serves. The search
+     * text is matched here with LIKE, for H2 and with full-text search disabled.
+     */
+    public static Specification<Entry> fromFilters(EntrySearchFilters filters) {
+        return (root, query, cb) -> {
+            var predicates = cb.conjunction();
+
+            if (filters == null) {
+                return predicates;
+            }
+
+            if (filters.getTicketId() != null) {
+                predicates = cb.and(predicates, cb.equal(root.get("ticket").get("id"), filters.getTicketId()));
+            }
+
+            if (filters.getVisibility() != null && !filters.getVisibility().isBlank()) {
+                predicates = cb.and(predicates, cb.equal(root.get("visibility"), filters.getVisibility()));
+            }
+
+            // Range predicates on date, so the (date DESC) index serves both the range and the order
+            if (filters.getFrom() != null) {
+                predicates = cb.and(predicates, cb.greaterThanOrEqualTo(root.get("date"), filters.getFrom()));
+            }
+
+            if (filters.getTo() != null) {
+                predicates = cb.and(predicates, cb.lessThanOrEqualTo(root.get("date"), filters.getTo()));
+            }
+
+            if (filters.getSearch() != null && !filters.getSearch().isBlank()) {
+                for (String token : filters.getSearch().trim().toLowerCase().split("\\s+")) {
+                    String like = "%" + token + "%";
+
+                    // AND across tokens, OR across fields
+                    predicates = cb.and(predicates, cb.or(
+                            cb.like(cb.lower(root.get("title")), like),
+                            cb.like(cb.lower(root.get("body")), like)
+                    ));
+                }
+            }
+
+            return predicates;
+        };
+    }
+
+    /**
+     * Keyset seek for (date DESC, id DESC) ordering: rows strictly after the cursor.
+     * A null cursor matches everything (first page).
+     */
+    public static Specification<Entry> datedBefore(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+
+            return cb.or(
+                    cb.lessThan(root.get("date"), cursor.date()),
+                    cb.and(
+                            cb.equal(root.get("date"), cursor.date()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+    /**
+     * Rows carrying all or any (by match, all when null) of the technology codes. No codes
+     * match everything.
+     */
+    public static Specification<Entry> hasTechnologies(Integer[] codes, TechnologyMatch match) {
+        return (root, query, cb) -> {
+            var technologies = Technologies.matching(cb, root.get("technologyIds"), codes, match);
+            return technologies != null ? technologies : cb.conjunction();
+        };
+    }
+}
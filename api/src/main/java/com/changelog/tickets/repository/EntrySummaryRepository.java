@@ -0,0 +1,22 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.Entry;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EntrySummaryView} reads for arbitrary specifications, which derived and annotated
+ * queries can't combine with a constructor projection.
+ */
+public interface EntrySummaryRepository {
+
+    List<EntrySummaryView> findSummaries(Specification<Entry> spec, Sort sort, int limit);
+
+    /**
+     * Rows matching the specification per technology code, in one grouped select.
+     */
+    Map<Integer, Long> countTechnologies(Specification<Entry> spec);
+}
@@ -0,0 +1,62 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class EntrySummaryRepositoryImpl implements EntrySummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EntrySummaryView> findSummaries(Specification<Entry> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EntrySummaryView> query = cb.createQuery(EntrySummaryView.class);
+        Root<Entry> root = query.from(Entry.class);
+        // Inner join, every entry has a ticket. Fetched in the same statement, as all entry lists are
+        Join<Entry, Ticket> ticket = root.join("ticket");
+
+        query.select(cb.construct(
+                EntrySummaryView.class,
+                root.get("id"),
+                root.get("date"),
+                root.get("title"),
+                root.get("excerpt"),
+                root.get("technologyIds"),
+                root.get("visibility"),
+                ticket.get("title"),
+                ticket.get("slug")
+        ));
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Map<Integer, Long> countTechnologies(Specification<Entry> spec) {
+        return Technologies.count(entityManager, Entry.class, spec);
+    }
+}
@@ -0,0 +1,19 @@
+package com.changelog.tickets.repository;
+
+import java.time.LocalDate;
+
+/**
+ * List-view projection of an entry and its ticket's title/slug. Carries the stored
+ * excerpt, never the body, so list queries don't read the TEXT column at all.
+ */
+public record EntrySummaryView(
+        Long id,
+        LocalDate date,
+        String title,
+        String excerpt,
+        Integer[] technologyIds,
+        String visibility,
+        String ticketTitle,
+        String ticketSlug
+) {
+}
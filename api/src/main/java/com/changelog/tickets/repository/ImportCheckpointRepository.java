@@ -0,0 +1,7 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
@@ -0,0 +1,9 @@
+package com.changelog.tickets.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A row still on a block ID, with the creation time its new time-ordered ID is derived from.
+ */
+public record RekeyCandidate(Long id, OffsetDateTime createdAt) {
+}
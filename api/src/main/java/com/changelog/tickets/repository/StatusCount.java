@@ -0,0 +1,6 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.TicketStatus;
+
+public record StatusCount(TicketStatus status, long count) {
+}
@@ -0,0 +1,71 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.dto.TechnologyMatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Criteria for the int[] technology_ids columns of tickets and entries, both GIN indexed.
+ */
+final class Technologies {
+
+    private Technologies() {}
+
+    /**
+     * One {@code technology_ids @> array[?]} per code, ANDed or ORed. Postgres combines them
+     * with bitmap scans of the GIN index, and H2 (which can't bind a whole array here) runs
+     * them too, unlike a single @> or && against an array parameter.
+     *
+     * @return null when there is nothing to filter on
+     */
+    static Predicate matching(CriteriaBuilder cb, Expression<Integer[]> column, Integer[] codes, TechnologyMatch match) {
+        if (codes == null || codes.length == 0) {
+            return null;
+        }
+
+        Predicate[] each = Arrays.stream(codes)
+                .map(code -> ((HibernateCriteriaBuilder) cb).arrayContains(column, code))
+                .toArray(Predicate[]::new);
+
+        return match == TechnologyMatch.ANY ? cb.or(each) : cb.and(each);
+    }
+
+    /**
+     * Matching rows per technology code. The database groups the rows by their whole array of
+     * codes, a short list since rows share stacks, which is then split up here. Hibernate 6
+     * has no unnest to group by single codes in a criteria query.
+     */
+    static <T> Map<Integer, Long> count(EntityManager entityManager, Class<T> type, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+        Expression<Integer[]> codes = root.get("technologyIds");
+
+        query.multiselect(codes, cb.count(root));
+
+        var predicate = spec.toPredicate(root, query, cb);
+        query.where(predicate == null ? cb.isNotNull(codes) : cb.and(predicate, cb.isNotNull(codes)));
+        query.groupBy(codes);
+
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long rows = row.get(1, Long.class);
+            // Distinct, so a code listed twice on a row still counts the row once
+            Arrays.stream(row.get(0, Integer[].class))
+                    .distinct()
+                    .forEach(code -> counts.merge(code, rows, Long::sum));
+        }
+        return counts;
+    }
+}
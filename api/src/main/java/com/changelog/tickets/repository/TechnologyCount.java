@@ -0,0 +1,21 @@
+package com.changelog.tickets.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A technology facet of a native full-text query: the technology code and its row count.
+ */
+public interface TechnologyCount {
+
+    Integer getId();
+
+    Long getCount();
+
+    static Map<Integer, Long> toMap(List<TechnologyCount> counts) {
+        Map<Integer, Long> byCode = new LinkedHashMap<>();
+        counts.forEach(count -> byCode.put(count.getId(), count.getCount()));
+        return byCode;
+    }
+}
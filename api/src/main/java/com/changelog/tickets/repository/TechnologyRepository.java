@@ -0,0 +1,23 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.Technology;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface TechnologyRepository extends JpaRepository<Technology, Integer> {
+
+    // lower() rather than a derived IgnoreCase (upper), to match uq_cl_technology_name
+    @Query("select t from Technology t where lower(t.name) = lower(:name)")
+    Optional<Technology> findByName(@Param("name") String name);
+
+    // Joins the caller's transaction. A name that's already there, in any casing, is left alone
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO cl_technology (name) VALUES (:name) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
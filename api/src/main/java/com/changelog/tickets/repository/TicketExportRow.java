@@ -0,0 +1,45 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.TicketStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Every column of a ticket, as written by the export. Not an entity, so streaming these
+ * leaves nothing behind in the persistence context. The query fills in technologyIds, which
+ * the export swaps for names, the only form in files.
+ */
+public record TicketExportRow(
+        Long id,
+        String slug,
+        String title,
+        TicketStatus status,
+        String visibility,
+        LocalDate startDate,
+        LocalDate endDate,
+        String[] technologies,
+        String background,
+        String learned,
+        String roadblocksSummary,
+        String metricsSummary,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        @JsonIgnore Integer[] technologyIds
+) {
+
+    // Selected by TicketRepository#streamForExport
+    public TicketExportRow(Long id, String slug, String title, TicketStatus status, String visibility,
+                           LocalDate startDate, LocalDate endDate, Integer[] technologyIds, String background,
+                           String learned, String roadblocksSummary, String metricsSummary,
+                           OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        this(id, slug, title, status, visibility, startDate, endDate, null, background, learned,
+                roadblocksSummary, metricsSummary, createdAt, updatedAt, technologyIds);
+    }
+
+    public TicketExportRow withTechnologies(String[] technologies) {
+        return new TicketExportRow(id, slug, title, status, visibility, startDate, endDate, technologies, background,
+                learned, roadblocksSummary, metricsSummary, createdAt, updatedAt, technologyIds);
+    }
+}
@@ -2,19 +2,207 @@ package com.changelog.tickets.repository;
 
 import com.changelog.tickets.model.Ticket;
 import com.changelog.tickets.model.TicketStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>,
+        TicketSummaryRepository {
 
-    Page<Ticket> findByStatus(TicketStatus status, Pageable pageable);
+    @Query("""
+            select new com.changelog.tickets.repository.TicketSummaryView(
+                t.id, t.slug, t.title, t.background, t.status, t.visibility, t.startDate, t.endDate, t.technologyIds)
+            from Ticket t
+            where t.status = :status
+            """)
+    List<TicketSummaryView> findSummariesByStatus(@Param("status") TicketStatus status, Pageable pageable);
 
-    long countByStatus(TicketStatus status);
+    // Unordered, callers put the rows back in the order of the ids they asked for
+    @Query("""
+            select new com.changelog.tickets.repository.TicketSummaryView(
+                t.id, t.slug, t.title, t.background, t.status, t.visibility, t.startDate, t.endDate, t.technologyIds)
+            from Ticket t
+            where t.id in :ids
+            """)
+    List<TicketSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // The change counter with max(updated_at), backed by the updated_at index: one statement, no scan
+    @Query("""
+            select new com.changelog.tickets.repository.ChangeWatermark(c.version, (select max(t.updatedAt) from Ticket t))
+            from ChangeCounter c
+            where c.name = com.changelog.tickets.model.ChangeCounter.TICKETS
+            """)
+    ChangeWatermark findWatermark();
+
+    @Query("select new com.changelog.tickets.repository.ChangeWatermark(1L, t.updatedAt) from Ticket t where t.id = :id")
+    Optional<ChangeWatermark> findWatermarkById(@Param("id") Long id);
+
+    // The ticket row plus its entries, as served by the slug lookup and the per-ticket entry lists
+    @Query("""
+            select new com.changelog.tickets.repository.ChangeWatermark(count(e), greatest(t.updatedAt, max(e.updatedAt)))
+            from Ticket t left join Entry e on e.ticket = t
+            where t.id = :id
+            group by t.id, t.updatedAt
+            """)
+    Optional<ChangeWatermark> findWatermarkWithEntriesById(@Param("id") Long id);
+
+    @Query("""
+            select new com.changelog.tickets.repository.ChangeWatermark(count(e), greatest(t.updatedAt, max(e.updatedAt)))
+            from Ticket t left join Entry e on e.ticket = t
+            where t.slug = :slug
+            group by t.id, t.updatedAt
+            """)
+    Optional<ChangeWatermark> findWatermarkWithEntriesBySlug(@Param("slug") String slug);
+
+    @Query("select new com.changelog.tickets.repository.StatusCount(t.status, count(t)) from Ticket t group by t.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("select t.id from Ticket t where t.id between :from and :to")
+    List<Long> findIdsBetween(@Param("from") long from, @Param("to") long to);
+
+    @Query("select t.id from Ticket t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Re-keyed rows leave the range, so callers can keep reading the first batch
+    @Query("""
+            select new com.changelog.tickets.repository.RekeyCandidate(t.id, t.createdAt)
+            from Ticket t
+            where t.id <= :maxId
+            order by t.createdAt, t.id
+            """)
+    List<RekeyCandidate> findRekeyCandidates(@Param("maxId") long maxId, Limit limit);
+
+    @Modifying
+    @Query(value = "UPDATE cl_ticket SET id = :newId WHERE id = :id", nativeQuery = true)
+    int updateId(@Param("id") long id, @Param("newId") long newId);
 
     Optional<Ticket> findBySlug(String slug);
 
+    /**
+     * All tickets matching the filters (null arguments are ignored), in primary key order so no
+     * sort is needed. The fetch size makes the driver read through a cursor instead of buffering
+     * the whole result, which PostgreSQL only does inside a transaction. Close the stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.changelog.tickets.repository.TicketExportRow(
+                t.id, t.slug, t.title, t.status, t.visibility, t.startDate, t.endDate, t.technologyIds,
+                t.background, t.learned, t.roadblocksSummary, t.metricsSummary, t.createdAt, t.updatedAt)
+            from Ticket t
+            where (:status is null or t.status = :status)
+              and (:visibility is null or t.visibility = :visibility)
+              and (:from is null or t.startDate >= :from)
+              and (:to is null or t.startDate <= :to)
+            order by t.id
+            """)
+    Stream<TicketExportRow> streamForExport(@Param("status") TicketStatus status,
+                                            @Param("visibility") String visibility,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    /**
+     * Ranked full-text search over the trigger-maintained search_vector (Postgres only).
+     * Null filter arguments are ignored, as is an empty technology code array, otherwise tickets
+     * carry all (matchAll) or any of them. The pageable must be unsorted, ordering is by rank.
+     * Returns ids only, load the rows with {@link #findSummariesByIdIn}. Hibernate can't build
+     * the summary record from native rows (enum, date and array columns come back raw).
+     */
+    @Query(value = """
+            SELECT t.id FROM cl_ticket t
+            WHERE t.search_vector @@ websearch_to_tsquery('english', :search)
+              AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar))
+              AND (CAST(:statusNot AS varchar) IS NULL OR t.status <> CAST(:statusNot AS varchar))
+              AND (CAST(:visibility AS varchar) IS NULL OR t.visibility = CAST(:visibility AS varchar))
+              AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                   OR (CAST(:matchAll AS boolean) AND t.technology_ids @> CAST(:technologyIds AS int[]))
+                   OR (NOT CAST(:matchAll AS boolean) AND t.technology_ids && CAST(:technologyIds AS int[])))
+            ORDER BY ts_rank_cd(t.search_vector, websearch_to_tsquery('english', :search)) DESC,
+                     t.start_date DESC, t.id DESC
+            """,
+            countQuery = """
+            SELECT count(*) FROM cl_ticket t
+            WHERE t.search_vector @@ websearch_to_tsquery('english', :search)
+              AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar))
+              AND (CAST(:statusNot AS varchar) IS NULL OR t.status <> CAST(:statusNot AS varchar))
+              AND (CAST(:visibility AS varchar) IS NULL OR t.visibility = CAST(:visibility AS varchar))
+              AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                   OR (CAST(:matchAll AS boolean) AND t.technology_ids @> CAST(:technologyIds AS int[]))
+                   OR (NOT CAST(:matchAll AS boolean) AND t.technology_ids && CAST(:technologyIds AS int[])))
+            """,
+            nativeQuery = true)
+    Page<Long> searchFullTextIds(@Param("search") String search,
+                                 @Param("status") String status,
+                                 @Param("statusNot") String statusNot,
+                                 @Param("visibility") String visibility,
+                                 @Param("technologyIds") Integer[] technologyIds,
+                                 @Param("matchAll") boolean matchAll,
+                                 Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #searchFullTextIds}: ordered by (start_date, id) so pages can seek
+     * on idx_cl_ticket_start_date instead of ranking. Null cursor arguments fetch the first page.
+     */
+    @Query(value = """
+            SELECT t.id FROM cl_ticket t
+            WHERE t.search_vector @@ websearch_to_tsquery('english', :search)
+              AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar))
+              AND (CAST(:statusNot AS varchar) IS NULL OR t.status <> CAST(:statusNot AS varchar))
+              AND (CAST(:visibility AS varchar) IS NULL OR t.visibility = CAST(:visibility AS varchar))
+              AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                   OR (CAST(:matchAll AS boolean) AND t.technology_ids @> CAST(:technologyIds AS int[]))
+                   OR (NOT CAST(:matchAll AS boolean) AND t.technology_ids && CAST(:technologyIds AS int[])))
+              AND (CAST(:cursorDate AS date) IS NULL
+                   OR t.start_date < CAST(:cursorDate AS date)
+                   OR (t.start_date = CAST(:cursorDate AS date) AND t.id < :cursorId))
+            ORDER BY t.start_date DESC, t.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<Long> searchFullTextIdsBefore(@Param("search") String search,
+                                       @Param("status") String status,
+                                       @Param("statusNot") String statusNot,
+                                       @Param("visibility") String visibility,
+                                       @Param("technologyIds") Integer[] technologyIds,
+                                       @Param("matchAll") boolean matchAll,
+                                       @Param("cursorDate") LocalDate cursorDate,
+                                       @Param("cursorId") Long cursorId,
+                                       @Param("limit") int limit);
+
+    /**
+     * Technology facets of {@link #searchFullTextIds}, the same filters grouped by each element
+     * of technology_ids.
+     */
+    @Query(value = """
+            SELECT tech.technology_id AS id, count(DISTINCT t.id) AS count
+            FROM cl_ticket t CROSS JOIN LATERAL unnest(t.technology_ids) AS tech(technology_id)
+            WHERE t.search_vector @@ websearch_to_tsquery('english', :search)
+              AND (CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar))
+              AND (CAST(:statusNot AS varchar) IS NULL OR t.status <> CAST(:statusNot AS varchar))
+              AND (CAST(:visibility AS varchar) IS NULL OR t.visibility = CAST(:visibility AS varchar))
+              AND (cardinality(CAST(:technologyIds AS int[])) = 0
+                   OR (CAST(:matchAll AS boolean) AND t.technology_ids @> CAST(:technologyIds AS int[]))
+                   OR (NOT CAST(:matchAll AS boolean) AND t.technology_ids && CAST(:technologyIds AS int[])))
+            GROUP BY tech.technology_id
+            """,
+            nativeQuery = true)
+    List<TechnologyCount> countFullTextTechnologies(@Param("search") String search,
+                                                    @Param("status") String status,
+                                                    @Param("statusNot") String statusNot,
+                                                    @Param("visibility") String visibility,
+                                                    @Param("technologyIds") Integer[] technologyIds,
+                                                    @Param("matchAll") boolean matchAll);
 }
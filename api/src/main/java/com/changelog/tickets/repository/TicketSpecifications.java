@@ -1,5 +1,7 @@
 package com.changelog.tickets.repository;
 
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.tickets.dto.TechnologyMatch;
 import com.changelog.tickets.dto.TicketFilters;
 import com.changelog.tickets.model.Ticket;
 import org.springframework.data.jpa.domain.Specification;
@@ -51,4 +53,35 @@ public final class TicketSpecifications {
             return predicates;
         };
     }
+
+    /**
+     * Keyset seek for (startDate DESC, id DESC) ordering: rows strictly after the cursor.
+     * A null cursor matches everything (first page).
+     */
+    public static Specification<Ticket> startedBefore(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+
+            return cb.or(
+                    cb.lessThan(root.get("startDate"), cursor.date()),
+                    cb.and(
+                            cb.equal(root.get("startDate"), cursor.date()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+    /**
+     * Rows carrying all or any (by match, all when null) of the technology codes. No codes
+     * match everything.
+     */
+    public static Specification<Ticket> hasTechnologies(Integer[] codes, TechnologyMatch match) {
+        return (root, query, cb) -> {
+            var technologies = Technologies.matching(cb, root.get("technologyIds"), codes, match);
+            return technologies != null ? technologies : cb.conjunction();
+        };
+    }
 }
@@ -0,0 +1,26 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.Ticket;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Specification queries that select {@link TicketSummaryView} columns only. The
+ * JpaSpecificationExecutor methods always hydrate the whole entity.
+ */
+public interface TicketSummaryRepository {
+
+    Page<TicketSummaryView> findSummaries(Specification<Ticket> spec, Pageable pageable);
+
+    List<TicketSummaryView> findSummaries(Specification<Ticket> spec, Sort sort, int limit);
+
+    /**
+     * Rows matching the specification per technology code, in one grouped select.
+     */
+    Map<Integer, Long> countTechnologies(Specification<Ticket> spec);
+}
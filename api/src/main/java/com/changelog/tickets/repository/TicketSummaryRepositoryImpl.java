@@ -0,0 +1,95 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class TicketSummaryRepositoryImpl implements TicketSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TicketSummaryView> findSummaries(Specification<Ticket> spec, Pageable pageable) {
+        TypedQuery<TicketSummaryView> query = summaryQuery(spec, pageable.getSort());
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        // Skips the count when the first page isn't full
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TicketSummaryView> findSummaries(Specification<Ticket> spec, Sort sort, int limit) {
+        return summaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Map<Integer, Long> countTechnologies(Specification<Ticket> spec) {
+        return Technologies.count(entityManager, Ticket.class, spec);
+    }
+
+    private TypedQuery<TicketSummaryView> summaryQuery(Specification<Ticket> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryView> query = cb.createQuery(TicketSummaryView.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        query.select(cb.construct(
+                TicketSummaryView.class,
+                root.get("id"),
+                root.get("slug"),
+                root.get("title"),
+                root.get("background"),
+                root.get("status"),
+                root.get("visibility"),
+                root.get("startDate"),
+                root.get("endDate"),
+                root.get("technologyIds")
+        ));
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Ticket> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        query.select(cb.count(root));
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
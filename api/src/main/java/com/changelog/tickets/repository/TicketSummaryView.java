@@ -0,0 +1,22 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.TicketStatus;
+
+import java.time.LocalDate;
+
+/**
+ * List-view projection of a ticket. Leaves out learned, roadblocks_summary and
+ * metrics_summary, which only the detail view shows.
+ */
+public record TicketSummaryView(
+        Long id,
+        String slug,
+        String title,
+        String background,
+        TicketStatus status,
+        String visibility,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer[] technologyIds
+) {
+}
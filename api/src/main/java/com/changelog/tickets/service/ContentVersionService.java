@@ -0,0 +1,26 @@
+package com.changelog.tickets.service;
+
+import com.changelog.tickets.dto.ContentVersion;
+
+import java.util.Optional;
+
+/**
+ * Versions of the public read responses, for conditional GETs. Each costs one or two
+ * index lookups, far cheaper than loading and serializing the content. Empty when the
+ * ticket doesn't exist, so the regular read produces the 404.
+ */
+public interface ContentVersionService {
+
+    ContentVersion ofTickets();
+
+    // Entry lists carry ticket titles and slugs, so they change with either table
+    ContentVersion ofTicketsAndEntries();
+
+    ContentVersion ofDashboard();
+
+    Optional<ContentVersion> ofTicket(Long id);
+
+    Optional<ContentVersion> ofTicketWithEntries(Long id);
+
+    Optional<ContentVersion> ofTicketWithEntries(String slug);
+}
@@ -0,0 +1,51 @@
+package com.changelog.tickets.service;
+
+import com.changelog.tickets.dto.ContentVersion;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ContentVersionServiceImpl implements ContentVersionService {
+
+    private final TicketRepository ticketRepository;
+    private final EntryRepository entryRepository;
+
+    // Table-wide versions pair the indexed max(updated_at) with the change counter the deletes
+    // bump, a count(*) per request would scan both tables before the response is even built
+    @Override
+    public ContentVersion ofTickets() {
+        return ContentVersion.of(ticketRepository.findWatermark());
+    }
+
+    @Override
+    public ContentVersion ofTicketsAndEntries() {
+        return ContentVersion.of(ticketRepository.findWatermark(), entryRepository.findWatermark());
+    }
+
+    @Override
+    public ContentVersion ofDashboard() {
+        // logsThisWeek counts back from today, so the page changes at midnight on its own
+        return ofTicketsAndEntries().qualifiedBy(Long.toString(LocalDate.now().toEpochDay(), 36));
+    }
+
+    @Override
+    public Optional<ContentVersion> ofTicket(Long id) {
+        return ticketRepository.findWatermarkById(id).map(ContentVersion::of);
+    }
+
+    @Override
+    public Optional<ContentVersion> ofTicketWithEntries(Long id) {
+        return ticketRepository.findWatermarkWithEntriesById(id).map(ContentVersion::of);
+    }
+
+    @Override
+    public Optional<ContentVersion> ofTicketWithEntries(String slug) {
+        return ticketRepository.findWatermarkWithEntriesBySlug(slug).map(ContentVersion::of);
+    }
+}
@@ -1,64 +1,174 @@
 package com.changelog.tickets.service;
 
+import com.changelog.common.sql.SqlStatistics;
+import com.changelog.common.util.SingleFlight;
+import com.changelog.config.ChangelogProperties;
 import com.changelog.tickets.dto.DashboardHomeResponse;
 import com.changelog.tickets.dto.DashboardMetrics;
+import com.changelog.tickets.dto.EntrySummaryResponse;
+import com.changelog.tickets.dto.TicketSummaryResponse;
 import com.changelog.tickets.mapper.EntryMapper;
 import com.changelog.tickets.mapper.TicketMapper;
+import com.changelog.tickets.metrics.DashboardMetricsStore;
 import com.changelog.tickets.model.TicketStatus;
 import com.changelog.tickets.repository.EntryRepository;
 import com.changelog.tickets.repository.TicketRepository;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDate;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+@Timed("changelog.service")
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
+    // Active tickets, recent entries, metrics
+    private static final int SECTIONS = 3;
+
     private final TicketRepository ticketRepository;
     private final EntryRepository entryRepository;
     private final TicketMapper ticketMapper;
     private final EntryMapper entryMapper;
+    private final DashboardMetricsStore metricsStore;
+
+    // Every visitor asks for the same page, so concurrent requests share one execution
+    private final SingleFlight<String, DashboardHomeResponse> homePageLoads = new SingleFlight<>();
+
+    // Single-flight means one load at a time, so one thread per section is enough and
+    // the sections never take more than that many connections
+    private final AsyncTaskExecutor sectionExecutor;
+    private final Duration sectionTimeout;
+
+    public DashboardServiceImpl(TicketRepository ticketRepository,
+                                EntryRepository entryRepository,
+                                TicketMapper ticketMapper,
+                                EntryMapper entryMapper,
+                                DashboardMetricsStore metricsStore,
+                                ChangelogProperties properties,
+                                Environment environment) {
+        this.ticketRepository = ticketRepository;
+        this.entryRepository = entryRepository;
+        this.ticketMapper = ticketMapper;
+        this.entryMapper = entryMapper;
+        this.metricsStore = metricsStore;
+        this.sectionExecutor = sectionExecutor(Threading.VIRTUAL.isActive(environment));
+        this.sectionTimeout = properties.getDashboard().getSectionTimeout();
+    }
 
+    // Not transactional, callers waiting on a shared load shouldn't each hold a connection
     @Override
-    @Transactional
     public DashboardHomeResponse getHomePage() {
-        // Query 1: active tickets list (bounded)
-        var activeTicketsPage = ticketRepository.findByStatus(
-                TicketStatus.ACTIVE,
-                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"))
-        );
+        return homePageLoads.execute("home", this::loadHomePage);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Virtual threads aren't pooled, there is nothing to stop
+        if (sectionExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs the sections concurrently, each query in its own read-only repository transaction
+     * on its own connection, so the page takes about as long as its slowest section. A section
+     * that fails or misses the deadline is left empty and the page is marked partial.
+     */
+    private DashboardHomeResponse loadHomePage() {
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
 
-        // Query 2: recent entries list (bounded)
-        var recentEntriesPage = entryRepository.findAll(
-                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"))
-        );
+        // Active tickets list (bounded, summary columns only)
+        Future<List<TicketSummaryResponse>> activeTickets = submit(() -> ticketRepository.findSummariesByStatus(
+                        TicketStatus.ACTIVE,
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate")))
+                .stream().map(ticketMapper::toSummary).toList());
 
-        // Query 3: metrics (counts + last update)
-        LocalDate oneWeekAgo = LocalDate.now().minusDays(7);
+        // Recent entries list (bounded, excerpts instead of bodies)
+        Future<List<EntrySummaryResponse>> recentEntries = submit(() -> entryRepository.findLatestSummaries(Limit.of(5))
+                .stream().map(entryMapper::toSummary).toList());
 
-        //TODO bring back all tickets and count in memory
-        long activeCount = ticketRepository.countByStatus(TicketStatus.ACTIVE);
-        long completedCount = ticketRepository.countByStatus(TicketStatus.COMPLETED);
-        long logsThisWeek = entryRepository.countByDateAfter(oneWeekAgo);
+        // Counters are maintained on writes, this only queries before the first recount
+        Future<DashboardMetrics> metrics = submit(metricsStore::snapshot);
 
-        LocalDate lastUpdate = recentEntriesPage.getContent().isEmpty()
-                ? null
-                : recentEntriesPage.getContent().get(0).getDate();
+        Section<List<TicketSummaryResponse>> tickets = await("activeTickets", activeTickets, deadline, List.of());
+        Section<List<EntrySummaryResponse>> entries = await("recentEntries", recentEntries, deadline, List.of());
+        Section<DashboardMetrics> counts = await("metrics", metrics, deadline, DashboardMetrics.builder().build());
 
         return DashboardHomeResponse.builder()
-                .activeTickets(activeTicketsPage.getContent().stream().map(ticketMapper::toSummary).toList())
-                .recentEntries(recentEntriesPage.getContent().stream().map(entryMapper::toSummary).toList())
-                .metrics(DashboardMetrics.builder()
-                        .activeTickets(activeCount)
-                        .completedTickets(completedCount)
-                        .logsThisWeek(logsThisWeek)
-                        .lastUpdate(lastUpdate)
-                        .build())
+                .activeTickets(tickets.value())
+                .recentEntries(entries.value())
+                .metrics(counts.value())
+                .partial(tickets.missing() || entries.missing() || counts.missing())
                 .build();
     }
+
+    private <T> Future<T> submit(Supplier<T> section) {
+        // Other threads can't see what the caller's transaction hasn't committed, so a caller
+        // already inside one gets its sections run in it, one after another
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            FutureTask<T> task = new FutureTask<>(section::get);
+            task.run();
+            return task;
+        }
+        return sectionExecutor.submit(section::get);
+    }
+
+    private static <T> Section<T> await(String name, Future<T> future, long deadline, T fallback) {
+        try {
+            return new Section<>(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS), false);
+        } catch (TimeoutException ex) {
+            // The statement may still run to completion, but nobody waits for it any more
+            future.cancel(true);
+            log.warn("Dashboard section {} timed out, serving it empty", name);
+        } catch (ExecutionException ex) {
+            log.warn("Dashboard section {} failed, serving it empty", name, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return new Section<>(fallback, true);
+    }
+
+    // Follows spring.threads.virtual.enabled, like the request threads calling this. Section
+    // queries are counted towards the request's SqlStatistics.
+    private static AsyncTaskExecutor sectionExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-section-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(SECTIONS);
+            executor.setTaskDecorator(SqlStatistics::propagate);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(SECTIONS);
+        executor.setMaxPoolSize(SECTIONS);
+        executor.setThreadNamePrefix("dashboard-section-");
+        executor.setDaemon(true);
+        executor.setTaskDecorator(SqlStatistics::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    private record Section<T>(T value, boolean missing) {
+    }
 }
@@ -3,12 +3,24 @@ package com.changelog.tickets.service;
 import com.changelog.tickets.dto.*;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface EntryService {
 
     EntriesPageResponse getEntries(Pageable pageable);
 
+    EntriesPageResponse getEntries(String cursor, int size);
+
+    /**
+     * Keyset pages of matching entries, newest first, or by relevance when full-text search
+     * is enabled and there is search text. Cursors of one ordering are invalid in the other.
+     */
+    EntriesPageResponse searchEntries(EntrySearchFilters filters, String cursor, int size);
+
     EntrySummaryResponse createEntry(CreateEntryRequest createEntryRequest);
 
+    BulkEntryResponse createEntries(List<CreateEntryRequest> createEntryRequests);
+
     EntryDetailResponse updateEntry(Long id, UpdateEntryRequest updateEntryRequest);
 
     void deleteEntry(Long id);
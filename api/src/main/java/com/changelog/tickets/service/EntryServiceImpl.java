@@ -1,41 +1,78 @@
 package com.changelog.tickets.service;
 
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.common.util.RankedCursor;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
 import com.changelog.tickets.dto.*;
+import com.changelog.tickets.event.EntryDateChangedEvent;
 import com.changelog.tickets.exception.EntryNotFoundException;
+import com.changelog.tickets.exception.InvalidBulkRequestException;
 import com.changelog.tickets.exception.TicketNotFoundException;
 import com.changelog.tickets.mapper.EntryMapper;
+import com.changelog.tickets.model.ChangeCounter;
 import com.changelog.tickets.model.Entry;
 import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.repository.ChangeCounterRepository;
 import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.EntrySearchHit;
+import com.changelog.tickets.repository.EntrySpecifications;
+import com.changelog.tickets.repository.EntrySummaryView;
+import com.changelog.tickets.repository.TechnologyCount;
 import com.changelog.tickets.repository.TicketRepository;
 import com.changelog.tickets.util.EntryIdGenerator;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed("changelog.service")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EntryServiceImpl implements EntryService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "date", "id");
+
     private final EntryRepository entryRepository;
     private final TicketRepository ticketRepository;
+    private final ChangeCounterRepository changeCounterRepository;
     private final EntryIdGenerator entryIdGenerator;
     private final EntryMapper entryMapper;
+    private final TicketDetailCache ticketDetailCache;
+    private final TechnologyDictionary technologyDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangelogProperties properties;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public EntriesPageResponse getEntries(Pageable pageable) {
 
-        Page<Entry> page;
-
-        page = entryRepository.findAll(pageable);
+        Page<EntrySummaryView> page = entryRepository.findSummaries(pageable);
 
         List<EntrySummaryResponse> summaries = page.getContent().stream()
                 .map(entryMapper::toSummary)
@@ -50,6 +87,61 @@ public class EntryServiceImpl implements EntryService {
                 .build();
     }
 
+    @Override
+    @Transactional
+    public EntriesPageResponse getEntries(String cursor, int size) {
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // One extra row tells us whether there is a next page without a count query
+        List<EntrySummaryView> entries = after == null
+                ? entryRepository.findLatestSummaries(Limit.of(size + 1))
+                : entryRepository.findLatestSummariesBefore(after.date(), after.id(), Limit.of(size + 1));
+
+        boolean hasNext = entries.size() > size;
+        List<EntrySummaryView> content = hasNext ? entries.subList(0, size) : entries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            EntrySummaryView last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.date(), last.id()).encode();
+        }
+
+        return EntriesPageResponse.builder()
+                .entries(content.stream().map(entryMapper::toSummary).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public EntriesPageResponse searchEntries(EntrySearchFilters filters, String cursor, int size) {
+        if (useFullTextSearch(filters)) {
+            return searchFullText(filters, RankedCursor.decode(cursor), size);
+        }
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        var spec = specification(filters).and(EntrySpecifications.datedBefore(after));
+        List<EntrySummaryView> entries = entryRepository.findSummaries(spec, KEYSET_SORT, size + 1);
+
+        boolean hasNext = entries.size() > size;
+        List<EntrySummaryView> content = hasNext ? entries.subList(0, size) : entries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            EntrySummaryView last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.date(), last.id()).encode();
+        }
+
+        return EntriesPageResponse.builder()
+                .entries(content.stream().map(entryMapper::toSummary).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .technologyFacets(technologyFacets(filters))
+                .build();
+    }
+
     @Override
     @Transactional
     public EntrySummaryResponse createEntry(CreateEntryRequest request) {
@@ -62,41 +154,245 @@ public class EntryServiceImpl implements EntryService {
                 .date(request.getDate())
                 .title(request.getTitle())
                 .body(request.getBody())
-                .technologies(request.getTechnologies())
+                .technologyIds(technologyDictionary.codesFor(request.getTechnologies()))
                 .visibility(request.getVisibility())
                 .build();
 
         Entry savedEntry = entryRepository.save(entry);
+        ticketDetailCache.evict(ticket.getId());
+        eventPublisher.publishEvent(new EntryDateChangedEvent(savedEntry.getId(), null, savedEntry.getDate()));
 
         log.info("Created entry {} for ticket {}", savedEntry.getId(), savedEntry.getTicket().getId());
 
         return entryMapper.toSummary(savedEntry);
     }
 
+    /**
+     * Checks every item up front (field constraints, then all ticket IDs in one query), reserves
+     * IDs for the valid ones in one lease and persists them in flushSize chunks, which Hibernate
+     * sends as JDBC batches. Tickets are referenced by proxy, never loaded.
+     */
+    @Override
+    @Transactional
+    public BulkEntryResponse createEntries(List<CreateEntryRequest> requests) {
+        ChangelogProperties.Bulk bulk = properties.getBulk();
+        if (requests.size() > bulk.getMaxEntries()) {
+            throw new InvalidBulkRequestException("At most " + bulk.getMaxEntries()
+                    + " entries per request, got " + requests.size());
+        }
+
+        BulkEntryResult[] results = new BulkEntryResult[requests.size()];
+        Map<Integer, Long> ticketIdByIndex = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validationError(requests.get(i));
+            if (error != null) {
+                results[i] = BulkEntryResult.builder().index(i).error(error).build();
+            } else {
+                ticketIdByIndex.put(i, Long.valueOf(requests.get(i).getTicketId()));
+            }
+        }
+
+        Set<Long> knownTickets = ticketIdByIndex.isEmpty()
+                ? Set.of()
+                : new HashSet<>(ticketRepository.findExistingIds(new HashSet<>(ticketIdByIndex.values())));
+        ticketIdByIndex.entrySet().removeIf(item -> {
+            if (knownTickets.contains(item.getValue())) {
+                return false;
+            }
+            results[item.getKey()] = BulkEntryResult.builder()
+                    .index(item.getKey())
+                    .error("Ticket with id " + item.getValue() + " not found")
+                    .build();
+            return true;
+        });
+
+        long[] ids = ticketIdByIndex.isEmpty() ? new long[0] : entryIdGenerator.generateIds(ticketIdByIndex.size());
+        List<Entry> pending = new ArrayList<>(bulk.getFlushSize());
+        List<EntryDateChangedEvent> events = new ArrayList<>(ids.length);
+        int next = 0;
+        for (Map.Entry<Integer, Long> item : ticketIdByIndex.entrySet()) {
+            CreateEntryRequest request = requests.get(item.getKey());
+            Entry entry = Entry.builder()
+                    .id(ids[next++])
+                    .ticket(ticketRepository.getReferenceById(item.getValue()))
+                    .date(request.getDate())
+                    .title(request.getTitle())
+                    .body(request.getBody())
+                    .technologyIds(technologyDictionary.codesFor(request.getTechnologies()))
+                    .visibility(request.getVisibility())
+                    .build();
+            pending.add(entry);
+            events.add(new EntryDateChangedEvent(entry.getId(), null, entry.getDate()));
+            results[item.getKey()] = BulkEntryResult.builder().index(item.getKey()).entryId(entry.getId()).build();
+
+            if (pending.size() == bulk.getFlushSize()) {
+                persistAndDetach(pending);
+            }
+        }
+        persistAndDetach(pending);
+
+        ticketIdByIndex.values().stream().distinct().forEach(ticketDetailCache::evict);
+        events.forEach(eventPublisher::publishEvent);
+
+        log.info("Bulk created {} entries, rejected {}", ids.length, requests.size() - ids.length);
+
+        return BulkEntryResponse.builder()
+                .created(ids.length)
+                .rejected(requests.size() - ids.length)
+                .results(List.of(results))
+                .build();
+    }
+
     @Override
     @Transactional
     public EntryDetailResponse updateEntry(Long id, UpdateEntryRequest request) {
         Entry entry = entryRepository.findById(id).orElseThrow(() -> new EntryNotFoundException(id));
+        LocalDate previousDate = entry.getDate();
 
         entry.setTitle(request.getTitle());
         entry.setDate(request.getDate());
         entry.setBody(request.getBody());
-        entry.setTechnologies(request.getTechnologies());
+        entry.setTechnologyIds(technologyDictionary.codesFor(request.getTechnologies()));
         entry.setVisibility(request.getVisibility());
 
         Entry savedEntry = entryRepository.save(entry);
+        ticketDetailCache.evict(savedEntry.getTicket().getId());
+        eventPublisher.publishEvent(new EntryDateChangedEvent(savedEntry.getId(), previousDate, savedEntry.getDate()));
 
         log.info("Updated entry {}", savedEntry.getId());
 
         return entryMapper.toDetailResponse(savedEntry);
     }
 
+    @Transactional
     public void deleteEntry(Long id) {
         Entry entry = entryRepository.findById(id).orElseThrow(() -> new EntryNotFoundException(id));
 
         entryRepository.delete(entry);
+        // A delete leaves max(updated_at) alone, the list validators see it through the counter
+        changeCounterRepository.bump(ChangeCounter.ENTRIES);
+        ticketDetailCache.evict(entry.getTicket().getId());
+        eventPublisher.publishEvent(new EntryDateChangedEvent(id, entry.getDate(), null));
 
         log.info("Deleted entry {}", id);
     }
 
+    // Flushing sends the chunk as JDBC batches, clearing keeps later flushes from re-checking it
+    private void persistAndDetach(List<Entry> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        entryRepository.saveAll(pending);
+        entityManager.flush();
+        entityManager.clear();
+        pending.clear();
+    }
+
+    // The bean constraints, plus what the table requires and single creates leave to the database
+    private String validationError(CreateEntryRequest request) {
+        List<String> errors = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (request.getDate() == null) {
+            errors.add("date: must not be null");
+        }
+        if (request.getVisibility() == null) {
+            errors.add("visibility: must not be null");
+        }
+        if (request.getTicketId() != null && !request.getTicketId().matches("\\d{1,18}")) {
+            errors.add("ticketId: must be a number");
+        }
+        return errors.isEmpty() ? null : String.join("; ", errors);
+    }
+
+    private boolean useFullTextSearch(EntrySearchFilters filters) {
+        return properties.getSearch().isFullTextEnabled()
+                && filters != null
+                && filters.getSearch() != null
+                && !filters.getSearch().isBlank();
+    }
+
+    private EntriesPageResponse searchFullText(EntrySearchFilters filters, RankedCursor after, int size) {
+        List<EntrySearchHit> hits = entryRepository.searchFullText(
+                filters.getSearch().trim(),
+                filters.getTicketId(),
+                visibilityOrNull(filters),
+                filters.getFrom(),
+                filters.getTo(),
+                technologyCodes(filters),
+                filters.getTechnologyMatch() != TechnologyMatch.ANY,
+                after == null ? null : after.rank(),
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                size + 1
+        );
+
+        boolean hasNext = hits.size() > size;
+        List<EntrySearchHit> page = hasNext ? hits.subList(0, size) : hits;
+
+        // The native query ranks ids only, the summaries come back unordered
+        Map<Long, EntrySummaryView> byId = page.isEmpty()
+                ? Map.of()
+                : entryRepository.findSummariesByIdIn(page.stream().map(EntrySearchHit::getId).toList()).stream()
+                        .collect(Collectors.toMap(EntrySummaryView::id, Function.identity()));
+
+        List<EntrySummaryView> content = page.stream()
+                .map(hit -> byId.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        // Seek from the last entry shown, a hit deleted between the two reads has no date to seek on
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            EntrySummaryView last = content.get(content.size() - 1);
+            float rank = page.stream().filter(hit -> hit.getId().equals(last.id())).findFirst().orElseThrow().getRank();
+            nextCursor = new RankedCursor(rank, last.date(), last.id()).encode();
+        }
+
+        return EntriesPageResponse.builder()
+                .entries(content.stream().map(entryMapper::toSummary).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .technologyFacets(technologyFacets(filters))
+                .build();
+    }
+
+    // Over every matching entry, so cursor pages repeat the same counts
+    private Map<String, Long> technologyFacets(EntrySearchFilters filters) {
+        if (filters == null || !filters.isFacets()) {
+            return null;
+        }
+
+        if (useFullTextSearch(filters)) {
+            return technologyDictionary.byName(TechnologyCount.toMap(entryRepository.countFullTextTechnologies(
+                    filters.getSearch().trim(),
+                    filters.getTicketId(),
+                    visibilityOrNull(filters),
+                    filters.getFrom(),
+                    filters.getTo(),
+                    technologyCodes(filters),
+                    filters.getTechnologyMatch() != TechnologyMatch.ANY
+            )));
+        }
+
+        return technologyDictionary.byName(entryRepository.countTechnologies(specification(filters)));
+    }
+
+    private static String visibilityOrNull(EntrySearchFilters filters) {
+        return filters.getVisibility() == null || filters.getVisibility().isBlank()
+                ? null
+                : filters.getVisibility();
+    }
+
+    private Specification<Entry> specification(EntrySearchFilters filters) {
+        var spec = EntrySpecifications.fromFilters(filters);
+        return filters == null ? spec
+                : spec.and(EntrySpecifications.hasTechnologies(technologyCodes(filters), filters.getTechnologyMatch()));
+    }
+
+    // Empty rather than null, the native queries test cardinality() = 0
+    private Integer[] technologyCodes(EntrySearchFilters filters) {
+        return technologyDictionary.existingCodes(filters.getTechnologies());
+    }
 }
@@ -0,0 +1,19 @@
+package com.changelog.tickets.service;
+
+import com.changelog.tickets.dto.ExportFilters;
+import com.changelog.tickets.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    /**
+     * Writes every matching ticket to {@code out} and flushes it, leaving it open.
+     *
+     * @return the number of rows written
+     */
+    long exportTickets(ExportFilters filters, ExportFormat format, OutputStream out) throws IOException;
+
+    long exportEntries(ExportFilters filters, ExportFormat format, OutputStream out) throws IOException;
+}
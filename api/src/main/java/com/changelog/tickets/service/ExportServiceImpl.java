@@ -0,0 +1,109 @@
+package com.changelog.tickets.service;
+
+import com.changelog.common.util.Csv;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.dto.ExportFilters;
+import com.changelog.tickets.dto.ExportFormat;
+import com.changelog.tickets.repository.EntryExportRow;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketExportRow;
+import com.changelog.tickets.repository.TicketRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams rows from a database cursor straight to the output, one row at a time, so memory use
+ * doesn't depend on how much is exported. The read-only transaction (and its connection) is
+ * held until the last row is written, however slowly the client reads.
+ */
+@Timed("changelog.service")
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final String[] TICKET_COLUMNS = {
+            "id", "slug", "title", "status", "visibility", "startDate", "endDate", "technologies",
+            "background", "learned", "roadblocksSummary", "metricsSummary", "createdAt", "updatedAt"
+    };
+
+    private static final String[] ENTRY_COLUMNS = {
+            "id", "ticketId", "ticketSlug", "date", "title", "body", "technologies", "visibility",
+            "createdAt", "updatedAt"
+    };
+
+    private final TicketRepository ticketRepository;
+    private final EntryRepository entryRepository;
+    private final TechnologyDictionary technologyDictionary;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTickets(ExportFilters filters, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TicketExportRow> rows = ticketRepository.streamForExport(
+                        filters.getStatus(), filters.getVisibility(), filters.getFrom(), filters.getTo())
+                .map(row -> row.withTechnologies(technologyDictionary.names(row.technologyIds())))) {
+            long written = write(rows, TicketExportRow.class, format, TICKET_COLUMNS, row -> new Object[]{
+                    row.id(), row.slug(), row.title(), row.status(), row.visibility(), row.startDate(),
+                    row.endDate(), row.technologies(), row.background(), row.learned(),
+                    row.roadblocksSummary(), row.metricsSummary(), row.createdAt(), row.updatedAt()
+            }, out);
+            log.info("Exported {} tickets as {}, filters {}", written, format, filters);
+            return written;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEntries(ExportFilters filters, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EntryExportRow> rows = entryRepository.streamForExport(
+                        filters.getStatus(), filters.getVisibility(), filters.getFrom(), filters.getTo())
+                .map(row -> row.withTechnologies(technologyDictionary.names(row.technologyIds())))) {
+            long written = write(rows, EntryExportRow.class, format, ENTRY_COLUMNS, row -> new Object[]{
+                    row.id(), row.ticketId(), row.ticketSlug(), row.date(), row.title(), row.body(),
+                    row.technologies(), row.visibility(), row.createdAt(), row.updatedAt()
+            }, out);
+            log.info("Exported {} entries as {}, filters {}", written, format, filters);
+            return written;
+        }
+    }
+
+    private <T> long write(Stream<T> rows, Class<T> type, ExportFormat format, String[] columns,
+                           Function<T, Object[]> values, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter json = objectMapper.writerFor(type);
+        long written = 0;
+
+        if (format == ExportFormat.CSV) {
+            Csv.writeRow(writer, (Object[]) columns);
+        }
+        // An iterator rather than forEach, so write failures (a client gone away) surface as they are
+        for (Iterator<T> it = rows.iterator(); it.hasNext(); written++) {
+            T row = it.next();
+            if (format == ExportFormat.CSV) {
+                Csv.writeRow(writer, values.apply(row));
+            } else {
+                writer.write(json.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+
+        writer.flush();
+        return written;
+    }
+}
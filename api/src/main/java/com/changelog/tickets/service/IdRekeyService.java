@@ -0,0 +1,21 @@
+package com.changelog.tickets.service;
+
+/**
+ * Moves rows from 9-digit block IDs to time-ordered IDs derived from their created_at, so
+ * id order follows creation order across old and new rows. Not safe to run while the API
+ * is taking writes.
+ */
+public interface IdRekeyService {
+
+    /**
+     * Entries follow their ticket through fk_cl_entry_ticket's ON UPDATE CASCADE.
+     *
+     * @return number of tickets re-keyed
+     */
+    long rekeyTickets();
+
+    /**
+     * @return number of entries re-keyed
+     */
+    long rekeyEntries();
+}
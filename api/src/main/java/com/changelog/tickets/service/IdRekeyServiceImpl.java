@@ -0,0 +1,100 @@
+package com.changelog.tickets.service;
+
+import com.changelog.common.id.TimeOrderedIdGenerator;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.model.ChangeCounter;
+import com.changelog.tickets.repository.ChangeCounterRepository;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.RekeyCandidate;
+import com.changelog.tickets.repository.TicketRepository;
+import com.changelog.tickets.util.EntryIdGenerator;
+import com.changelog.tickets.util.TicketIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdRekeyServiceImpl implements IdRekeyService {
+
+    private final TicketRepository ticketRepository;
+    private final EntryRepository entryRepository;
+    private final ChangeCounterRepository changeCounterRepository;
+    private final ChangelogProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public long rekeyTickets() {
+        return rekey(ChangeCounter.TICKETS, TicketIdGenerator.MAX_BLOCK_ID,
+                limit -> ticketRepository.findRekeyCandidates(TicketIdGenerator.MAX_BLOCK_ID, limit),
+                ticketRepository::existsById,
+                ticketRepository::updateId);
+    }
+
+    @Override
+    public long rekeyEntries() {
+        return rekey(ChangeCounter.ENTRIES, EntryIdGenerator.MAX_BLOCK_ID,
+                limit -> entryRepository.findRekeyCandidates(EntryIdGenerator.MAX_BLOCK_ID, limit),
+                entryRepository::existsById,
+                entryRepository::updateId);
+    }
+
+    private long rekey(String table,
+                       long maxBlockId,
+                       Function<Limit, List<RekeyCandidate>> candidates,
+                       LongPredicate exists,
+                       IdUpdate update) {
+        // Own instance so the backfilled timestamps don't push the live generator's clock around
+        TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(properties);
+        Limit batch = Limit.of(properties.getIds().getRekeyBatchSize());
+        // IDs from the first ~244 s after the ID epoch are still 9-digit, and would be picked up
+        // as candidates again on the next batch, so nothing is keyed earlier than this
+        long firstMillis = TimeOrderedIdGenerator.timestampOf(maxBlockId) + 1;
+        long total = 0;
+
+        while (true) {
+            Integer rekeyed = transactionTemplate.execute(status -> {
+                List<RekeyCandidate> rows = candidates.apply(batch);
+
+                for (RekeyCandidate row : rows) {
+                    // Rows older than that are keyed at it, still in created_at order
+                    long createdAt = Math.max(row.createdAt().toInstant().toEpochMilli(), firstMillis);
+
+                    long newId = ids.generateIdAt(createdAt);
+                    while (exists.test(newId)) {
+                        newId = ids.generateIdAt(createdAt);
+                    }
+
+                    update.apply(row.id(), newId);
+                }
+
+                // IDs change without touching updated_at, the list validators see it through the counter
+                if (!rows.isEmpty()) {
+                    changeCounterRepository.bump(table);
+                }
+                return rows.size();
+            });
+
+            if (rekeyed == null || rekeyed == 0) {
+                break;
+            }
+
+            total += rekeyed;
+            log.info("Re-keyed {} rows of {} ({} so far)", rekeyed, table, total);
+        }
+
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface IdUpdate {
+        int apply(long id, long newId);
+    }
+}
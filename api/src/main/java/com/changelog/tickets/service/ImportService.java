@@ -0,0 +1,23 @@
+package com.changelog.tickets.service;
+
+import com.changelog.tickets.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportService {
+
+    /**
+     * Upserts the tickets of an NDJSON export, one per line, keeping their IDs. With a
+     * checkpoint name, progress is recorded as chunks commit and a later run of the same input
+     * under the same name skips the lines already imported, a different input is refused. The
+     * checkpoint is removed once the input has been fully imported. Without one the whole
+     * input is imported.
+     */
+    ImportResult importTickets(InputStream ndjson, String checkpoint) throws IOException;
+
+    /**
+     * As {@link #importTickets}, for entries. Their tickets must exist (imported first).
+     */
+    ImportResult importEntries(InputStream ndjson, String checkpoint) throws IOException;
+}
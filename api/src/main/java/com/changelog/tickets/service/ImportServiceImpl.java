@@ -0,0 +1,338 @@
+package com.changelog.tickets.service;
+
+import com.changelog.common.util.Excerpts;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
+import com.changelog.tickets.dto.ImportResult;
+import com.changelog.tickets.exception.InvalidImportException;
+import com.changelog.tickets.metrics.DashboardMetricsStore;
+import com.changelog.tickets.model.ImportCheckpoint;
+import com.changelog.tickets.repository.EntryExportRow;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.ImportCheckpointRepository;
+import com.changelog.tickets.repository.TicketExportRow;
+import com.changelog.tickets.repository.TicketRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads the input line by line and upserts it in chunks, each chunk in its own transaction
+ * together with its checkpoint. The checkpoint keeps a digest of the lines it covers, so it
+ * only resumes the input it was recorded for, and goes away once that input is fully read.
+ * <p>
+ * Rows are written with plain JDBC batches: one set-based lookup splits a chunk into inserts
+ * and updates, so no entity is ever loaded. created_at is kept from the input, updated_at is
+ * the import time, so the content validators (ETags) of the target change with the import.
+ * <p>
+ * Imported IDs may fall into ranges the block generators haven't leased yet, which skip
+ * taken IDs when they get there.
+ */
+@Timed("changelog.service")
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    // Same parameter order for insert and update (id last), so one setter serves both
+    private static final String INSERT_TICKET = """
+            INSERT INTO cl_ticket (slug, title, status, start_date, end_date, background, technology_ids, learned,
+                                   roadblocks_summary, metrics_summary, visibility, created_at, updated_at, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_TICKET = """
+            UPDATE cl_ticket
+            SET slug = ?, title = ?, status = ?, start_date = ?, end_date = ?, background = ?, technology_ids = ?,
+                learned = ?, roadblocks_summary = ?, metrics_summary = ?, visibility = ?, created_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO cl_entry (ticket_id, date, title, body, excerpt, technology_ids, visibility, created_at, updated_at, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_ENTRY = """
+            UPDATE cl_entry
+            SET ticket_id = ?, date = ?, title = ?, body = ?, excerpt = ?, technology_ids = ?, visibility = ?,
+                created_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private static final int MAX_CHECKPOINT_LENGTH = 128;
+
+    private final TicketRepository ticketRepository;
+    private final EntryRepository entryRepository;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChangelogProperties properties;
+    private final TicketDetailCache ticketDetailCache;
+    private final TechnologyDictionary technologyDictionary;
+    private final DashboardMetricsStore metricsStore;
+
+    @Override
+    public ImportResult importTickets(InputStream ndjson, String checkpoint) throws IOException {
+        return run(ndjson, checkpoint, TicketExportRow.class, ImportServiceImpl::ticketError, this::upsertTickets);
+    }
+
+    @Override
+    public ImportResult importEntries(InputStream ndjson, String checkpoint) throws IOException {
+        return run(ndjson, checkpoint, EntryExportRow.class, ImportServiceImpl::entryError, this::upsertEntries);
+    }
+
+    private <T> ImportResult run(InputStream ndjson, String checkpoint, Class<T> type,
+                                 Function<T, String> validation, Function<List<T>, Counts> upsert) throws IOException {
+        if (checkpoint != null && (checkpoint.isBlank() || checkpoint.length() > MAX_CHECKPOINT_LENGTH)) {
+            throw new InvalidImportException("Checkpoint names must be 1 to " + MAX_CHECKPOINT_LENGTH + " characters");
+        }
+
+        ImportCheckpoint resume = checkpoint == null ? null : checkpointRepository.findById(checkpoint).orElse(null);
+        long resumeAt = resume == null ? 0 : resume.getPosition();
+        MessageDigest digest = sha256();
+        int chunkSize = properties.getImports().getChunkSize();
+        ObjectReader reader = objectMapper.readerFor(type);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+
+        List<T> chunk = new ArrayList<>(chunkSize);
+        long position = 0;
+        long committed = resumeAt;
+        Counts total = new Counts(0, 0);
+        try {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                position++;
+                digest.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+                if (position == resumeAt) {
+                    verify(resume, digest);
+                }
+                if (position <= resumeAt || line.isBlank()) {
+                    continue;
+                }
+
+                T row = parse(reader, line, position);
+                String error = validation.apply(row);
+                if (error != null) {
+                    throw new InvalidImportException("Line " + position + ": " + error);
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    ImportCheckpoint progress = checkpoint == null
+                            ? null
+                            : new ImportCheckpoint(checkpoint, position, hex(digest));
+                    total = total.plus(commit(chunk, upsert, progress, checkpoint, committed, position));
+                    committed = position;
+                    chunk.clear();
+                }
+            }
+            if (position < resumeAt) {
+                throw new InvalidImportException("Input ends at line " + position + ", before checkpoint "
+                        + checkpoint + " at line " + resumeAt + ", it was recorded for another input");
+            }
+            // Fully read, so the checkpoint is dropped with the last chunk: a newer input under the
+            // same name starts from its first line rather than skipping lines it never saw
+            if (position > committed || checkpoint != null) {
+                total = total.plus(commit(chunk, upsert, null, checkpoint, committed, position));
+                committed = position;
+            }
+        } finally {
+            // Whatever committed bypassed the services, so the caches and counters know nothing of it
+            if (committed > resumeAt) {
+                ticketDetailCache.clear();
+                metricsStore.reconcile();
+            }
+        }
+
+        long skipped = Math.min(resumeAt, position);
+        log.info("Imported {} lines of {} ({} inserted, {} updated), skipped {} already imported, checkpoint {}",
+                committed - resumeAt, type.getSimpleName(), total.inserted(), total.updated(), skipped, checkpoint);
+
+        return ImportResult.builder()
+                .checkpoint(checkpoint)
+                .skipped(skipped)
+                .inserted(total.inserted())
+                .updated(total.updated())
+                .position(committed)
+                .build();
+    }
+
+    // The lines skipped on resume must be the ones that were imported, not the start of another file
+    private static void verify(ImportCheckpoint resume, MessageDigest digest) {
+        if (!hex(digest).equals(resume.getDigest())) {
+            throw new InvalidImportException("Lines 1-" + resume.getPosition() + " differ from the input checkpoint "
+                    + resume.getName() + " was recorded for, import it under another checkpoint name");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Of the lines read so far, the digest itself carries on with the rest of the input
+    private static String hex(MessageDigest digest) {
+        try {
+            return HexFormat.of().formatHex(((MessageDigest) digest.clone()).digest());
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digests can't be copied", e);
+        }
+    }
+
+    private <T> T parse(ObjectReader reader, String line, long position) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException("Line " + position + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    // Records progress under the checkpoint name, or deletes it when progress is null
+    private <T> Counts commit(List<T> chunk, Function<List<T>, Counts> upsert, ImportCheckpoint progress,
+                              String checkpoint, long from, long to) {
+        return transactionTemplate.execute(status -> {
+            Counts counts;
+            try {
+                counts = chunk.isEmpty() ? new Counts(0, 0) : upsert.apply(chunk);
+            } catch (DataAccessException e) {
+                // Typically a slug taken by another ticket, or an entry whose ticket wasn't imported
+                throw new InvalidImportException("Lines " + (from + 1) + "-" + to + ": "
+                        + e.getMostSpecificCause().getMessage(), e);
+            }
+            if (progress != null) {
+                checkpointRepository.save(progress);
+            } else if (checkpoint != null) {
+                checkpointRepository.deleteById(checkpoint);
+            }
+            return counts;
+        });
+    }
+
+    private Counts upsertTickets(List<TicketExportRow> rows) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return upsert(rows, TicketExportRow::id, ticketRepository::findExistingIds, INSERT_TICKET, UPDATE_TICKET,
+                (ps, row) -> {
+                    ps.setString(1, row.slug());
+                    ps.setString(2, row.title());
+                    ps.setString(3, row.status().name());
+                    ps.setObject(4, row.startDate(), Types.DATE);
+                    ps.setObject(5, row.endDate(), Types.DATE);
+                    ps.setString(6, row.background());
+                    setCodes(ps, 7, technologyDictionary.codesFor(row.technologies()));
+                    ps.setString(8, row.learned());
+                    ps.setString(9, row.roadblocksSummary());
+                    ps.setString(10, row.metricsSummary());
+                    ps.setString(11, row.visibility());
+                    ps.setObject(12, row.createdAt() != null ? row.createdAt() : now);
+                    ps.setObject(13, now);
+                    ps.setLong(14, row.id());
+                });
+    }
+
+    private Counts upsertEntries(List<EntryExportRow> rows) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return upsert(rows, EntryExportRow::id, entryRepository::findExistingIds, INSERT_ENTRY, UPDATE_ENTRY,
+                (ps, row) -> {
+                    ps.setLong(1, row.ticketId());
+                    ps.setObject(2, row.date(), Types.DATE);
+                    ps.setString(3, row.title());
+                    ps.setString(4, row.body());
+                    ps.setString(5, Excerpts.of(row.body()));
+                    setCodes(ps, 6, technologyDictionary.codesFor(row.technologies()));
+                    ps.setString(7, row.visibility());
+                    ps.setObject(8, row.createdAt() != null ? row.createdAt() : now);
+                    ps.setObject(9, now);
+                    ps.setLong(10, row.id());
+                });
+    }
+
+    private <T> Counts upsert(List<T> rows, Function<T, Long> id, Function<Collection<Long>, List<Long>> existingIds,
+                              String insertSql, String updateSql, ParameterizedPreparedStatementSetter<T> setter) {
+        // A repeated ID within the chunk would otherwise be inserted twice, the last line wins
+        Map<Long, T> byId = new LinkedHashMap<>();
+        rows.forEach(row -> byId.put(id.apply(row), row));
+
+        Set<Long> existing = new HashSet<>(existingIds.apply(byId.keySet()));
+        List<T> inserts = new ArrayList<>();
+        List<T> updates = new ArrayList<>();
+        byId.forEach((rowId, row) -> (existing.contains(rowId) ? updates : inserts).add(row));
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, inserts, inserts.size(), setter);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(updateSql, updates, updates.size(), setter);
+        }
+        return new Counts(inserts.size(), updates.size());
+    }
+
+    private static void setCodes(PreparedStatement ps, int index, Integer[] codes) throws SQLException {
+        if (codes == null) {
+            ps.setNull(index, Types.ARRAY);
+        } else {
+            ps.setArray(index, ps.getConnection().createArrayOf("integer", codes));
+        }
+    }
+
+    private static String ticketError(TicketExportRow row) {
+        return missing(row.id(), "id", row.slug(), "slug", row.title(), "title", row.status(), "status",
+                row.startDate(), "startDate", row.visibility(), "visibility");
+    }
+
+    private static String entryError(EntryExportRow row) {
+        return missing(row.id(), "id", row.ticketId(), "ticketId", row.date(), "date", row.visibility(), "visibility");
+    }
+
+    // Pairs of value and name, the names of the null values or null when none is
+    private static String missing(Object... valuesAndNames) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < valuesAndNames.length; i += 2) {
+            if (valuesAndNames[i] == null) {
+                names.add((String) valuesAndNames[i + 1]);
+            }
+        }
+        return names.isEmpty() ? null : "missing " + String.join(", ", names);
+    }
+
+    private record Counts(long inserted, long updated) {
+
+        Counts plus(Counts other) {
+            return new Counts(inserted + other.inserted, updated + other.updated);
+        }
+    }
+}
@@ -3,12 +3,12 @@ package com.changelog.tickets.service;
 import com.changelog.tickets.dto.*;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
-
 public interface TicketService {
 
     TicketsPageResponse getTickets(TicketFilters filters, Pageable pageable);
 
+    TicketsPageResponse getTickets(TicketFilters filters, String cursor, int size);
+
     TicketSummaryResponse createTicket(CreateTicketRequest request);
 
     TicketDetailResponse getTicketById(Long id);
@@ -19,5 +19,7 @@ public interface TicketService {
 
     TicketDetailResponse getTicketBySlug(String slug);
 
-    List<EntrySummaryResponse> getEntriesForTicket(Long ticketId);
+    EntriesPageResponse getEntriesForTicket(Long ticketId, Pageable pageable);
+
+    EntriesPageResponse getEntriesForTicket(Long ticketId, String cursor, int size);
 }
\ No newline at end of file
@@ -1,6 +1,12 @@
 package com.changelog.tickets.service;
 
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.common.util.SingleFlight;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
 import com.changelog.tickets.dto.*;
+import com.changelog.tickets.event.TicketStatusChangedEvent;
 import com.changelog.tickets.exception.TicketNotFoundException;
 import com.changelog.tickets.mapper.EntryMapper;
 import com.changelog.tickets.mapper.TicketMapper;
@@ -8,35 +14,76 @@ import com.changelog.tickets.model.Entry;
 import com.changelog.tickets.model.Ticket;
 import com.changelog.tickets.model.TicketStatus;
 import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TechnologyCount;
 import com.changelog.tickets.repository.TicketRepository;
 import com.changelog.tickets.repository.TicketSpecifications;
+import com.changelog.tickets.repository.TicketSummaryView;
 import com.changelog.tickets.util.TicketIdGenerator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed("changelog.service")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TicketServiceImpl implements TicketService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "startDate", "id");
+
+    static final int DETAIL_ENTRIES_SIZE = 20;
+
     private final TicketRepository ticketRepository;
     private final EntryRepository entryRepository;
     private final TicketIdGenerator ticketIdGenerator;
     private final TicketMapper ticketMapper;
     private final EntryMapper entryMapper;
+    private final ChangelogProperties properties;
+    private final TicketDetailCache ticketDetailCache;
+    private final TechnologyDictionary technologyDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Shared links bring bursts of identical reads, let them share one execution
+    private final SingleFlight<String, TicketDetailResponse> slugLookups = new SingleFlight<>();
+    private final SingleFlight<TicketsQuery, TicketsPageResponse> ticketQueries = new SingleFlight<>();
 
     @Override
     public TicketsPageResponse getTickets(TicketFilters filters, Pageable pageable) {
+        return ticketQueries.execute(new TicketsQuery(filters, pageable, null, null),
+                () -> findTickets(filters, pageable));
+    }
 
-        var spec = TicketSpecifications.fromFilters(filters);
+    @Override
+    public TicketsPageResponse getTickets(TicketFilters filters, String cursor, int size) {
+        return ticketQueries.execute(new TicketsQuery(filters, null, cursor, size),
+                () -> findTickets(filters, cursor, size));
+    }
+
+    private TicketsPageResponse findTickets(TicketFilters filters, Pageable pageable) {
+
+        Page<TicketSummaryView> page;
 
-        Page<Ticket> page = ticketRepository.findAll(spec, pageable);
+        if (useFullTextSearch(filters)) {
+            page = searchFullText(filters, pageable);
+        } else {
+            page = ticketRepository.findSummaries(specification(filters), pageable);
+        }
 
         List<TicketSummaryResponse> summaries = page.getContent().stream()
                 .map(ticketMapper::toSummary)
@@ -48,6 +95,48 @@ public class TicketServiceImpl implements TicketService {
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
+                .technologyFacets(technologyFacets(filters))
+                .build();
+    }
+
+    private TicketsPageResponse findTickets(TicketFilters filters, String cursor, int size) {
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // One extra row tells us whether there is a next page without a count query
+        List<TicketSummaryView> tickets;
+
+        if (useFullTextSearch(filters)) {
+            tickets = summariesInOrder(ticketRepository.searchFullTextIdsBefore(
+                    filters.getSearch().trim(),
+                    statusName(filters.getStatus()),
+                    statusName(filters.getStatusNot()),
+                    visibilityOrNull(filters),
+                    technologyCodes(filters),
+                    filters.getTechnologyMatch() != TechnologyMatch.ANY,
+                    after == null ? null : after.date(),
+                    after == null ? null : after.id(),
+                    size + 1
+            ));
+        } else {
+            var spec = specification(filters).and(TicketSpecifications.startedBefore(after));
+            tickets = ticketRepository.findSummaries(spec, KEYSET_SORT, size + 1);
+        }
+
+        boolean hasNext = tickets.size() > size;
+        List<TicketSummaryView> content = hasNext ? tickets.subList(0, size) : tickets;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TicketSummaryView last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.startDate(), last.id()).encode();
+        }
+
+        return TicketsPageResponse.builder()
+                .tickets(content.stream().map(ticketMapper::toSummary).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .technologyFacets(technologyFacets(filters))
                 .build();
     }
 
@@ -63,10 +152,13 @@ public class TicketServiceImpl implements TicketService {
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
                 .background(request.getBackground())
-                .technologies(request.getTechnologies())
+                .technologyIds(technologyDictionary.codesFor(request.getTechnologies()))
                 .build();
 
         Ticket savedTicket = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(savedTicket.getId(), null, savedTicket.getStatus()));
+
+        // Nothing to evict: the id is new and lookups that missed were never cached
 
         log.info("Created ticket {}", savedTicket.getId());
 
@@ -75,29 +167,14 @@ public class TicketServiceImpl implements TicketService {
 
     @Override
     public TicketDetailResponse getTicketById(Long id) {
-
-        Ticket ticket = ticketRepository.findById(id).orElseThrow(() -> new TicketNotFoundException(id));
-
-        return TicketDetailResponse.builder()
-                .id(ticket.getId())
-                .slug(ticket.getSlug())
-                .title(ticket.getTitle())
-                .status(ticket.getStatus())
-                .visibility(ticket.getVisibility())
-                .startDate(ticket.getStartDate())
-                .endDate(ticket.getEndDate())
-                .background(ticket.getBackground())
-                .technologies(ticket.getTechnologies())
-                .learned(ticket.getLearned())
-                .roadblocksSummary(ticket.getRoadblocksSummary())
-                .metricsSummary(ticket.getMetricsSummary())
-                .build();
+        return ticketDetailCache.getById(id, this::loadTicketById);
     }
 
     @Override
     @Transactional
     public TicketDetailResponse updateTicket(Long id, UpdateTicketRequest request) {
         Ticket ticket = ticketRepository.findById(id).orElseThrow(() -> new TicketNotFoundException(id));
+        TicketStatus previousStatus = ticket.getStatus();
 
         ticket.setSlug(request.getSlug());
         ticket.setBackground(request.getBackground());
@@ -108,9 +185,11 @@ public class TicketServiceImpl implements TicketService {
         ticket.setLearned(request.getLearned());
         ticket.setRoadblocksSummary(request.getRoadblocksSummary());
         ticket.setMetricsSummary(request.getMetricsSummary());
-        ticket.setTechnologies(request.getTechnologies());
+        ticket.setTechnologyIds(technologyDictionary.codesFor(request.getTechnologies()));
 
         Ticket savedTicket = ticketRepository.save(ticket);
+        ticketDetailCache.evict(savedTicket.getId());
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(savedTicket.getId(), previousStatus, savedTicket.getStatus()));
 
         log.info("Updated ticket {}", savedTicket.getId());
 
@@ -120,24 +199,91 @@ public class TicketServiceImpl implements TicketService {
     @Override
     public void archiveTicket(Long id) {
         Ticket ticket = ticketRepository.findById(id).orElseThrow(() -> new TicketNotFoundException(id));
+        TicketStatus previousStatus = ticket.getStatus();
 
         ticket.setStatus(TicketStatus.ARCHIVED);
         ticketRepository.save(ticket);
+        ticketDetailCache.evict(ticket.getId());
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(ticket.getId(), previousStatus, TicketStatus.ARCHIVED));
 
         log.info("Archived ticket {}", ticket.getId());
     }
 
+    // No transaction around the cached reads, so hits don't take a connection
     @Override
-    @Transactional
     public TicketDetailResponse getTicketBySlug(String slug) {
+        // The cache already loads each slug once, this also shares misses (404s) and failures
+        return slugLookups.execute(slug, () -> ticketDetailCache.getBySlug(slug, this::loadTicketBySlug));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntriesPageResponse getEntriesForTicket(Long ticketId, Pageable pageable) {
+
+        requireTicket(ticketId);
+
+        Page<Entry> page = entryRepository.findByTicketId(ticketId, pageable);
+
+        return EntriesPageResponse.builder()
+                .entries(page.getContent().stream().map(entryMapper::toSummary).toList())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntriesPageResponse getEntriesForTicket(Long ticketId, String cursor, int size) {
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        requireTicket(ticketId);
+
+        // One extra row tells us whether there is a next page without a count query
+        List<Entry> entries = after == null
+                ? entryRepository.findLatestByTicketId(ticketId, Limit.of(size + 1))
+                : entryRepository.findLatestByTicketIdBefore(ticketId, after.date(), after.id(), Limit.of(size + 1));
+
+        return entriesPage(entries, size);
+    }
+
+    private void requireTicket(Long ticketId) {
+        if (!ticketRepository.existsById(ticketId)) {
+            throw new TicketNotFoundException(ticketId);
+        }
+    }
+
+    private TicketDetailResponse loadTicketById(Long id) {
+
+        Ticket ticket = ticketRepository.findById(id).orElseThrow(() -> new TicketNotFoundException(id));
+
+        return TicketDetailResponse.builder()
+                .id(ticket.getId())
+                .slug(ticket.getSlug())
+                .title(ticket.getTitle())
+                .status(ticket.getStatus())
+                .visibility(ticket.getVisibility())
+                .startDate(ticket.getStartDate())
+                .endDate(ticket.getEndDate())
+                .background(ticket.getBackground())
+                .technologies(technologyDictionary.names(ticket.getTechnologyIds()))
+                .learned(ticket.getLearned())
+                .roadblocksSummary(ticket.getRoadblocksSummary())
+                .metricsSummary(ticket.getMetricsSummary())
+                .build();
+    }
+
+    private TicketDetailResponse loadTicketBySlug(String slug) {
 
         Ticket ticket = ticketRepository.findBySlug(slug).orElseThrow(() -> new TicketNotFoundException(slug));
 
-        List<EntrySummaryResponse> summaryResp =
-                ticket.getEntries()
-                        .stream()
-                        .map(entryMapper::toSummary)
-                        .toList();
+        // Newest entries only, the rest are paged through getEntriesForTicket with the cursor
+        EntriesPageResponse entries = entriesPage(
+                entryRepository.findLatestByTicketId(ticket.getId(), Limit.of(DETAIL_ENTRIES_SIZE + 1)),
+                DETAIL_ENTRIES_SIZE
+        );
 
         return TicketDetailResponse.builder()
                 .id(ticket.getId())
@@ -148,25 +294,120 @@ public class TicketServiceImpl implements TicketService {
                 .startDate(ticket.getStartDate())
                 .endDate(ticket.getEndDate())
                 .background(ticket.getBackground())
-                .technologies(ticket.getTechnologies())
+                .technologies(technologyDictionary.names(ticket.getTechnologyIds()))
                 .learned(ticket.getLearned())
                 .roadblocksSummary(ticket.getRoadblocksSummary())
                 .metricsSummary(ticket.getMetricsSummary())
-                .entries(summaryResp)
+                .entries(entries.getEntries())
+                .nextEntriesCursor(entries.getNextCursor())
                 .build();
     }
 
-    @Override
-    @Transactional
-    public List<EntrySummaryResponse> getEntriesForTicket(Long ticketId) {
+    /**
+     * Trims a size + 1 keyset fetch to one page and derives the cursor for the next one.
+     */
+    private EntriesPageResponse entriesPage(List<Entry> entries, int size) {
+        boolean hasNext = entries.size() > size;
+        List<Entry> content = hasNext ? entries.subList(0, size) : entries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Entry last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return EntriesPageResponse.builder()
+                .entries(content.stream().map(entryMapper::toSummary).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private boolean useFullTextSearch(TicketFilters filters) {
+        return properties.getSearch().isFullTextEnabled()
+                && filters != null
+                && filters.getSearch() != null
+                && !filters.getSearch().isBlank();
+    }
 
-         ticketRepository.findById(ticketId).orElseThrow(() -> new TicketNotFoundException(ticketId));
+    private Page<TicketSummaryView> searchFullText(TicketFilters filters, Pageable pageable) {
+        // Results are ordered by rank, so any requested sort is dropped
+        Pageable ranked = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<Long> ids = ticketRepository.searchFullTextIds(
+                filters.getSearch().trim(),
+                statusName(filters.getStatus()),
+                statusName(filters.getStatusNot()),
+                visibilityOrNull(filters),
+                technologyCodes(filters),
+                filters.getTechnologyMatch() != TechnologyMatch.ANY,
+                ranked
+        );
+
+        return new PageImpl<>(summariesInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    // Over every matching ticket, so cursor pages repeat the same counts
+    private Map<String, Long> technologyFacets(TicketFilters filters) {
+        if (filters == null || !filters.isFacets()) {
+            return null;
+        }
+
+        if (useFullTextSearch(filters)) {
+            return technologyDictionary.byName(TechnologyCount.toMap(ticketRepository.countFullTextTechnologies(
+                    filters.getSearch().trim(),
+                    statusName(filters.getStatus()),
+                    statusName(filters.getStatusNot()),
+                    visibilityOrNull(filters),
+                    technologyCodes(filters),
+                    filters.getTechnologyMatch() != TechnologyMatch.ANY
+            )));
+        }
+
+        return technologyDictionary.byName(ticketRepository.countTechnologies(specification(filters)));
+    }
 
-        List<Entry> entries = entryRepository.findByTicketIdOrderByDateAsc(ticketId);
+    /**
+     * Loads summaries for ids picked by a native query, keeping the query's order.
+     */
+    private List<TicketSummaryView> summariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
 
-        return entries.stream()
-                .map(entryMapper::toSummary)
+        Map<Long, TicketSummaryView> byId = ticketRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TicketSummaryView::id, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
-}
\ No newline at end of file
+    private Specification<Ticket> specification(TicketFilters filters) {
+        var spec = TicketSpecifications.fromFilters(filters);
+        return filters == null ? spec
+                : spec.and(TicketSpecifications.hasTechnologies(technologyCodes(filters), filters.getTechnologyMatch()));
+    }
+
+    // Empty rather than null, the native queries test cardinality() = 0
+    private Integer[] technologyCodes(TicketFilters filters) {
+        return technologyDictionary.existingCodes(filters.getTechnologies());
+    }
+
+    private static String statusName(TicketStatus status) {
+        return status == null ? null : status.name();
+    }
+
+    private static String visibilityOrNull(TicketFilters filters) {
+        return filters.getVisibility() == null || filters.getVisibility().isBlank()
+                ? null
+                : filters.getVisibility();
+    }
+
+    /**
+     * Coalescing key for list reads, either pageable or cursor based.
+     */
+    private record TicketsQuery(TicketFilters filters, Pageable pageable, String cursor, Integer size) {
+    }
+}
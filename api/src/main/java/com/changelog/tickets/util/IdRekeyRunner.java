@@ -0,0 +1,38 @@
+package com.changelog.tickets.util;
+
+import com.changelog.common.id.IdStrategy;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.service.IdRekeyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-off migration to time-ordered IDs. Switch the entity's strategy to TIME_ORDERED and
+ * start a single instance with changelog.ids.rekey-on-startup=true before opening it to
+ * traffic. Entities still on BLOCK are left alone.
+ */
+@Component
+@ConditionalOnProperty(prefix = "changelog.ids", name = "rekey-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class IdRekeyRunner implements ApplicationRunner {
+
+    private final IdRekeyService idRekeyService;
+    private final ChangelogProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ChangelogProperties.Ids ids = properties.getIds();
+
+        if (ids.getTicketStrategy() == IdStrategy.TIME_ORDERED) {
+            log.info("Re-keyed {} tickets to time-ordered IDs", idRekeyService.rekeyTickets());
+        }
+        if (ids.getEntryStrategy() == IdStrategy.TIME_ORDERED) {
+            log.info("Re-keyed {} entries to time-ordered IDs", idRekeyService.rekeyEntries());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.changelog.tickets.util;
+
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.dto.ImportResult;
+import com.changelog.tickets.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line import of export files, e.g.
+ * {@code java -jar api.jar --server.port=0 --changelog.imports.tickets-file=tickets.ndjson
+ * --changelog.imports.entries-file=entries.ndjson} (the security configuration needs the web
+ * context, hence a random port rather than no server).
+ * Each file is checkpointed under its kind, name, size and modification time, so running the
+ * same command again after a crash resumes where it stopped, while a newer file of the same
+ * name starts from its first line. The application exits when done, non-zero if the import failed.
+ */
+@Component
+@ConditionalOnExpression("'${changelog.imports.tickets-file:}' != '' or '${changelog.imports.entries-file:}' != ''")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportRunner implements ApplicationRunner {
+
+    private final ImportService importService;
+    private final ChangelogProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        ChangelogProperties.Imports imports = properties.getImports();
+
+        if (imports.getTicketsFile() != null && !imports.getTicketsFile().isBlank()) {
+            Path file = Path.of(imports.getTicketsFile());
+            try (InputStream in = Files.newInputStream(file)) {
+                ImportResult result = importService.importTickets(in, checkpoint("tickets", file));
+                log.info("Imported tickets from {}: {}", file, result);
+            }
+        }
+        if (imports.getEntriesFile() != null && !imports.getEntriesFile().isBlank()) {
+            Path file = Path.of(imports.getEntriesFile());
+            try (InputStream in = Files.newInputStream(file)) {
+                ImportResult result = importService.importEntries(in, checkpoint("entries", file));
+                log.info("Imported entries from {}: {}", file, result);
+            }
+        }
+
+        // A failure above propagates instead and fails the startup, which exits non-zero
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static String checkpoint(String kind, Path file) throws IOException {
+        return kind + ":" + file.getFileName() + ":" + Files.size(file) + ":"
+                + Files.getLastModifiedTime(file).toMillis();
+    }
+}
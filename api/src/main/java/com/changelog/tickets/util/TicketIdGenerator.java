@@ -1,21 +1,47 @@
 package com.changelog.tickets.util;
 
-import com.changelog.common.util.AbstractRandomLongIdGenerator;
+import com.changelog.common.id.IdBlockLeaser;
+import com.changelog.common.id.LongIdGenerator;
+import com.changelog.common.id.TimeOrderedIdGenerator;
+import com.changelog.common.util.AbstractBlockLongIdGenerator;
+import com.changelog.config.ChangelogProperties;
 import com.changelog.tickets.repository.TicketRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Component
-public class TicketIdGenerator extends AbstractRandomLongIdGenerator {
+public class TicketIdGenerator implements LongIdGenerator {
+
+    // Range of the block scheme. Anything above it came from the time-ordered scheme.
+    public static final long MIN_BLOCK_ID = 100_000_000L;
+    public static final long MAX_BLOCK_ID = 999_999_999L;
+
+    private final LongIdGenerator delegate;
 
-    private final TicketRepository ticketRepository;
+    public TicketIdGenerator(TicketRepository ticketRepository, IdBlockLeaser leaser,
+                             TimeOrderedIdGenerator timeOrderedIdGenerator, ChangelogProperties properties) {
+        ChangelogProperties.Ids ids = properties.getIds();
 
-    public TicketIdGenerator(TicketRepository ticketRepository) {
-        super(100_000_000L, 999_999_999L, 10);
-        this.ticketRepository = ticketRepository;
+        this.delegate = switch (ids.getTicketStrategy()) {
+            case BLOCK -> new AbstractBlockLongIdGenerator("cl_ticket", MIN_BLOCK_ID, MAX_BLOCK_ID,
+                    ids.getBlockSize(), leaser) {
+                @Override
+                protected Collection<Long> findExistingIds(long from, long to) {
+                    return ticketRepository.findIdsBetween(from, to);
+                }
+            };
+            case TIME_ORDERED -> timeOrderedIdGenerator;
+        };
+    }
+
+    @Override
+    public long generateId() {
+        return delegate.generateId();
     }
 
     @Override
-    protected boolean existsById(long id) {
-        return ticketRepository.existsById(id);
+    public long[] generateIds(int count) {
+        return delegate.generateIds(count);
     }
 }
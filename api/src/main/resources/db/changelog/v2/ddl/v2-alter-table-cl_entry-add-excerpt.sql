@@ -0,0 +1,14 @@
+-- Bounded plain-text preview of body for list views, written by the application (Excerpts.of)
+ALTER TABLE cl_entry
+    ADD COLUMN excerpt VARCHAR(300);
+
+-- Backfill existing rows. Cuts at a fixed length rather than a word boundary,
+-- the next update of an entry rewrites its excerpt the application's way.
+UPDATE cl_entry
+SET excerpt = CASE
+                  WHEN length(regexp_replace(btrim(body), '\s+', ' ', 'g')) <= 280
+                      THEN regexp_replace(btrim(body), '\s+', ' ', 'g')
+                  ELSE left(regexp_replace(btrim(body), '\s+', ' ', 'g'), 279) || '…'
+              END
+WHERE body IS NOT NULL
+  AND btrim(body) <> '';
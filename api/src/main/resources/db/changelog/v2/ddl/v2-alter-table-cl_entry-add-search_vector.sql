@@ -0,0 +1,3 @@
+-- Weighted full-text document for entry search, maintained by trg_cl_entry_search_vector
+ALTER TABLE cl_entry
+    ADD COLUMN search_vector TSVECTOR;
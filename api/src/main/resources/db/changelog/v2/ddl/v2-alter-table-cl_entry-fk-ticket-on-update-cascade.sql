@@ -0,0 +1,7 @@
+-- Let ticket re-keying (IdRekeyService) carry entries along in the same UPDATE
+ALTER TABLE cl_entry
+    DROP CONSTRAINT fk_cl_entry_ticket;
+
+ALTER TABLE cl_entry
+    ADD CONSTRAINT fk_cl_entry_ticket FOREIGN KEY (ticket_id) REFERENCES cl_ticket (id)
+        ON DELETE CASCADE ON UPDATE CASCADE;
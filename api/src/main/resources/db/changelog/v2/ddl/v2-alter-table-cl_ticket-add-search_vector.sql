@@ -0,0 +1,3 @@
+-- Weighted full-text document for ticket search, maintained by trg_cl_ticket_search_vector
+ALTER TABLE cl_ticket
+    ADD COLUMN search_vector TSVECTOR;
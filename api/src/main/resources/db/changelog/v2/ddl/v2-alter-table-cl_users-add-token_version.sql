@@ -0,0 +1,3 @@
+-- Carried in access tokens as the tv claim. Bumping it revokes every token issued before.
+ALTER TABLE cl_users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
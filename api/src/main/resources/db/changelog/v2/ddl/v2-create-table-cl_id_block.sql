@@ -0,0 +1,14 @@
+-- One row per ID sequence. Application instances lease ranges of IDs by advancing
+-- next_value under a row lock (IdBlockLeaser), then hand them out from memory.
+CREATE TABLE cl_id_block (
+    name VARCHAR(64) NOT NULL,
+    next_value BIGINT NOT NULL,
+
+    CONSTRAINT pk_cl_id_block PRIMARY KEY (name)
+);
+
+-- Start at the bottom of the 9-digit range the random generator used. Existing random
+-- IDs inside a leased block are skipped by the generator.
+INSERT INTO cl_id_block (name, next_value)
+VALUES ('cl_ticket', 100000000),
+       ('cl_entry', 100000000);
@@ -0,0 +1,10 @@
+-- Progress of named imports (ImportService): the number of input lines whose rows are
+-- committed. Written in the same transaction as each chunk, so a resumed import skips
+-- exactly the lines that made it in.
+CREATE TABLE cl_import_checkpoint (
+    name VARCHAR(128) NOT NULL,
+    position BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_cl_import_checkpoint PRIMARY KEY (name)
+);
@@ -0,0 +1,3 @@
+-- Full-text entry search (GET /api/v1/entries/search?q=)
+CREATE INDEX idx_cl_entry_search_vector
+    ON cl_entry USING GIN (search_vector);
@@ -0,0 +1,3 @@
+-- Full-text ticket search (GET /api/v1/tickets?search=)
+CREATE INDEX idx_cl_ticket_search_vector
+    ON cl_ticket USING GIN (search_vector);
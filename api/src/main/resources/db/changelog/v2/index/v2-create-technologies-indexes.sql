@@ -0,0 +1,6 @@
+-- technology= filters: @> (all of) and && (any of), array_ops is the default GIN opclass for text[]
+CREATE INDEX idx_cl_ticket_technologies
+    ON cl_ticket USING GIN (technologies);
+
+CREATE INDEX idx_cl_entry_technologies
+    ON cl_entry USING GIN (technologies);
@@ -0,0 +1,13 @@
+-- Title and slug rank highest, background next, the retrospective fields last
+CREATE OR REPLACE FUNCTION cl_ticket_search_vector_refresh() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('english', replace(coalesce(NEW.slug, ''), '-', ' ')), 'A') ||
+        setweight(to_tsvector('english', coalesce(NEW.background, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(NEW.learned, '')), 'C') ||
+        setweight(to_tsvector('english', coalesce(NEW.roadblocks_summary, '')), 'C') ||
+        setweight(to_tsvector('english', coalesce(NEW.metrics_summary, '')), 'C');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
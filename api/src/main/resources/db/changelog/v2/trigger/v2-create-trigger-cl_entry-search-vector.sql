@@ -0,0 +1,8 @@
+CREATE TRIGGER trg_cl_entry_search_vector
+    BEFORE INSERT OR UPDATE OF title, body
+    ON cl_entry
+    FOR EACH ROW
+    EXECUTE FUNCTION cl_entry_search_vector_refresh();
+
+-- Backfill existing rows through the trigger
+UPDATE cl_entry SET title = title;
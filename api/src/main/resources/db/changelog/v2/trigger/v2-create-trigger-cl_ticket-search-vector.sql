@@ -0,0 +1,8 @@
+CREATE TRIGGER trg_cl_ticket_search_vector
+    BEFORE INSERT OR UPDATE OF title, slug, background, learned, roadblocks_summary, metrics_summary
+    ON cl_ticket
+    FOR EACH ROW
+    EXECUTE FUNCTION cl_ticket_search_vector_refresh();
+
+-- Backfill existing rows through the trigger
+UPDATE cl_ticket SET title = title;
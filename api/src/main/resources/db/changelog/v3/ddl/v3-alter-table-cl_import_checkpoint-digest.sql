@@ -0,0 +1,7 @@
+-- Checkpoints are bound to their input by the SHA-256 of the lines they cover. The rows
+-- already there can't be checked against their input, and were never removed after the
+-- import completed, so they go: an import under one of those names starts from line 1.
+DELETE FROM cl_import_checkpoint;
+
+ALTER TABLE cl_import_checkpoint
+    ADD COLUMN digest VARCHAR(64) NOT NULL;
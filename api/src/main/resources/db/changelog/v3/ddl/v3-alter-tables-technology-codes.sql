@@ -0,0 +1,43 @@
+-- Replaces the text[] technologies of tickets and entries with int[] codes into cl_technology.
+-- The most common spelling of each name becomes canonical, and the most used technologies
+-- get the smallest codes.
+INSERT INTO cl_technology (name)
+SELECT mode() WITHIN GROUP (ORDER BY name)
+FROM (
+    SELECT btrim(unnest(technologies)) AS name FROM cl_ticket
+    UNION ALL
+    SELECT btrim(unnest(technologies)) AS name FROM cl_entry
+) names
+WHERE name <> ''
+GROUP BY lower(name)
+ORDER BY count(*) DESC, lower(name);
+
+ALTER TABLE cl_ticket
+    ADD COLUMN technology_ids INTEGER[];
+
+ALTER TABLE cl_entry
+    ADD COLUMN technology_ids INTEGER[];
+
+-- Codes in the order of the names they replace
+UPDATE cl_ticket t
+SET technology_ids = ARRAY(
+    SELECT tech.id
+    FROM unnest(t.technologies) WITH ORDINALITY AS listed(name, position)
+    JOIN cl_technology tech ON lower(tech.name) = lower(btrim(listed.name))
+    ORDER BY listed.position)
+WHERE t.technologies IS NOT NULL;
+
+UPDATE cl_entry e
+SET technology_ids = ARRAY(
+    SELECT tech.id
+    FROM unnest(e.technologies) WITH ORDINALITY AS listed(name, position)
+    JOIN cl_technology tech ON lower(tech.name) = lower(btrim(listed.name))
+    ORDER BY listed.position)
+WHERE e.technologies IS NOT NULL;
+
+-- Also drops idx_cl_ticket_technologies and idx_cl_entry_technologies
+ALTER TABLE cl_ticket
+    DROP COLUMN technologies;
+
+ALTER TABLE cl_entry
+    DROP COLUMN technologies;
@@ -0,0 +1,13 @@
+-- One row per table. Bumped in the same transaction as the writes that leave
+-- max(updated_at) where it was: deletes and ID rekeys. Together the two make the
+-- list and dashboard validators (ContentVersionServiceImpl), on any instance.
+CREATE TABLE cl_change_counter (
+    name VARCHAR(64) NOT NULL,
+    version BIGINT NOT NULL,
+
+    CONSTRAINT pk_cl_change_counter PRIMARY KEY (name)
+);
+
+INSERT INTO cl_change_counter (name, version)
+VALUES ('cl_ticket', 0),
+       ('cl_entry', 0);
@@ -0,0 +1,11 @@
+-- Technology names, stored once. Tickets and entries hold int[] codes into this table
+-- (technology_ids), expanded to names by TechnologyDictionary.
+CREATE TABLE cl_technology (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+
+    CONSTRAINT pk_cl_technology PRIMARY KEY (id)
+);
+
+-- One code per technology whatever the casing, the stored name is the canonical spelling
+CREATE UNIQUE INDEX uq_cl_technology_name ON cl_technology (lower(name));
@@ -0,0 +1,9 @@
+-- technology= filters: @> (all of) and && (any of) on int[] codes. gin__int_ops indexes
+-- intarray's operators, which take over @> and && for int4[] once the extension is installed.
+CREATE EXTENSION IF NOT EXISTS intarray;
+
+CREATE INDEX idx_cl_ticket_technology_ids
+    ON cl_ticket USING GIN (technology_ids gin__int_ops);
+
+CREATE INDEX idx_cl_entry_technology_ids
+    ON cl_entry USING GIN (technology_ids gin__int_ops);
@@ -0,0 +1,7 @@
+-- Table-wide content validators read max(updated_at) on every list and dashboard GET,
+-- a backward scan of these indexes answers it from the first entry.
+CREATE INDEX idx_cl_ticket_updated_at
+    ON cl_ticket (updated_at);
+
+CREATE INDEX idx_cl_entry_updated_at
+    ON cl_entry (updated_at);
@@ -0,0 +1,139 @@
+package com.changelog.auth.security;
+
+import com.changelog.auth.identity.UserRepository;
+import com.changelog.auth.identity.UserTokenVersion;
+import com.changelog.auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthFilterTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String EMAIL = "a@example.com";
+
+    private JwtProperties props;
+    private JwtService jwtService;
+    private UserRepository users;
+    private UserDetailsService uds;
+    private TokenVersionCache tokenVersions;
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        props = new JwtProperties();
+        props.setIssuer("changelog");
+        props.setSigningKey("filter-test-signing-key-filter-test-signing-key");
+        props.setClaimsOnlyAuth(true);
+
+        jwtService = new JwtService(props);
+        users = mock(UserRepository.class);
+        uds = mock(UserDetailsService.class);
+        when(uds.loadUserByUsername(anyString())).thenReturn(
+                User.withUsername(EMAIL).password("hash").authorities("ROLE_USER").build());
+
+        tokenVersions = new TokenVersionCache(users);
+        filter = new JwtAuthFilter(jwtService, uds, tokenVersions, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTokenVersionAuthenticatesFromClaimsWithoutUserLookup() throws Exception {
+        knownVersion(0);
+
+        Authentication auth = filter(tokenWithVersion(0));
+
+        assertNotNull(auth);
+        assertEquals(EMAIL, auth.getName());
+        assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verifyNoInteractions(uds);
+    }
+
+    @Test
+    void revokedTokenVersionIsNotAuthenticated() throws Exception {
+        knownVersion(1);
+
+        assertNull(filter(tokenWithVersion(0)));
+        verifyNoInteractions(uds);
+    }
+
+    @Test
+    void tokenNewerThanTheSnapshotFallsBackToUserLookup() throws Exception {
+        // Revoked and logged in again on another instance, this one hasn't refreshed yet
+        knownVersion(1);
+
+        Authentication auth = filter(tokenWithVersion(2));
+
+        assertNotNull(auth);
+        verify(uds).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void unknownUserFallsBackToUserLookup() throws Exception {
+        Authentication auth = filter(tokenWithVersion(0));
+
+        assertNotNull(auth);
+        verify(uds).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void tokenWithoutVersionFallsBackToUserLookup() throws Exception {
+        knownVersion(0);
+
+        Authentication auth = filter(jwtService.issue(EMAIL, Map.of("uid", USER_ID.toString(), "role", "USER")));
+
+        assertNotNull(auth);
+        verify(uds).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void claimsOnlyDisabledStillLooksUpUserButRejectsRevokedTokens() throws Exception {
+        props.setClaimsOnlyAuth(false);
+        knownVersion(0);
+
+        assertNotNull(filter(tokenWithVersion(0)));
+        verify(uds).loadUserByUsername(EMAIL);
+
+        tokenVersions.update(USER_ID, 1);
+        SecurityContextHolder.clearContext();
+        assertNull(filter(tokenWithVersion(0)));
+    }
+
+    private void knownVersion(int version) {
+        when(users.findTokenVersions()).thenReturn(List.of(new UserTokenVersion(USER_ID, version)));
+        tokenVersions.refresh();
+    }
+
+    private String tokenWithVersion(int version) {
+        return jwtService.issue(EMAIL, Map.of("uid", USER_ID.toString(), "role", "USER", "tv", version));
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
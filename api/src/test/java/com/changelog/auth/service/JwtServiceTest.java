@@ -0,0 +1,82 @@
+package com.changelog.auth.service;
+
+import com.changelog.auth.security.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String DEFAULT_KEY = "default-signing-key-default-signing-key-0001";
+    private static final String KEY_A = "rotation-key-a-rotation-key-a-rotation-key-a";
+    private static final String KEY_B = "rotation-key-b-rotation-key-b-rotation-key-b";
+
+    private JwtProperties props;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        props = new JwtProperties();
+        props.setIssuer("changelog");
+        props.setSigningKey(DEFAULT_KEY);
+        jwtService = new JwtService(props);
+    }
+
+    @Test
+    void issueWithoutRotationKeysSignsWithDefaultKeyAndNoKid() {
+        String token = jwtService.issue("a@example.com", Map.of("role", "USER"));
+
+        var jws = jwtService.parse(token);
+        assertEquals("a@example.com", jws.getBody().getSubject());
+        assertEquals("changelog", jws.getBody().getIssuer());
+        assertNull(jws.getHeader().getKeyId());
+    }
+
+    @Test
+    void issueSignsWithActiveKeyAndOlderTokensStayValid() {
+        String legacyToken = jwtService.issue("a@example.com", Map.of());
+
+        props.setKeys(Map.of("a", KEY_A, "b", KEY_B));
+        props.setActiveKeyId("a");
+        String tokenA = jwtService.issue("a@example.com", Map.of());
+
+        props.setActiveKeyId("b");
+        String tokenB = jwtService.issue("a@example.com", Map.of());
+
+        assertEquals("a", jwtService.parse(tokenA).getHeader().getKeyId());
+        assertEquals("b", jwtService.parse(tokenB).getHeader().getKeyId());
+        assertEquals("a@example.com", jwtService.parse(legacyToken).getBody().getSubject());
+    }
+
+    @Test
+    void parseRejectsTokensSignedWithRetiredKey() {
+        props.setKeys(Map.of("a", KEY_A));
+        props.setActiveKeyId("a");
+        String token = jwtService.issue("a@example.com", Map.of());
+
+        props.setKeys(Map.of("b", KEY_B));
+        props.setActiveKeyId("b");
+
+        assertThrows(JwtException.class, () -> jwtService.parse(token));
+    }
+
+    @Test
+    void parseRejectsTokenSignedWithDifferentSecret() {
+        String token = jwtService.issue("a@example.com", Map.of());
+
+        props.setSigningKey(KEY_B);
+
+        assertThrows(JwtException.class, () -> jwtService.parse(token));
+    }
+
+    @Test
+    void issueFailsWhenActiveKeyIsNotConfigured() {
+        props.setActiveKeyId("missing");
+
+        assertThrows(IllegalStateException.class, () -> jwtService.issue("a@example.com", Map.of()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.changelog.common.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Leases commit in their own transaction, so this test runs without the usual
+ * rollback-only test transaction and cleans up its sequence row itself.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(IdBlockLeaser.class)
+class IdBlockLeaserTest {
+
+    private static final String SEQUENCE = "leaser_test";
+
+    @Autowired
+    private IdBlockLeaser leaser;
+
+    @Autowired
+    private IdBlockRepository idBlockRepository;
+
+    @BeforeEach
+    void setUp() {
+        idBlockRepository.save(new IdBlock(SEQUENCE, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idBlockRepository.deleteById(SEQUENCE);
+    }
+
+    @Test
+    void leaseAdvancesSequencePastBlock() {
+        assertEquals(new IdRange(10, 19), leaser.lease(SEQUENCE, 10, 10, 1_000));
+        assertEquals(new IdRange(20, 29), leaser.lease(SEQUENCE, 10, 10, 1_000));
+        assertEquals(30L, idBlockRepository.findById(SEQUENCE).orElseThrow().getNextValue());
+    }
+
+    @Test
+    void leaseClipsLastBlockAndThenFails() {
+        assertEquals(new IdRange(10, 14), leaser.lease(SEQUENCE, 10, 10, 14));
+        assertThrows(IllegalStateException.class, () -> leaser.lease(SEQUENCE, 10, 10, 14));
+    }
+
+    @Test
+    void leaseFailsForUnknownSequence() {
+        assertThrows(IllegalStateException.class, () -> leaser.lease("missing", 10, 10, 1_000));
+    }
+}
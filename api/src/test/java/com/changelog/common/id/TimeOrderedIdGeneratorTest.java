@@ -0,0 +1,111 @@
+package com.changelog.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-03-01T12:00:00Z").toEpochMilli();
+
+    @Test
+    void generateIdEncodesTimestampAndIncreases() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(fixedClock(NOW), 3);
+
+        long first = generator.generateId();
+        long second = generator.generateId();
+
+        assertTrue(second > first);
+        assertEquals(NOW, TimeOrderedIdGenerator.timestampOf(first));
+        assertEquals(NOW, TimeOrderedIdGenerator.timestampOf(second));
+    }
+
+    @Test
+    void generateIdBorrowsNextMillisecondWhenSequenceRunsOut() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(fixedClock(NOW), 0);
+
+        long last = 0;
+        for (int i = 0; i <= TimeOrderedIdGenerator.MAX_SEQUENCE; i++) {
+            last = generator.generateId();
+        }
+        long next = generator.generateId();
+
+        assertTrue(next > last);
+        assertEquals(NOW + 1, TimeOrderedIdGenerator.timestampOf(next));
+    }
+
+    @Test
+    void generateIdStaysMonotonicWhenClockStepsBack() {
+        AtomicLong millis = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(movingClock(millis), 0);
+
+        long before = generator.generateId();
+        millis.set(NOW - 5_000);
+        long after = generator.generateId();
+
+        assertTrue(after > before);
+    }
+
+    @Test
+    void generateIdDiffersBetweenNodesAtSameInstant() {
+        long a = new TimeOrderedIdGenerator(fixedClock(NOW), 1).generateId();
+        long b = new TimeOrderedIdGenerator(fixedClock(NOW), 2).generateId();
+
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    void generateIdStaysAboveBlockRangeAndWithinSafeJsonIntegers() {
+        long earliest = new TimeOrderedIdGenerator(fixedClock(NOW), 0).generateId();
+        long latest = new TimeOrderedIdGenerator(
+                fixedClock(Instant.parse("2089-01-01T00:00:00Z").toEpochMilli()),
+                TimeOrderedIdGenerator.MAX_NODE_ID).generateId();
+
+        assertTrue(earliest > 999_999_999L);
+        assertTrue(latest <= (1L << 53) - 1);
+    }
+
+    @Test
+    void generateIdAtRejectsTimestampBeforeEpoch() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(fixedClock(NOW), 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generateIdAt(TimeOrderedIdGenerator.EPOCH.toEpochMilli() - 1));
+    }
+
+    @Test
+    void constructorRejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(fixedClock(NOW), -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedIdGenerator(fixedClock(NOW), TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+
+    private static Clock fixedClock(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static Clock movingClock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.changelog.common.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most JDBC statements (and optionally rows) the test method may issue, checked by
+ * {@link QueryBudgetExtension}. Only the test method itself is measured, so seed data in
+ * {@code @BeforeEach}. Needs the DataSource wrapped by {@link SqlStatisticsDataSourcePostProcessor},
+ * which the full application context does (import it into slices).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    long statements();
+
+    /**
+     * Rows read plus rows changed, negative for no limit. Rows read are only counted with
+     * changelog.sql.count-rows, which the test profile turns on.
+     */
+    long rows() default -1;
+}
@@ -0,0 +1,40 @@
+package com.changelog.common.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Enforces {@link QueryBudget}: measures the test method in its own {@link SqlStatistics} scope,
+ * which also sees the statements of MockMvc requests run on the test thread.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatistics.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatistics statistics = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatistics.class);
+        statistics.stop();
+
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        // A failing test already reports its own failure, an over-budget one on top would hide it
+        if (budget == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (statistics.statements() > budget.statements()) {
+            throw new AssertionFailedError("Query budget exceeded: " + statistics.statements()
+                    + " statements, budget " + budget.statements(), budget.statements(), statistics.statements());
+        }
+        if (budget.rows() >= 0 && statistics.rows() > budget.rows()) {
+            throw new AssertionFailedError("Row budget exceeded: " + statistics.rows()
+                    + " rows, budget " + budget.rows(), budget.rows(), statistics.rows());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.changelog.common.util;
+
+import com.changelog.common.id.IdBlockLeaser;
+import com.changelog.common.id.IdRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AbstractBlockLongIdGeneratorTest {
+
+    private static final long MIN = 100_000_000L;
+    private static final long MAX = 999_999_999L;
+
+    @Test
+    void generateIdHandsOutLeasedBlockInOrder() {
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease("test", 3, MIN, MAX))
+                .thenReturn(new IdRange(MIN, MIN + 2), new IdRange(MIN + 3, MIN + 5));
+
+        TestGenerator generator = new TestGenerator(3, leaser, List.of());
+
+        assertEquals(MIN, generator.generateId());
+        assertEquals(MIN + 1, generator.generateId());
+        assertEquals(MIN + 2, generator.generateId());
+        verify(leaser, times(1)).lease("test", 3, MIN, MAX);
+
+        assertEquals(MIN + 3, generator.generateId());
+        verify(leaser, times(2)).lease("test", 3, MIN, MAX);
+    }
+
+    @Test
+    void generateIdSkipsIdsAlreadyTakenInBlock() {
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease("test", 5, MIN, MAX)).thenReturn(new IdRange(MIN, MIN + 4));
+
+        TestGenerator generator = new TestGenerator(5, leaser, List.of(MIN + 3, MIN, MIN + 1));
+
+        assertEquals(MIN + 2, generator.generateId());
+        assertEquals(MIN + 4, generator.generateId());
+        assertEquals(1, generator.lookups.get());
+    }
+
+    @Test
+    void generateIdPropagatesExhaustedRange() {
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease("test", 2, MIN, MAX)).thenThrow(new IllegalStateException("ID range exhausted"));
+
+        TestGenerator generator = new TestGenerator(2, leaser, List.of());
+
+        assertThrows(IllegalStateException.class, generator::generateId);
+    }
+
+    @Test
+    void generateIdIsUniqueAcrossThreads() throws Exception {
+        AtomicLong nextValue = new AtomicLong(MIN);
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease(eq("test"), anyInt(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            int size = invocation.getArgument(1);
+            long first = nextValue.getAndAdd(size);
+            return new IdRange(first, first + size - 1);
+        });
+
+        TestGenerator generator = new TestGenerator(7, leaser, List.of());
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 1_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        assertTrue(ids.add(generator.generateId()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void generateIdsLeasesTheWholeBatchAtOnce() {
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease("test", 500, MIN, MAX)).thenReturn(new IdRange(MIN, MIN + 499));
+
+        TestGenerator generator = new TestGenerator(10, leaser, List.of());
+
+        long[] ids = generator.generateIds(500);
+
+        assertEquals(500, ids.length);
+        assertEquals(MIN, ids[0]);
+        assertEquals(MIN + 499, ids[499]);
+        verify(leaser, times(1)).lease(anyString(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void generateIdsLeasesAgainForIdsAlreadyTaken() {
+        IdBlockLeaser leaser = mock(IdBlockLeaser.class);
+        when(leaser.lease("test", 4, MIN, MAX)).thenReturn(new IdRange(MIN, MIN + 3));
+        when(leaser.lease("test", 1, MIN, MAX)).thenReturn(new IdRange(MIN + 4, MIN + 4));
+
+        TestGenerator generator = new TestGenerator(10, leaser, List.of(MIN + 1));
+
+        assertArrayEquals(new long[]{MIN, MIN + 2, MIN + 3, MIN + 4}, generator.generateIds(4));
+    }
+
+    @Test
+    void constructorRejectsInvalidBlockSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TestGenerator(0, mock(IdBlockLeaser.class), List.of()));
+    }
+
+    private static class TestGenerator extends AbstractBlockLongIdGenerator {
+
+        private final Collection<Long> existing;
+        private final AtomicLong lookups = new AtomicLong();
+
+        TestGenerator(int blockSize, IdBlockLeaser leaser, Collection<Long> existing) {
+            super("test", MIN, MAX, blockSize, leaser);
+            this.existing = existing;
+        }
+
+        @Override
+        protected Collection<Long> findExistingIds(long from, long to) {
+            lookups.incrementAndGet();
+            return existing.stream().filter(id -> id >= from && id <= to).toList();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.changelog.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTest {
+
+    @Test
+    void writeRowLeavesPlainFieldsUnquoted() throws IOException {
+        assertEquals("1,Title,2025-12-10,\r\n", row(1L, "Title", LocalDate.of(2025, 12, 10), null));
+    }
+
+    @Test
+    void writeRowQuotesCommasQuotesAndLineBreaks() throws IOException {
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", row("a,b", "say \"hi\"", "two\nlines"));
+    }
+
+    @Test
+    void writeRowJoinsArraysIntoOneField() throws IOException {
+        assertEquals("Spring Boot;PostgreSQL,x\r\n", row(new String[]{"Spring Boot", "PostgreSQL"}, "x"));
+    }
+
+    private static String row(Object... values) throws IOException {
+        StringWriter out = new StringWriter();
+        Csv.writeRow(out, values);
+        return out.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.changelog.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcerptsTest {
+
+    @Test
+    void ofReturnsNullForMissingOrBlankText() {
+        assertNull(Excerpts.of(null));
+        assertNull(Excerpts.of(""));
+        assertNull(Excerpts.of(" \n\t "));
+    }
+
+    @Test
+    void ofCollapsesWhitespaceAndKeepsShortText() {
+        assertEquals("Found inefficient JPA queries.", Excerpts.of("  Found\ninefficient \t JPA   queries.\n"));
+    }
+
+    @Test
+    void ofCutsLongTextAtWordBoundary() {
+        String text = "word ".repeat(100);
+
+        String excerpt = Excerpts.of(text);
+
+        assertTrue(excerpt.length() <= Excerpts.MAX_LENGTH);
+        assertTrue(excerpt.endsWith("word…"));
+    }
+
+    @Test
+    void ofCutsSingleLongWordAtMaxLength() {
+        String excerpt = Excerpts.of("x".repeat(1000));
+
+        assertEquals(Excerpts.MAX_LENGTH, excerpt.length());
+        assertTrue(excerpt.endsWith("…"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.changelog.common.util;
+
+import com.changelog.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2025, 12, 10), 443682370L);
+
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("2025"));
+        assertEquals(cursor, KeysetCursor.decode(encoded));
+    }
+
+    @Test
+    void decodeReturnsNullForMissingOrBlankCursor() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertNull(KeysetCursor.decode("  "));
+    }
+
+    @Test
+    void decodeThrowsInvalidCursorForGarbage() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("@@@"));
+    }
+}
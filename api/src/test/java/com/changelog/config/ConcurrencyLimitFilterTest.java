@@ -0,0 +1,159 @@
+package com.changelog.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void rejectsRequestsBeyondLimitOnceNothingMayWait() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, 0, Duration.ofMillis(50), List.of("/actuator/**"), List.of("/api/v1/export/**"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> {
+                filter.doFilter(get("/api/v1/tickets"), new MockHttpServletResponse(), blocking);
+                return null;
+            });
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            filter.doFilter(get("/api/v1/entries"), rejected, new MockFilterChain());
+            assertEquals(503, rejected.getStatus());
+            assertEquals("1", rejected.getHeader("Retry-After"));
+
+            // Exempt paths don't take a slot
+            MockHttpServletResponse health = new MockHttpServletResponse();
+            filter.doFilter(get("/actuator/health"), health, new MockFilterChain());
+            assertEquals(200, health.getStatus());
+
+            assertEquals(1.0, registry.get("changelog.requests.limiter.active").tag("lane", "requests").gauge().value());
+            assertEquals(1.0, registry.get("changelog.requests.limiter.rejected").counter().count());
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        MockHttpServletResponse after = new MockHttpServletResponse();
+        filter.doFilter(get("/api/v1/entries"), after, new MockFilterChain());
+        assertEquals(200, after.getStatus());
+    }
+
+    @Test
+    void streamsHaveTheirOwnLane() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, 0, Duration.ofMillis(50),
+                List.of(), List.of("/api/v1/export/**"));
+
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> export = executor.submit(() -> {
+                filter.doFilter(get("/api/v1/export/entries"), new MockHttpServletResponse(), blocking);
+                return null;
+            });
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            // A running export leaves the regular slot free, but a second export is turned away
+            MockHttpServletResponse list = new MockHttpServletResponse();
+            filter.doFilter(get("/api/v1/entries"), list, new MockFilterChain());
+            assertEquals(200, list.getStatus());
+
+            MockHttpServletResponse secondExport = new MockHttpServletResponse();
+            filter.doFilter(get("/api/v1/export/tickets"), secondExport, new MockFilterChain());
+            assertEquals(503, secondExport.getStatus());
+
+            release.countDown();
+            export.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingRequestGetsTheSlotWhenItFreesUp() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 1, 1, Duration.ofSeconds(5), List.of(), List.of());
+
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                filter.doFilter(get("/api/v1/tickets"), new MockHttpServletResponse(), blocking);
+                return null;
+            });
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            // Frees the slot while the next request waits for it
+            new Thread(() -> {
+                sleep(100);
+                release.countDown();
+            }).start();
+
+            MockHttpServletResponse waited = new MockHttpServletResponse();
+            filter.doFilter(get("/api/v1/entries"), waited, new MockFilterChain());
+            assertEquals(200, waited.getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.changelog.tickets.cache;
+
+import com.changelog.tickets.model.Technology;
+import com.changelog.tickets.repository.TechnologyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TechnologyDictionaryTest {
+
+    private TechnologyRepository repository;
+    private TechnologyDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TechnologyRepository.class);
+        when(repository.findAll()).thenReturn(List.of(new Technology(1, "Java"), new Technology(2, "PostgreSQL")));
+        dictionary = new TechnologyDictionary(repository);
+    }
+
+    @Test
+    void codesForMatchesAnyCasingAndDropsBlanksAndRepeats() {
+        assertArrayEquals(new Integer[]{2, 1}, dictionary.codesFor(new String[]{"postgresql", " Java ", "", "JAVA"}));
+        assertNull(dictionary.codesFor(null));
+
+        verify(repository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void codesForAddsNewNamesOnce() {
+        when(repository.findByName("Kafka")).thenReturn(Optional.of(new Technology(3, "Kafka")));
+
+        assertArrayEquals(new Integer[]{1, 3}, dictionary.codesFor(new String[]{"Java", "Kafka"}));
+        assertArrayEquals(new Integer[]{3}, dictionary.codesFor(new String[]{"kafka"}));
+
+        verify(repository, times(1)).insertIfAbsent("Kafka");
+        assertArrayEquals(new String[]{"Java", "Kafka"}, dictionary.names(new Integer[]{1, 3}));
+    }
+
+    @Test
+    void codesForAddsNewNamesInSortedOrderKeepingTheirOwn() {
+        when(repository.findByName("Redis")).thenReturn(Optional.of(new Technology(3, "Redis")));
+        when(repository.findByName("kafka")).thenReturn(Optional.of(new Technology(4, "kafka")));
+
+        assertArrayEquals(new Integer[]{3, 1, 4}, dictionary.codesFor(new String[]{"Redis", "Java", "kafka"}));
+
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).insertIfAbsent("kafka");
+        inOrder.verify(repository).insertIfAbsent("Redis");
+    }
+
+    @Test
+    void namesAddedInATransactionAreRememberedOnlyOnceItCommits() {
+        when(repository.findByName("Kafka")).thenReturn(Optional.of(new Technology(3, "Kafka")));
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> assertArrayEquals(new Integer[]{3}, dictionary.codesFor(new String[]{"Kafka", "kafka"})));
+        verify(repository, times(1)).insertIfAbsent("Kafka");
+
+        // The rolled back row is gone, so the next transaction adds it again
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> dictionary.codesFor(new String[]{"Kafka"}));
+        dictionary.codesFor(new String[]{"Kafka"});
+
+        verify(repository, times(2)).insertIfAbsent("Kafka");
+    }
+
+    @Test
+    void existingCodesNeverAddNames() {
+        when(repository.findByName("Go")).thenReturn(Optional.empty());
+
+        Integer[] codes = dictionary.existingCodes(Arrays.asList("java", "Go", null));
+
+        assertArrayEquals(new Integer[]{1, TechnologyDictionary.UNKNOWN}, codes);
+        assertArrayEquals(new Integer[0], dictionary.existingCodes(null));
+        verify(repository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void namesLooksUpCodesAddedElsewhereAndSkipsMissingOnes() {
+        when(repository.findById(3)).thenReturn(Optional.of(new Technology(3, "Kafka")));
+        when(repository.findById(9)).thenReturn(Optional.empty());
+
+        assertArrayEquals(new String[]{"PostgreSQL", "Kafka"}, dictionary.names(new Integer[]{2, 3, 9}));
+        assertNull(dictionary.names(null));
+    }
+
+    @Test
+    void byNameSortsByCountThenName() {
+        // Code 4 has no row, so no name to count under
+        when(repository.findById(4)).thenReturn(Optional.empty());
+
+        Map<String, Long> counts = dictionary.byName(Map.of(2, 5L, 1, 5L, 4, 7L));
+
+        assertEquals(List.of(Map.entry("Java", 5L), Map.entry("PostgreSQL", 5L)), List.copyOf(counts.entrySet()));
+    }
+
+    private static void inTransaction(int outcome, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(outcome));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
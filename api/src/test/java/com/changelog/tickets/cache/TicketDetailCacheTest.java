@@ -0,0 +1,100 @@
+package com.changelog.tickets.cache;
+
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.dto.TicketDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketDetailCacheTest {
+
+    private TicketDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TicketDetailCache(new ChangelogProperties());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getBySlugLoadsOnceAndEvictByIdDropsIt() {
+        cache.getBySlug("slug-a", this::load);
+        cache.getBySlug("slug-a", this::load);
+        assertEquals(1, loads.get());
+
+        cache.evict(1L);
+
+        cache.getBySlug("slug-a", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictByIdDropsBothIdAndSlugEntries() {
+        cache.getById(1L, id -> load("slug-a"));
+        cache.getBySlug("slug-a", this::load);
+
+        cache.evict(1L);
+
+        cache.getById(1L, id -> load("slug-a"));
+        cache.getBySlug("slug-a", this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void evictInsideTransactionWaitsForCommit() {
+        cache.getBySlug("slug-a", this::load);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+
+            cache.getBySlug("slug-a", this::load);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.getBySlug("slug-a", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getBySlugDoesNotKeepValueLoadedDuringEviction() {
+        cache.getBySlug("slug-a", slug -> {
+            // The write commits and evicts while this read is still loading the old state
+            cache.evict(1L);
+            return load(slug);
+        });
+
+        cache.getBySlug("slug-a", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bindToRegistersHitAndMissMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.getBySlug("slug-a", this::load);
+        cache.getBySlug("slug-a", this::load);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "ticketDetailBySlug").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "ticketDetailBySlug").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    private TicketDetailResponse load(String slug) {
+        loads.incrementAndGet();
+        return TicketDetailResponse.builder().id(1L).slug(slug).build();
+    }
+}
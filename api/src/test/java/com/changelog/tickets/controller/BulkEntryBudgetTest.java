@@ -0,0 +1,90 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.common.sql.QueryBudget;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budget of the bulk endpoint: the cost grows with the number of JDBC batches
+ * (hibernate.jdbc.batch_size), not with the number of entries.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BulkEntryBudgetTest {
+
+    private static final int ENTRY_COUNT = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int t = 0; t < 2; t++) {
+            ticketRepository.save(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("bulk-" + t)
+                    .title("Bulk " + t)
+                    .status(TicketStatus.ACTIVE)
+                    .visibility("Public")
+                    .startDate(LocalDate.now())
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+    }
+
+    @Test
+    // Ticket check, ID lease (lock, advance, taken IDs), three insert batches of 50/50/20, then the count below
+    @QueryBudget(statements = 8)
+    void insertsInBatches() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            body.append("{\"ticketId\":\"").append(100_000_000L + i % 2)
+                    .append("\",\"title\":\"Entry ").append(i)
+                    .append("\",\"date\":\"2025-12-10\",\"visibility\":\"Public\"}\n");
+        }
+        // One unknown ticket, reported without failing the rest
+        body.append("{\"ticketId\":\"123\",\"title\":\"Orphan\",\"date\":\"2025-12-10\",\"visibility\":\"Public\"}\n");
+
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(ENTRY_COUNT)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.results[120].error", is("Ticket with id 123 not found")));
+
+        assertEquals(ENTRY_COUNT, entryRepository.count());
+    }
+}
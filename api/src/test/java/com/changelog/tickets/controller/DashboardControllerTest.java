@@ -1,10 +1,14 @@
 package com.changelog.tickets.controller;
 
+import com.changelog.auth.security.JwtProperties;
+import com.changelog.auth.security.TokenVersionCache;
 import com.changelog.auth.service.JwtService;
 import com.changelog.tickets.dto.*;
 import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.DashboardService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -12,10 +16,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -31,12 +37,28 @@ class DashboardControllerTest {
     @MockBean
     private DashboardService dashboardService;
 
+    @MockBean
+    private ContentVersionService contentVersionService;
+
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockBean
+    private JwtProperties jwtProperties;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    private final ContentVersion version = new ContentVersion("\"1-abc\"", Instant.parse("2025-12-12T10:15:30Z"));
+
+    @BeforeEach
+    void setUp() {
+        when(contentVersionService.ofDashboard()).thenReturn(version);
+    }
+
     @Test
     void getHomeReturnsDashboardHomeResponse() throws Exception {
 
@@ -85,6 +107,35 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$.metrics.activeTickets", is(1)))
                 .andExpect(jsonPath("$.metrics.completedTickets", is(3)))
                 .andExpect(jsonPath("$.metrics.logsThisWeek", is(12)))
-                .andExpect(jsonPath("$.metrics.lastUpdate", is("2025-12-12")));
+                .andExpect(jsonPath("$.metrics.lastUpdate", is("2025-12-12")))
+                .andExpect(header().string("ETag", version.etag()));
+    }
+
+    @Test
+    void getHomeAnswersNotModifiedWithoutLoadingThePage() throws Exception {
+        mockMvc.perform(get("/api/v1/dashboard/home")
+                        .header("If-None-Match", version.etag())
+                        .with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", version.etag()))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    void getHomeSendsPartialPageWithoutValidators() throws Exception {
+        when(dashboardService.getHomePage()).thenReturn(DashboardHomeResponse.builder()
+                .activeTickets(List.of())
+                .recentEntries(List.of())
+                .partial(true)
+                .build());
+
+        mockMvc.perform(get("/api/v1/dashboard/home")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partial", is(true)))
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().string("Cache-Control", "no-store"));
     }
 }
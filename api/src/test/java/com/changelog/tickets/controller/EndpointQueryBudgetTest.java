@@ -0,0 +1,170 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.common.sql.QueryBudget;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
+import com.changelog.tickets.metrics.DashboardMetricsStore;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import com.changelog.tickets.service.EntryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the public read endpoints, measured through the whole stack (filters,
+ * conditional GET validators, caches). Every fixture entry belongs to a different ticket, so
+ * a per-row lazy load breaks the budget.
+ */
+@SpringBootTest(properties = "changelog.sql.server-timing=true")
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest {
+
+    private static final int TICKET_COUNT = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private TicketDetailCache ticketDetailCache;
+
+    @Autowired
+    private TechnologyDictionary technologyDictionary;
+
+    @Autowired
+    private DashboardMetricsStore metricsStore;
+
+    @Autowired
+    private EntryService entryService;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        List<Entry> entries = new ArrayList<>();
+        for (int t = 0; t < TICKET_COUNT; t++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("budget-" + t)
+                    .title("Budget " + t)
+                    .status(t % 2 == 0 ? TicketStatus.ACTIVE : TicketStatus.COMPLETED)
+                    .visibility("Public")
+                    .startDate(today.minusDays(t))
+                    .build());
+            entries.add(Entry.builder()
+                    .id(200_000_000L + t)
+                    .ticket(ticket)
+                    .date(today.minusDays(t))
+                    .title("Entry " + t)
+                    .body("Body " + t)
+                    .technologyIds(technologyDictionary.codesFor(new String[]{"Java"}))
+                    .visibility("Public")
+                    .build());
+        }
+        entryRepository.saveAll(entries);
+
+        ticketDetailCache.clear();
+        metricsStore.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @QueryBudget(statements = 2)
+    void ticketListIsWatermarkPlusOneSelect() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets").param("cursor", "").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 3)
+    void entryListIsTwoWatermarksPlusOneSelect() throws Exception {
+        mockMvc.perform(get("/api/v1/entries").param("cursor", "").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 3)
+    void ticketBySlugIsWatermarkPlusTicketAndEntries() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets/slug/budget-0"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    // Watermarks of both tables, then active tickets and recent entries on section threads (metrics are in memory)
+    @QueryBudget(statements = 4)
+    void dashboardHomeIsTwoWatermarksPlusTwoSections() throws Exception {
+        mockMvc.perform(get("/api/v1/dashboard/home"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 5)
+    void revalidationIsWatermarksOnly() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/entries").param("cursor", ""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 3 statements above, the 304 costs just the watermarks
+        mockMvc.perform(get("/api/v1/entries").param("cursor", "").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void deletingAnEntryChangesTheListValidator() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/entries").param("cursor", ""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // A delete leaves max(updated_at) where it was, only the change counter moves
+        entryService.deleteEntry(200_000_000L + TICKET_COUNT - 1);
+
+        mockMvc.perform(get("/api/v1/entries").param("cursor", "").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void validatedResponsesMayBeStoredButAreRevalidated() throws Exception {
+        // Through the security filter chain, whose default headers would otherwise say no-store
+        String etag = mockMvc.perform(get("/api/v1/entries").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().doesNotExist("Pragma"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/entries").param("cursor", "").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void reportsServerTiming() throws Exception {
+        mockMvc.perform(get("/api/v1/entries").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing",
+                        matchesPattern("db;dur=\\d+\\.\\d{2};desc=\"3 statements, [1-9]\\d* rows\", app;dur=\\d+\\.\\d{2}")));
+    }
+}
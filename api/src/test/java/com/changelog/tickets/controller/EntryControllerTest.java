@@ -1,17 +1,24 @@
 package com.changelog.tickets.controller;
 
+import com.changelog.auth.security.JwtProperties;
+import com.changelog.auth.security.TokenVersionCache;
 import com.changelog.auth.service.JwtService;
+import com.changelog.config.ChangelogProperties;
 import com.changelog.tickets.dto.*;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.EntryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -19,12 +26,15 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(EntryController.class)
+@WebMvcTest(controllers = EntryController.class, properties = "changelog.bulk.max-entries=2")
+@Import(ChangelogProperties.class)
 @WithMockUser
 class EntryControllerTest {
 
@@ -34,12 +44,27 @@ class EntryControllerTest {
     @MockBean
     private EntryService entryService;
 
+    @MockBean
+    private ContentVersionService contentVersionService;
+
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockBean
+    private JwtProperties jwtProperties;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(contentVersionService.ofTicketsAndEntries())
+                .thenReturn(new ContentVersion("\"1-abc.2-def\"", Instant.parse("2025-12-12T10:15:30Z")));
+    }
+
     @Test
     void getEntriesReturnsEntriesPageResponse() throws Exception {
         EntriesPageResponse response = EntriesPageResponse.builder()
@@ -57,7 +82,7 @@ class EntryControllerTest {
                 ))
                 .page(0)
                 .size(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .build();
 
@@ -80,7 +105,7 @@ class EntryControllerTest {
                 .entries(List.of())
                 .page(2)
                 .size(5)
-                .totalElements(0)
+                .totalElements(0L)
                 .totalPages(0)
                 .build();
 
@@ -96,6 +121,27 @@ class EntryControllerTest {
                 .andExpect(jsonPath("$.totalElements", is(0)));
     }
 
+    @Test
+    void getEntriesWithCursorUsesKeysetPaging() throws Exception {
+        EntriesPageResponse response = EntriesPageResponse.builder()
+                .entries(List.of())
+                .size(5)
+                .nextCursor("MjAyNS0xMi0xMHw0NDM2ODIzNzA")
+                .build();
+
+        when(entryService.getEntries(eq(""), eq(5))).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/entries")
+                        .param("cursor", "")
+                        .param("size", "5")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", is(5)))
+                .andExpect(jsonPath("$.nextCursor", is("MjAyNS0xMi0xMHw0NDM2ODIzNzA")))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.page").doesNotExist());
+    }
+
     @Test
     void createEntryReturnsCreatedEntrySummary() throws Exception {
         CreateEntryRequest request = new CreateEntryRequest();
@@ -129,6 +175,101 @@ class EntryControllerTest {
                 .andExpect(jsonPath("$.title", is("Identified bottlenecks")));
     }
 
+    @Test
+    void createEntriesAcceptsJsonArray() throws Exception {
+        CreateEntryRequest request = new CreateEntryRequest();
+        request.setTicketId("456530599");
+        request.setTitle("Identified bottlenecks");
+        request.setDate(LocalDate.of(2025, 12, 10));
+        request.setVisibility("Public");
+
+        when(entryService.createEntries(List.of(request))).thenReturn(BulkEntryResponse.builder()
+                .created(1)
+                .rejected(0)
+                .results(List.of(BulkEntryResult.builder().index(0).entryId(443682370L).build()))
+                .build());
+
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.results[0].entryId", is(443682370)))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist());
+    }
+
+    @Test
+    void createEntriesAcceptsNdjson() throws Exception {
+        when(entryService.createEntries(any())).thenAnswer(invocation -> {
+            List<CreateEntryRequest> requests = invocation.getArgument(0);
+            return BulkEntryResponse.builder()
+                    .created(requests.size())
+                    .rejected(0)
+                    .results(List.of())
+                    .build();
+        });
+
+        String body = """
+                {"ticketId":"456530599","title":"First","date":"2025-12-10","visibility":"Public"}
+                {"ticketId":"456530599","title":"Second","date":"2025-12-11","visibility":"Public"}
+                """;
+
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)));
+    }
+
+    @Test
+    void createEntriesRejectsMalformedNdjsonLine() throws Exception {
+        String body = """
+                {"ticketId":"456530599","title":"First","date":"2025-12-10","visibility":"Public"}
+                {"ticketId":
+                """;
+
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid bulk request")));
+    }
+
+    @Test
+    void createEntriesStopsReadingPastTheLimit() throws Exception {
+        String line = "{\"ticketId\":\"456530599\",\"title\":\"Entry\",\"date\":\"2025-12-10\",\"visibility\":\"Public\"}";
+
+        // The trailing garbage is never reached, the third item already goes over
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content(line + "\n" + line + "\n" + line + "\n{\"ticketId\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("At most 2 entries per request")));
+
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + line + "," + line + "," + line + ",{\"ticketId\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("At most 2 entries per request")));
+
+        verify(entryService, never()).createEntries(any());
+    }
+
+    @Test
+    void createEntriesRejectsBodyThatIsNotAnArray() throws Exception {
+        mockMvc.perform(post("/api/v1/entries/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ticketId\":\"456530599\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid bulk request")));
+    }
+
     @Test
     void updateEntryReturnsUpdatedEntryDetail() throws Exception {
         Long id = 443682370L;
@@ -0,0 +1,175 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.common.sql.QueryBudget;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Entry search on H2, where full-text search is off and the specification serves every filter.
+ * The ranked Postgres query shares the parameters but not the plan, so only its paging is unit tested.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EntrySearchEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private TechnologyDictionary technologyDictionary;
+
+    @BeforeEach
+    void setUp() {
+        List<Entry> entries = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("search-" + t)
+                    .title("Search " + t)
+                    .status(TicketStatus.ACTIVE)
+                    .visibility("Public")
+                    .startDate(LocalDate.of(2026, 1, 1))
+                    .build());
+            for (int e = 0; e < 3; e++) {
+                entries.add(Entry.builder()
+                        .id(200_000_000L + t * 10 + e)
+                        .ticket(ticket)
+                        .date(LocalDate.of(2026, 1, 10 + e))
+                        .title(e == 0 ? "Connection pool tuning" : "Entry " + e)
+                        .body(e == 1 ? "Moved the pool to virtual threads" : "Nothing special")
+                        .technologyIds(technologyDictionary.codesFor(
+                                e == 2 ? new String[]{"Java", "Postgres"} : new String[]{"Java"}))
+                        .visibility(e == 1 ? "Private" : "Public")
+                        .build());
+            }
+        }
+        entryRepository.saveAll(entries);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void matchesSearchTextInTitleOrBody() throws Exception {
+        assertEquals(List.of(200_000_011L, 200_000_001L, 200_000_010L, 200_000_000L),
+                ids(search().param("q", "POOL")));
+    }
+
+    @Test
+    void combinesTicketVisibilityAndDateFilters() throws Exception {
+        assertEquals(List.of(200_000_012L, 200_000_010L),
+                ids(search().param("ticketId", "100000001").param("visibility", "Public")));
+        assertEquals(List.of(200_000_011L, 200_000_001L, 200_000_010L, 200_000_000L),
+                ids(search().param("from", "2026-01-10").param("to", "2026-01-11")));
+    }
+
+    @Test
+    void requiresEveryTechnology() throws Exception {
+        assertEquals(List.of(200_000_012L, 200_000_002L),
+                ids(search().param("technology", "Java").param("technology", "Postgres")));
+        assertEquals(List.of(), ids(search().param("technology", "Postgres").param("technology", "Go")));
+    }
+
+    @Test
+    void matchesAnyTechnologyOnRequest() throws Exception {
+        assertEquals(List.of(200_000_012L, 200_000_002L), ids(search()
+                .param("technology", "Postgres").param("technology", "Go").param("technologyMatch", "any")));
+    }
+
+    @Test
+    // Two watermarks, the page and the facets, then 3 for the request without facets
+    @QueryBudget(statements = 7)
+    void countsTechnologiesOfAllMatchesInOneQuery() throws Exception {
+        JsonNode page = page(search().param("facets", "true").param("size", "1"));
+
+        assertEquals(1, page.get("entries").size());
+        assertEquals("{\"Java\":6,\"Postgres\":2}", page.get("technologyFacets").toString());
+        assertFalse(page(search()).has("technologyFacets"));
+    }
+
+    @Test
+    @QueryBudget(statements = 6)
+    void pagesWithKeysetCursors() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        // Two watermarks and one select per page
+        do {
+            MockHttpServletRequestBuilder request = search().param("technology", "Java").param("size", "4");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = page(request);
+            page.get("entries").forEach(entry -> seen.add(entry.get("entryId").asLong()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertEquals(List.of(200_000_012L, 200_000_002L, 200_000_011L, 200_000_001L,
+                200_000_010L, 200_000_000L), seen);
+    }
+
+    @Test
+    void rejectsMalformedFilters() throws Exception {
+        mockMvc.perform(search().param("from", "10/01/2026"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid search request"));
+        mockMvc.perform(search().param("ticketId", "abc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(search().param("from", "2026-02-01").param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(search().param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(search().param("technology", "Java").param("technologyMatch", "some"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequestBuilder search() {
+        return get("/api/v1/entries/search");
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private List<Long> ids(MockHttpServletRequestBuilder request) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        page(request).get("entries").forEach(entry -> ids.add(entry.get("entryId").asLong()));
+        return ids;
+    }
+}
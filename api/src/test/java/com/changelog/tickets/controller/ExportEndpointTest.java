@@ -0,0 +1,156 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.common.sql.QueryBudget;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Exports through the whole stack: formats, filters, gzip and the statement count, which must
+ * not grow with the number of rows (entries of different tickets are exported in one select).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ExportEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private TechnologyDictionary technologyDictionary;
+
+    @BeforeEach
+    void setUp() {
+        for (int t = 0; t < 3; t++) {
+            Ticket ticket = ticketRepository.save(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("export-" + t)
+                    .title("Export, part " + t)
+                    .status(t == 2 ? TicketStatus.ARCHIVED : TicketStatus.ACTIVE)
+                    .visibility("Public")
+                    .startDate(LocalDate.of(2025, 12, 1 + t))
+                    .technologyIds(technologyDictionary.codesFor(new String[]{"Java", "SQL"}))
+                    .build());
+            entryRepository.save(Entry.builder()
+                    .id(200_000_000L + t)
+                    .ticket(ticket)
+                    .date(LocalDate.of(2025, 12, 10 + t))
+                    .title("Entry " + t)
+                    .body("Said \"done\"\non two lines")
+                    .visibility(t == 1 ? "Private" : "Public")
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @QueryBudget(statements = 1)
+    void exportsEntriesAsNdjsonInOneSelect() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/export/entries"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("entries.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":200000000,\"ticketId\":100000000,\"ticketSlug\":\"export-0\""));
+        assertTrue(lines[0].contains("\"body\":\"Said \\\"done\\\"\\non two lines\""));
+    }
+
+    @Test
+    void exportsTicketsAsCsvWithHeaderAndQuoting() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/export/tickets").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,slug,title,status,visibility,startDate,endDate,technologies,"));
+        assertTrue(lines[1].startsWith("100000000,export-0,\"Export, part 0\",ACTIVE,Public,2025-12-01,,Java;SQL,"));
+    }
+
+    @Test
+    void filtersByStatusVisibilityAndDateRange() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/export/entries")
+                        .param("status", "ACTIVE")
+                        .param("visibility", "Public")
+                        .param("from", "2025-12-10")
+                        .param("to", "2025-12-31"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Entry 1 is private, entry 2 belongs to the archived ticket
+        assertEquals(1, body.split("\n").length);
+        assertTrue(body.startsWith("{\"id\":200000000,"));
+    }
+
+    @Test
+    void compressesWhenTheClientAcceptsGzip() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/export/tickets").header("Accept-Encoding", "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertEquals(3, body.split("\n").length);
+    }
+
+    @Test
+    void ignoresGzipWithZeroQuality() throws Exception {
+        mockMvc.perform(get("/api/v1/export/tickets").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void rejectsBadParametersBeforeWritingAnything() throws Exception {
+        mockMvc.perform(get("/api/v1/export/tickets").param("format", "xml").header("Accept-Encoding", "gzip"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.error").value("Invalid export request"));
+
+        mockMvc.perform(get("/api/v1/export/entries").param("from", "2025-12-31").param("to", "2025-12-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,196 @@
+package com.changelog.tickets.controller;
+
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.ImportCheckpointRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports of export files through the whole stack, with chunks of two lines so that a few
+ * lines cover chunk boundaries, checkpoints and resuming.
+ */
+@SpringBootTest(properties = "changelog.imports.chunk-size=2")
+@AutoConfigureMockMvc
+@WithMockUser
+class ImportEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private TechnologyDictionary technologyDictionary;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @AfterEach
+    void tearDown() {
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        checkpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void exportedFilesImportBackWithTheirIds() throws Exception {
+        for (int t = 0; t < 3; t++) {
+            Ticket ticket = ticketRepository.save(ticket(100_000_000L + t, "round-trip-" + t));
+            entryRepository.save(Entry.builder()
+                    .id(200_000_000L + t)
+                    .ticket(ticket)
+                    .date(LocalDate.of(2025, 12, 10))
+                    .title("Entry " + t)
+                    .body("Body " + t)
+                    .technologyIds(technologyDictionary.codesFor(new String[]{"Java", "SQL"}))
+                    .visibility("Public")
+                    .build());
+        }
+        String tickets = export("tickets");
+        String entries = export("entries");
+        entryRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+
+        importFile("tickets", tickets, null)
+                .andExpect(jsonPath("$.inserted").value(3))
+                .andExpect(jsonPath("$.position").value(3));
+        importFile("entries", entries, null)
+                .andExpect(jsonPath("$.inserted").value(3));
+
+        // Everything but updated_at, which is the import time
+        assertEquals(withoutUpdatedAt(tickets), withoutUpdatedAt(export("tickets")));
+        assertEquals(withoutUpdatedAt(entries), withoutUpdatedAt(export("entries")));
+        Entry entry = entryRepository.findById(200_000_001L).orElseThrow();
+        assertEquals("Body 1", entry.getExcerpt());
+        assertArrayEquals(new String[]{"Java", "SQL"}, technologyDictionary.names(entry.getTechnologyIds()));
+    }
+
+    @Test
+    void existingRowsAreUpdated() throws Exception {
+        ticketRepository.save(ticket(100_000_000L, "before"));
+
+        importFile("tickets", ticketLine(100_000_000L, "after") + ticketLine(100_000_001L, "new"), null)
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertEquals("after", ticketRepository.findById(100_000_000L).orElseThrow().getSlug());
+    }
+
+    @Test
+    void failedImportResumesAfterTheLastCommittedChunk() throws Exception {
+        String good = ticketLine(100_000_000L, "a") + ticketLine(100_000_001L, "b") + ticketLine(100_000_002L, "c");
+        String broken = good + "{\"id\":100000003,\"slug\":\"d\"}\n";
+
+        // Lines 1-2 commit as a chunk, line 4 fails the second one (with line 3)
+        importFile("tickets", broken, "move-1")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Line 4: missing")));
+        assertEquals(2, ticketRepository.count());
+        assertEquals(2, checkpointRepository.findById("move-1").orElseThrow().getPosition());
+
+        importFile("tickets", good + ticketLine(100_000_003L, "d"), "move-1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skipped").value(2))
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.position").value(4));
+        assertEquals(4, ticketRepository.count());
+        assertTrue(checkpointRepository.findById("move-1").isEmpty());
+    }
+
+    @Test
+    void checkpointOnlyResumesItsOwnInput() throws Exception {
+        String broken = ticketLine(100_000_000L, "a") + ticketLine(100_000_001L, "b") + "{\"id\":100000002}\n";
+        importFile("tickets", broken, "move-2")
+                .andExpect(status().isBadRequest());
+
+        // Another file under the same name would have its first two lines skipped
+        importFile("tickets", ticketLine(100_000_010L, "x") + ticketLine(100_000_011L, "y"), "move-2")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Lines 1-2 differ")));
+        importFile("tickets", ticketLine(100_000_010L, "x"), "move-2")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Input ends at line 1")));
+        assertEquals(2, ticketRepository.count());
+    }
+
+    @Test
+    void completedImportFreesItsCheckpointName() throws Exception {
+        // Ends on a chunk boundary, so the last chunk's checkpoint is the one to remove
+        importFile("tickets", ticketLine(100_000_000L, "a") + ticketLine(100_000_001L, "b"), "daily")
+                .andExpect(status().isOk());
+        assertTrue(checkpointRepository.findById("daily").isEmpty());
+
+        importFile("tickets", ticketLine(100_000_002L, "c") + ticketLine(100_000_003L, "d"), "daily")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skipped").value(0))
+                .andExpect(jsonPath("$.inserted").value(2));
+        assertEquals(4, ticketRepository.count());
+    }
+
+    @Test
+    void entriesOfMissingTicketsAreRejectedWithTheirLines() throws Exception {
+        String entry = "{\"id\":200000000,\"ticketId\":42,\"date\":\"2025-12-10\",\"visibility\":\"Public\"}\n";
+
+        importFile("entries", entry, null)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Lines 1-1: ")));
+    }
+
+    private static String withoutUpdatedAt(String ndjson) {
+        return ndjson.replaceAll("\"updatedAt\":\"[^\"]+\"", "");
+    }
+
+    private String export(String kind) throws Exception {
+        return mockMvc.perform(get("/api/v1/export/" + kind))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private ResultActions importFile(String kind, String body, String checkpoint)
+            throws Exception {
+        var request = post("/api/v1/import/" + kind).contentType("application/x-ndjson").content(body);
+        if (checkpoint != null) {
+            request.param("checkpoint", checkpoint);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private static Ticket ticket(long id, String slug) {
+        return Ticket.builder()
+                .id(id)
+                .slug(slug)
+                .title("Ticket " + slug)
+                .status(TicketStatus.ACTIVE)
+                .visibility("Public")
+                .startDate(LocalDate.of(2025, 12, 1))
+                .build();
+    }
+
+    private static String ticketLine(long id, String slug) {
+        return "{\"id\":" + id + ",\"slug\":\"" + slug + "\",\"title\":\"Ticket " + slug
+                + "\",\"status\":\"ACTIVE\",\"visibility\":\"Public\",\"startDate\":\"2025-12-01\"}\n";
+    }
+}
@@ -1,24 +1,32 @@
 package com.changelog.tickets.controller;
 
+import com.changelog.auth.security.JwtProperties;
+import com.changelog.auth.security.TokenVersionCache;
 import com.changelog.auth.service.JwtService;
 import com.changelog.tickets.dto.*;
 import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.service.ContentVersionService;
 import com.changelog.tickets.service.TicketService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,12 +42,31 @@ class TicketControllerTest {
     @MockBean
     private TicketService ticketService;
 
+    @MockBean
+    private ContentVersionService contentVersionService;
+
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockBean
+    private JwtProperties jwtProperties;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    private final ContentVersion version = new ContentVersion("\"1-abc\"", Instant.parse("2025-12-12T10:15:30Z"));
+
+    @BeforeEach
+    void setUp() {
+        when(contentVersionService.ofTickets()).thenReturn(version);
+        when(contentVersionService.ofTicket(anyLong())).thenReturn(Optional.of(version));
+        when(contentVersionService.ofTicketWithEntries(anyLong())).thenReturn(Optional.of(version));
+        when(contentVersionService.ofTicketWithEntries(anyString())).thenReturn(Optional.of(version));
+    }
+
     @Test
     void getTicketsReturnsTicketsPageResponse() throws Exception {
 
@@ -55,7 +82,7 @@ class TicketControllerTest {
                 .tickets(List.of(ticket))
                 .page(0)
                 .size(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .build();
 
@@ -76,6 +103,25 @@ class TicketControllerTest {
                 .andExpect(jsonPath("$.tickets[0].status", is("ACTIVE")));
     }
 
+    @Test
+    void getTicketsWithCursorUsesKeysetPaging() throws Exception {
+
+        TicketsPageResponse response = TicketsPageResponse.builder()
+                .tickets(List.of())
+                .size(10)
+                .build();
+
+        when(ticketService.getTickets(any(TicketFilters.class), eq("MjAyNS0xMi0xMHwx"), eq(10))).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/tickets")
+                        .param("cursor", "MjAyNS0xMi0xMHwx")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", is(10)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
     @Test
     void createTicketPostsAndReturnsCreatedTicketSummary() throws Exception {
         CreateTicketRequest request = new CreateTicketRequest();
@@ -165,7 +211,78 @@ class TicketControllerTest {
                 .andExpect(jsonPath("$.slug", is("refactor-reevaluation-processor")))
                 .andExpect(jsonPath("$.status", is("COMPLETED")))
                 .andExpect(jsonPath("$.entries[0].entryId", is(443682370)))
-                .andExpect(jsonPath("$.entries[0].ticketSlug", is("refactor-reevaluation-processor")));
+                .andExpect(jsonPath("$.entries[0].ticketSlug", is("refactor-reevaluation-processor")))
+                .andExpect(header().string("ETag", version.etag()))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void getTicketBySlugAnswersNotModifiedWithoutLoadingTheTicket() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets/slug/{slug}", "refactor-reevaluation-processor")
+                        .header("If-None-Match", "W/" + version.etag())
+                        .with(csrf()))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/v1/tickets/slug/{slug}", "refactor-reevaluation-processor")
+                        .header("If-Modified-Since", "Fri, 12 Dec 2025 10:15:30 GMT")
+                        .with(csrf()))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    void getTicketBySlugServesStaleValidatorsInFull() throws Exception {
+        when(ticketService.getTicketBySlug("refactor-reevaluation-processor"))
+                .thenReturn(TicketDetailResponse.builder().slug("refactor-reevaluation-processor").build());
+
+        mockMvc.perform(get("/api/v1/tickets/slug/{slug}", "refactor-reevaluation-processor")
+                        .header("If-None-Match", "\"0-0\"")
+                        .header("If-Modified-Since", "Fri, 12 Dec 2025 10:15:30 GMT")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slug", is("refactor-reevaluation-processor")));
+    }
+
+    @Test
+    void getEntriesForTicketWithCursorReturnsKeysetPage() throws Exception {
+        EntriesPageResponse response = EntriesPageResponse.builder()
+                .entries(List.of(EntrySummaryResponse.builder().entryId(443682370L).build()))
+                .size(5)
+                .nextCursor("MjAyNS0xMi0xMHw0NDM2ODIzNzA")
+                .build();
+
+        when(ticketService.getEntriesForTicket(eq(456530599L), eq("abc"), eq(5))).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/tickets/{ticketId}/entries", 456530599L)
+                        .param("cursor", "abc")
+                        .param("size", "5")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].entryId", is(443682370)))
+                .andExpect(jsonPath("$.nextCursor", is("MjAyNS0xMi0xMHw0NDM2ODIzNzA")))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getEntriesForTicketWithoutCursorReturnsOffsetPage() throws Exception {
+        EntriesPageResponse response = EntriesPageResponse.builder()
+                .entries(List.of())
+                .page(0)
+                .size(20)
+                .totalElements(0L)
+                .totalPages(0)
+                .build();
+
+        when(ticketService.getEntriesForTicket(eq(456530599L), any(Pageable.class)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/tickets/{ticketId}/entries", 456530599L)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page", is(0)))
+                .andExpect(jsonPath("$.size", is(20)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
@@ -1,18 +1,23 @@
 package com.changelog.tickets.mapper;
 
+import com.changelog.tickets.cache.TechnologyDictionary;
 import com.changelog.tickets.dto.EntryDetailResponse;
 import com.changelog.tickets.dto.EntrySummaryResponse;
 import com.changelog.tickets.model.Entry;
 import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.repository.EntrySummaryView;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class EntryMapperTest {
 
-    private final EntryMapper mapper = new EntryMapper();
+    private final TechnologyDictionary technologyDictionary = mock(TechnologyDictionary.class);
+    private final EntryMapper mapper = new EntryMapper(technologyDictionary);
 
     @Test
     void toSummaryMapsAllFields() {
@@ -28,10 +33,12 @@ class EntryMapperTest {
                 .date(LocalDate.of(2025, 12, 10))
                 .title("Identified bottlenecks")
                 .body("Found inefficient JPA queries.")
-                .technologies(new String[]{"Spring Boot", "PostgreSQL"})
+                .technologyIds(new Integer[]{1, 2})
                 .visibility("Public")
                 .build();
 
+        when(technologyDictionary.names(new Integer[]{1, 2})).thenReturn(new String[]{"Spring Boot", "PostgreSQL"});
+
         EntrySummaryResponse result = mapper.toSummary(entry);
 
         assertEquals(443682370L, result.getEntryId());
@@ -44,6 +51,32 @@ class EntryMapperTest {
         assertEquals("Public", result.getVisibility());
     }
 
+    @Test
+    void toSummaryFromViewCarriesExcerptAndNoBody() {
+        EntrySummaryView view = new EntrySummaryView(
+                443682370L,
+                LocalDate.of(2025, 12, 10),
+                "Identified bottlenecks",
+                "Found inefficient JPA queries.",
+                new Integer[]{1},
+                "Public",
+                "Refactor reevaluation processor",
+                "refactor-reevaluation-processor"
+        );
+
+        when(technologyDictionary.names(new Integer[]{1})).thenReturn(new String[]{"Spring Boot"});
+
+        EntrySummaryResponse result = mapper.toSummary(view);
+
+        assertEquals(443682370L, result.getEntryId());
+        assertEquals("Refactor reevaluation processor", result.getTicketName());
+        assertEquals("refactor-reevaluation-processor", result.getTicketSlug());
+        assertEquals("Found inefficient JPA queries.", result.getExcerpt());
+        assertNull(result.getBody());
+        assertArrayEquals(new String[]{"Spring Boot"}, result.getTechnologies());
+        assertEquals(view.date(), result.getDate());
+    }
+
     @Test
     void toDetailResponseMapsAllFields() {
         Entry entry = Entry.builder()
@@ -51,17 +84,19 @@ class EntryMapperTest {
                 .date(LocalDate.of(2025, 12, 10))
                 .title("Identified bottlenecks")
                 .body("Found inefficient JPA queries.")
-                .technologies(new String[]{"Spring Boot"})
+                .technologyIds(new Integer[]{1})
                 .visibility("Public")
                 .build();
 
+        when(technologyDictionary.names(new Integer[]{1})).thenReturn(new String[]{"Spring Boot"});
+
         EntryDetailResponse result = mapper.toDetailResponse(entry);
 
         assertEquals(443682370L, result.getId());
         assertEquals(entry.getDate(), result.getDate());
         assertEquals(entry.getTitle(), result.getTitle());
         assertEquals(entry.getBody(), result.getBody());
-        assertArrayEquals(entry.getTechnologies(), result.getTechnologies());
+        assertArrayEquals(new String[]{"Spring Boot"}, result.getTechnologies());
         assertEquals(entry.getVisibility(), result.getVisibility());
     }
 
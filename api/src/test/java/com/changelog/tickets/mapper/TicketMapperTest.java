@@ -1,5 +1,6 @@
 package com.changelog.tickets.mapper;
 
+import com.changelog.tickets.cache.TechnologyDictionary;
 import com.changelog.tickets.dto.TicketDetailResponse;
 import com.changelog.tickets.dto.TicketSummaryResponse;
 import com.changelog.tickets.model.Ticket;
@@ -9,10 +10,13 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class TicketMapperTest {
 
-    private final TicketMapper mapper = new TicketMapper();
+    private final TechnologyDictionary technologyDictionary = mock(TechnologyDictionary.class);
+    private final TicketMapper mapper = new TicketMapper(technologyDictionary);
 
     @Test
     void toSummaryMapsAllFields() {
@@ -45,12 +49,14 @@ class TicketMapperTest {
                 .startDate(LocalDate.of(2025, 12, 1))
                 .endDate(LocalDate.of(2025, 12, 2))
                 .background("Background")
-                .technologies(new String[]{"Java", "Spring Boot"})
+                .technologyIds(new Integer[]{1, 2})
                 .learned("Learned stuff")
                 .roadblocksSummary("Roadblocks")
                 .metricsSummary("Metrics")
                 .build();
 
+        when(technologyDictionary.names(new Integer[]{1, 2})).thenReturn(new String[]{"Java", "Spring Boot"});
+
         TicketDetailResponse result = mapper.toDetailResponse(ticket);
 
         assertEquals(ticket.getId(), result.getId());
@@ -61,7 +67,7 @@ class TicketMapperTest {
         assertEquals(ticket.getStartDate(), result.getStartDate());
         assertEquals(ticket.getEndDate(), result.getEndDate());
         assertEquals(ticket.getBackground(), result.getBackground());
-        assertArrayEquals(ticket.getTechnologies(), result.getTechnologies());
+        assertArrayEquals(new String[]{"Java", "Spring Boot"}, result.getTechnologies());
         assertEquals(ticket.getLearned(), result.getLearned());
         assertEquals(ticket.getRoadblocksSummary(), result.getRoadblocksSummary());
         assertEquals(ticket.getMetricsSummary(), result.getMetricsSummary());
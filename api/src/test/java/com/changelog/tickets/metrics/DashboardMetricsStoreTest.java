@@ -0,0 +1,116 @@
+package com.changelog.tickets.metrics;
+
+import com.changelog.tickets.dto.DashboardMetrics;
+import com.changelog.tickets.event.EntryDateChangedEvent;
+import com.changelog.tickets.event.TicketStatusChangedEvent;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.DateCount;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.StatusCount;
+import com.changelog.tickets.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardMetricsStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @InjectMocks
+    private DashboardMetricsStore store;
+
+    @Test
+    void snapshotRecountsOnFirstUseOnly() {
+        givenCounts(
+                List.of(new StatusCount(TicketStatus.ACTIVE, 2), new StatusCount(TicketStatus.COMPLETED, 5)),
+                List.of(new DateCount(TODAY.minusDays(10), 4), new DateCount(TODAY.minusDays(1), 3)));
+
+        DashboardMetrics metrics = store.snapshot();
+        store.snapshot();
+
+        assertEquals(2, metrics.getActiveTickets());
+        assertEquals(5, metrics.getCompletedTickets());
+        assertEquals(3, metrics.getLogsThisWeek());
+        assertEquals(TODAY.minusDays(1), metrics.getLastUpdate());
+        verify(ticketRepository, times(1)).countGroupedByStatus();
+        verify(entryRepository, times(1)).countGroupedByDate();
+    }
+
+    @Test
+    void ticketEventsMoveCountsBetweenStatuses() {
+        givenCounts(List.of(new StatusCount(TicketStatus.ACTIVE, 1)), List.of());
+        store.reconcile();
+
+        store.onTicketStatusChanged(new TicketStatusChangedEvent(1L, null, TicketStatus.ACTIVE));
+        store.onTicketStatusChanged(new TicketStatusChangedEvent(2L, TicketStatus.ACTIVE, TicketStatus.COMPLETED));
+        store.onTicketStatusChanged(new TicketStatusChangedEvent(3L, TicketStatus.COMPLETED, TicketStatus.COMPLETED));
+
+        DashboardMetrics metrics = store.snapshot();
+        assertEquals(1, metrics.getActiveTickets());
+        assertEquals(1, metrics.getCompletedTickets());
+    }
+
+    @Test
+    void entryEventsMoveTheWeekWindowAndLastUpdate() {
+        givenCounts(List.of(), List.of(new DateCount(TODAY.minusDays(3), 1)));
+        store.reconcile();
+
+        store.onEntryDateChanged(new EntryDateChangedEvent(1L, null, TODAY));
+        assertEquals(2, store.snapshot().getLogsThisWeek());
+        assertEquals(TODAY, store.snapshot().getLastUpdate());
+
+        // Moved out of the week, then the older entry deleted
+        store.onEntryDateChanged(new EntryDateChangedEvent(1L, TODAY, TODAY.minusDays(30)));
+        assertEquals(1, store.snapshot().getLogsThisWeek());
+        assertEquals(TODAY.minusDays(3), store.snapshot().getLastUpdate());
+
+        store.onEntryDateChanged(new EntryDateChangedEvent(2L, TODAY.minusDays(3), null));
+        assertEquals(0, store.snapshot().getLogsThisWeek());
+        assertEquals(TODAY.minusDays(30), store.snapshot().getLastUpdate());
+    }
+
+    @Test
+    void eventsBeforeFirstRecountAreLeftToIt() {
+        store.onTicketStatusChanged(new TicketStatusChangedEvent(1L, null, TicketStatus.ACTIVE));
+        store.onEntryDateChanged(new EntryDateChangedEvent(1L, null, TODAY));
+
+        givenCounts(List.of(new StatusCount(TicketStatus.ACTIVE, 1)), List.of(new DateCount(TODAY, 1)));
+
+        DashboardMetrics metrics = store.snapshot();
+        assertEquals(1, metrics.getActiveTickets());
+        assertEquals(1, metrics.getLogsThisWeek());
+    }
+
+    @Test
+    void reconcileReplacesDriftedCounts() {
+        givenCounts(List.of(new StatusCount(TicketStatus.ACTIVE, 1)), List.of());
+        store.reconcile();
+        store.onTicketStatusChanged(new TicketStatusChangedEvent(1L, null, TicketStatus.ACTIVE));
+        assertEquals(2, store.snapshot().getActiveTickets());
+
+        store.reconcile();
+
+        assertEquals(1, store.snapshot().getActiveTickets());
+        assertNull(store.snapshot().getLastUpdate());
+    }
+
+    private void givenCounts(List<StatusCount> statuses, List<DateCount> dates) {
+        when(ticketRepository.countGroupedByStatus()).thenReturn(statuses);
+        when(entryRepository.countGroupedByDate()).thenReturn(dates);
+    }
+}
@@ -0,0 +1,129 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.tickets.model.ChangeCounter;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChangeWatermarkQueryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private ChangeCounterRepository changeCounterRepository;
+
+    private Ticket withEntries;
+    private Ticket withoutEntries;
+
+    @BeforeEach
+    void setUp() {
+        withEntries = em.persist(ticket(100_000_000L, "with-entries"));
+        withoutEntries = em.persist(ticket(100_000_001L, "without-entries"));
+
+        for (int e = 0; e < 3; e++) {
+            em.persist(Entry.builder()
+                    .id(200_000_000L + e)
+                    .ticket(withEntries)
+                    .date(LocalDate.of(2025, 12, 10 + e))
+                    .title("Entry " + e)
+                    .body("Body " + e)
+                    .visibility("Public")
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void ticketWatermarkCoversTheTicketAndItsEntries() {
+        ChangeWatermark bySlug = ticketRepository.findWatermarkWithEntriesBySlug("with-entries").orElseThrow();
+        ChangeWatermark byId = ticketRepository.findWatermarkWithEntriesById(withEntries.getId()).orElseThrow();
+
+        assertEquals(3, bySlug.count());
+        assertEquals(bySlug, byId);
+        assertNotNull(bySlug.lastModified());
+    }
+
+    @Test
+    void ticketWithoutEntriesFallsBackToItsOwnTimestamp() {
+        ChangeWatermark mark = ticketRepository.findWatermarkWithEntriesBySlug("without-entries").orElseThrow();
+
+        assertEquals(0, mark.count());
+        assertEquals(ticketRepository.findWatermarkById(withoutEntries.getId()).orElseThrow().lastModified(),
+                mark.lastModified());
+    }
+
+    @Test
+    void missingTicketHasNoWatermark() {
+        assertTrue(ticketRepository.findWatermarkWithEntriesBySlug("missing").isEmpty());
+        assertTrue(ticketRepository.findWatermarkById(1L).isEmpty());
+    }
+
+    @Test
+    void tableWatermarkMovesWithUpdates() {
+        ChangeWatermark before = entryRepository.findWatermark();
+        assertNotNull(before.lastModified());
+
+        Entry entry = entryRepository.findById(200_000_000L).orElseThrow();
+        entry.setTitle("Edited");
+        entryRepository.flush();
+
+        ChangeWatermark after = entryRepository.findWatermark();
+        assertTrue(after.lastModified().isAfter(before.lastModified()));
+        assertEquals(before.count(), after.count());
+        assertNotNull(ticketRepository.findWatermark().lastModified());
+    }
+
+    @Test
+    void tableWatermarkMovesWithItsOwnCounterOnly() {
+        ChangeWatermark tickets = ticketRepository.findWatermark();
+        ChangeWatermark before = entryRepository.findWatermark();
+
+        entryRepository.deleteById(200_000_002L);
+        changeCounterRepository.bump(ChangeCounter.ENTRIES);
+        entryRepository.flush();
+
+        ChangeWatermark after = entryRepository.findWatermark();
+        assertEquals(before.count() + 1, after.count());
+        assertNotEquals(before, after);
+        assertEquals(tickets, ticketRepository.findWatermark());
+    }
+
+    @Test
+    void emptyTableHasNoLastModified() {
+        entryRepository.deleteAllInBatch();
+
+        assertNull(entryRepository.findWatermark().lastModified());
+    }
+
+    private static Ticket ticket(long id, String slug) {
+        return Ticket.builder()
+                .id(id)
+                .slug(slug)
+                .title(slug)
+                .status(TicketStatus.ACTIVE)
+                .visibility("Public")
+                .startDate(LocalDate.of(2025, 12, 1))
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.changelog.tickets.repository;
+
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.tickets.dto.TechnologyMatch;
+import com.changelog.tickets.dto.TicketFilters;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TicketSummaryRepositoryImplTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "startDate", "id");
+
+    // Technology codes, the repositories never need their names
+    private static final int JAVA = 1, GO = 2, KAFKA = 3;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate start = LocalDate.of(2025, 12, 1);
+
+        for (int t = 0; t < 5; t++) {
+            em.persist(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("ticket-" + t)
+                    .title("Ticket " + t)
+                    .status(t % 2 == 0 ? TicketStatus.ACTIVE : TicketStatus.COMPLETED)
+                    .visibility("Public")
+                    .startDate(start.plusDays(t))
+                    .background("Background " + t)
+                    .technologyIds(t == 1 ? new Integer[]{GO} : t == 3 ? new Integer[]{JAVA, KAFKA} : new Integer[]{JAVA})
+                    .learned("Learned " + t)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findSummariesAppliesSpecificationSortAndPaging() {
+        var spec = TicketSpecifications.fromFilters(TicketFilters.builder().status(TicketStatus.ACTIVE).build());
+
+        Page<TicketSummaryView> page = ticketRepository.findSummaries(spec, PageRequest.of(0, 2, NEWEST_FIRST));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(List.of("ticket-4", "ticket-2"), page.getContent().stream().map(TicketSummaryView::slug).toList());
+
+        TicketSummaryView first = page.getContent().get(0);
+        assertEquals(TicketStatus.ACTIVE, first.status());
+        assertEquals("Background 4", first.background());
+        assertArrayEquals(new Integer[]{JAVA}, first.technologyIds());
+    }
+
+    @Test
+    void findSummariesWithLimitSeeksPastCursor() {
+        var spec = TicketSpecifications.fromFilters(TicketFilters.builder().build())
+                .and(TicketSpecifications.startedBefore(new KeysetCursor(LocalDate.of(2025, 12, 4), 100_000_003L)));
+
+        List<TicketSummaryView> tickets = ticketRepository.findSummaries(spec, NEWEST_FIRST, 2);
+
+        assertEquals(List.of("ticket-2", "ticket-1"), tickets.stream().map(TicketSummaryView::slug).toList());
+    }
+
+    @Test
+    void findSummariesByIdInLoadsRequestedTickets() {
+        List<TicketSummaryView> tickets = ticketRepository.findSummariesByIdIn(List.of(100_000_001L, 100_000_003L));
+
+        assertEquals(2, tickets.size());
+        assertTrue(tickets.stream().allMatch(ticket -> ticket.status() == TicketStatus.COMPLETED));
+    }
+
+    @Test
+    void technologyFiltersMatchAllOrAny() {
+        var all = TicketSpecifications.hasTechnologies(new Integer[]{JAVA, KAFKA}, null);
+        var any = TicketSpecifications.hasTechnologies(new Integer[]{GO, KAFKA}, TechnologyMatch.ANY);
+
+        assertEquals(List.of("ticket-3"), slugs(ticketRepository.findSummaries(all, NEWEST_FIRST, 10)));
+        assertEquals(List.of("ticket-3", "ticket-1"), slugs(ticketRepository.findSummaries(any, NEWEST_FIRST, 10)));
+    }
+
+    @Test
+    void countTechnologiesCountsMatchingTicketsPerTechnology() {
+        var everything = TicketSpecifications.fromFilters(TicketFilters.builder().build());
+        var active = TicketSpecifications.fromFilters(TicketFilters.builder().status(TicketStatus.ACTIVE).build());
+
+        assertEquals(Map.of(JAVA, 4L, GO, 1L, KAFKA, 1L), ticketRepository.countTechnologies(everything));
+        assertEquals(Map.of(JAVA, 3L), ticketRepository.countTechnologies(active));
+    }
+
+    private static List<String> slugs(List<TicketSummaryView> tickets) {
+        return tickets.stream().map(TicketSummaryView::slug).toList();
+    }
+}
@@ -1,25 +1,30 @@
 package com.changelog.tickets.service;
 
+import com.changelog.config.ChangelogProperties;
 import com.changelog.tickets.dto.DashboardHomeResponse;
 import com.changelog.tickets.dto.DashboardMetrics;
 import com.changelog.tickets.dto.EntrySummaryResponse;
 import com.changelog.tickets.dto.TicketSummaryResponse;
 import com.changelog.tickets.mapper.EntryMapper;
 import com.changelog.tickets.mapper.TicketMapper;
-import com.changelog.tickets.model.Entry;
-import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.metrics.DashboardMetricsStore;
 import com.changelog.tickets.model.TicketStatus;
 import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.EntrySummaryView;
 import com.changelog.tickets.repository.TicketRepository;
+import com.changelog.tickets.repository.TicketSummaryView;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -42,29 +47,41 @@ class DashboardServiceImplTest {
     @Mock
     private EntryMapper entryMapper;
 
+    @Mock
+    private DashboardMetricsStore metricsStore;
+
+    @Spy
+    private ChangelogProperties properties = new ChangelogProperties();
+
+    @Spy
+    private MockEnvironment environment = new MockEnvironment();
+
     @InjectMocks
     private DashboardServiceImpl dashboardService;
 
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
     @Test
     void getHomePageBuildsActiveTicketsRecentEntriesAndMetrics() {
 
-        // Active tickets page (Query 1)
-        Ticket activeTicket = Ticket.builder()
-                .id(456530599L)
-                .slug("refactor-reevaluation-processor")
-                .title("Refactor reevaluation processor")
-                .status(TicketStatus.ACTIVE)
-                .startDate(LocalDate.of(2025, 12, 10))
-                .build();
-
-        Page<Ticket> activeTicketsPage = new PageImpl<>(
-                List.of(activeTicket),
-                PageRequest.of(0, 10),
-                1
+        // Active tickets (Query 1)
+        TicketSummaryView activeTicket = new TicketSummaryView(
+                456530599L,
+                "refactor-reevaluation-processor",
+                "Refactor reevaluation processor",
+                null,
+                TicketStatus.ACTIVE,
+                "Public",
+                LocalDate.of(2025, 12, 10),
+                null,
+                null
         );
 
-        when(ticketRepository.findByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
-                .thenReturn(activeTicketsPage);
+        when(ticketRepository.findSummariesByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
+                .thenReturn(List.of(activeTicket));
 
         TicketSummaryResponse activeSummary = TicketSummaryResponse.builder()
                 .id(456530599L)
@@ -75,26 +92,22 @@ class DashboardServiceImplTest {
 
         when(ticketMapper.toSummary(activeTicket)).thenReturn(activeSummary);
 
-        // Recent entries page (Query 2)
+        // Recent entries (Query 2)
         LocalDate mostRecentEntryDate = LocalDate.of(2025, 12, 12);
 
-        Entry recentEntry = Entry.builder()
-                .id(443682370L)
-                .date(mostRecentEntryDate)
-                .title("Identified bottlenecks")
-                .body("Found inefficient JPA queries.")
-                .technologies(new String[]{"Spring Boot", "PostgreSQL"})
-                .visibility("Public")
-                .build();
-
-        Page<Entry> recentEntriesPage = new PageImpl<>(
-                List.of(recentEntry),
-                PageRequest.of(0, 5),
-                1
+        EntrySummaryView recentEntry = new EntrySummaryView(
+                443682370L,
+                mostRecentEntryDate,
+                "Identified bottlenecks",
+                "Found inefficient JPA queries.",
+                new Integer[]{1, 2},
+                "Public",
+                "Refactor reevaluation processor",
+                "refactor-reevaluation-processor"
         );
 
-        when(entryRepository.findAll(any(PageRequest.class)))
-                .thenReturn(recentEntriesPage);
+        when(entryRepository.findLatestSummaries(Limit.of(5)))
+                .thenReturn(List.of(recentEntry));
 
         EntrySummaryResponse entrySummary = EntrySummaryResponse.builder()
                 .entryId(443682370L)
@@ -107,20 +120,22 @@ class DashboardServiceImplTest {
 
         when(entryMapper.toSummary(recentEntry)).thenReturn(entrySummary);
 
-        // Metrics (Query 3)
-        when(ticketRepository.countByStatus(TicketStatus.ACTIVE)).thenReturn(1L);
-        when(ticketRepository.countByStatus(TicketStatus.COMPLETED)).thenReturn(3L);
-        when(entryRepository.countByDateAfter(any(LocalDate.class))).thenReturn(12L);
+        // Metrics come from the store, not from queries
+        when(metricsStore.snapshot()).thenReturn(DashboardMetrics.builder()
+                .activeTickets(1L)
+                .completedTickets(3L)
+                .logsThisWeek(12L)
+                .lastUpdate(mostRecentEntryDate)
+                .build());
 
         // Execute
         DashboardHomeResponse result = dashboardService.getHomePage();
 
         // Verify queries were called
-        verify(ticketRepository).findByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class));
-        verify(entryRepository).findAll(any(PageRequest.class));
-        verify(ticketRepository).countByStatus(TicketStatus.ACTIVE);
-        verify(ticketRepository).countByStatus(TicketStatus.COMPLETED);
-        verify(entryRepository).countByDateAfter(any(LocalDate.class));
+        verify(ticketRepository).findSummariesByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class));
+        verify(entryRepository).findLatestSummaries(Limit.of(5));
+        verify(metricsStore).snapshot();
+        verifyNoMoreInteractions(ticketRepository, entryRepository);
 
         // Assert active tickets mapped
         assertNotNull(result.getActiveTickets());
@@ -146,20 +161,18 @@ class DashboardServiceImplTest {
     }
 
     @Test
-    void getHomePageSetsLastUpdateNullWhenNoRecentEntries() {
+    void getHomePageWithNoTicketsOrEntries() {
 
-        // Active tickets page (still can be empty)
-        when(ticketRepository.findByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+        // Active tickets (still can be empty)
+        when(ticketRepository.findSummariesByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
+                .thenReturn(List.of());
 
-        // Recent entries empty page
-        when(entryRepository.findAll(any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 5), 0));
+        // Recent entries empty
+        when(entryRepository.findLatestSummaries(Limit.of(5)))
+                .thenReturn(List.of());
 
-        // Counts
-        when(ticketRepository.countByStatus(TicketStatus.ACTIVE)).thenReturn(0L);
-        when(ticketRepository.countByStatus(TicketStatus.COMPLETED)).thenReturn(0L);
-        when(entryRepository.countByDateAfter(any(LocalDate.class))).thenReturn(0L);
+        // Empty store
+        when(metricsStore.snapshot()).thenReturn(DashboardMetrics.builder().build());
 
         DashboardHomeResponse result = dashboardService.getHomePage();
 
@@ -174,5 +187,46 @@ class DashboardServiceImplTest {
 
         assertNotNull(result.getRecentEntries());
         assertTrue(result.getRecentEntries().isEmpty());
+        assertFalse(result.isPartial());
+    }
+
+    @Test
+    void getHomePageServesFailedSectionEmptyAndMarksPartial() {
+        when(ticketRepository.findSummariesByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
+                .thenThrow(new IllegalStateException("connection reset"));
+        when(entryRepository.findLatestSummaries(Limit.of(5))).thenReturn(List.of());
+        when(metricsStore.snapshot()).thenReturn(DashboardMetrics.builder().activeTickets(2L).build());
+
+        DashboardHomeResponse result = dashboardService.getHomePage();
+
+        assertTrue(result.isPartial());
+        assertTrue(result.getActiveTickets().isEmpty());
+        assertEquals(2L, result.getMetrics().getActiveTickets());
+    }
+
+    @Test
+    void getHomePageDoesNotWaitPastSectionTimeout() {
+        properties.getDashboard().setSectionTimeout(Duration.ofMillis(100));
+        DashboardServiceImpl service = new DashboardServiceImpl(
+                ticketRepository, entryRepository, ticketMapper, entryMapper, metricsStore, properties, environment);
+
+        when(ticketRepository.findSummariesByStatus(eq(TicketStatus.ACTIVE), any(PageRequest.class)))
+                .thenReturn(List.of());
+        when(entryRepository.findLatestSummaries(Limit.of(5))).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        when(metricsStore.snapshot()).thenReturn(DashboardMetrics.builder().build());
+
+        try {
+            long start = System.nanoTime();
+            DashboardHomeResponse result = service.getHomePage();
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+            assertTrue(result.isPartial());
+            assertTrue(result.getRecentEntries().isEmpty());
+        } finally {
+            service.shutdown();
+        }
     }
 }
@@ -0,0 +1,214 @@
+package com.changelog.tickets.service;
+
+import com.changelog.common.id.IdBlockLeaser;
+import com.changelog.common.id.TimeOrderedIdGenerator;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
+import com.changelog.tickets.dto.DashboardHomeResponse;
+import com.changelog.tickets.dto.EntriesPageResponse;
+import com.changelog.tickets.dto.EntrySummaryResponse;
+import com.changelog.tickets.dto.TicketDetailResponse;
+import com.changelog.tickets.mapper.EntryMapper;
+import com.changelog.tickets.mapper.TicketMapper;
+import com.changelog.tickets.metrics.DashboardMetricsStore;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.util.EntryIdGenerator;
+import com.changelog.tickets.util.TicketIdGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Locks in the statement count of every entry list path. Each fixture ticket is distinct,
+ * so a lazy ticket load per summary would show up as one extra statement per ticket.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({
+        EntryServiceImpl.class,
+        TicketServiceImpl.class,
+        DashboardServiceImpl.class,
+        EntryMapper.class,
+        TicketMapper.class,
+        EntryIdGenerator.class,
+        TicketIdGenerator.class,
+        IdBlockLeaser.class,
+        TimeOrderedIdGenerator.class,
+        ChangelogProperties.class,
+        TicketDetailCache.class,
+        TechnologyDictionary.class,
+        DashboardMetricsStore.class
+})
+class EntryListQueryCountTest {
+
+    private static final int TICKET_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TicketDetailCache ticketDetailCache;
+
+    @Autowired
+    private DashboardMetricsStore metricsStore;
+
+    @Autowired
+    private TechnologyDictionary technologyDictionary;
+
+    private Statistics statistics;
+
+    private Ticket firstTicket;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+
+        for (int t = 0; t < TICKET_COUNT; t++) {
+            Ticket ticket = em.persist(Ticket.builder()
+                    .id(100_000_000L + t)
+                    .slug("ticket-" + t)
+                    .title("Ticket " + t)
+                    // Only some tickets are ACTIVE, so the dashboard's ticket query can't warm them all
+                    .status(t < 2 ? TicketStatus.ACTIVE : TicketStatus.COMPLETED)
+                    .visibility("Public")
+                    .startDate(today.minusDays(t))
+                    .build());
+
+            for (int e = 0; e < 2; e++) {
+                em.persist(Entry.builder()
+                        .id(200_000_000L + t * 10L + e)
+                        .ticket(ticket)
+                        .date(today.minusDays(t))
+                        .title("Entry " + t + "-" + e)
+                        .body("Body " + t + "-" + e)
+                        .technologyIds(technologyDictionary.codesFor(new String[]{"Java"}))
+                        .visibility("Public")
+                        .build());
+            }
+
+            if (t == 0) {
+                firstTicket = ticket;
+            }
+        }
+
+        em.flush();
+        em.clear();
+        // Fixture ids repeat across tests, and the cache outlives each test's rollback
+        ticketDetailCache.clear();
+        metricsStore.reconcile();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getEntriesOffsetPageUsesOneSelectPlusCount() {
+        EntriesPageResponse page = entryService.getEntries(
+                PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "date")));
+
+        assertEquals(6, page.getEntries().size());
+        assertTicketsResolved(page.getEntries());
+        assertExcerptsOnly(page.getEntries());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getEntriesCursorPageUsesOneSelect() {
+        EntriesPageResponse page = entryService.getEntries("", 6);
+
+        assertEquals(6, page.getEntries().size());
+        assertTicketsResolved(page.getEntries());
+        assertExcerptsOnly(page.getEntries());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getEntriesForTicketUsesExistenceCheckPlusOneSelect() {
+        EntriesPageResponse page = ticketService.getEntriesForTicket(firstTicket.getId(), "", 10);
+
+        assertEquals(2, page.getEntries().size());
+        assertTicketsResolved(page.getEntries());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTicketBySlugUsesTicketSelectPlusEntriesSelect() {
+        TicketDetailResponse detail = ticketService.getTicketBySlug(firstTicket.getSlug());
+
+        assertEquals(2, detail.getEntries().size());
+        assertTicketsResolved(detail.getEntries());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTicketBySlugServesRepeatedLookupsWithoutStatements() {
+        ticketService.getTicketBySlug(firstTicket.getSlug());
+        statistics.clear();
+
+        TicketDetailResponse detail = ticketService.getTicketBySlug(firstTicket.getSlug());
+
+        assertEquals(2, detail.getEntries().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getHomePageStatementCountDoesNotDependOnTicketCount() {
+        DashboardHomeResponse home = dashboardService.getHomePage();
+
+        assertEquals(5, home.getRecentEntries().size());
+        assertTicketsResolved(home.getRecentEntries());
+        assertExcerptsOnly(home.getRecentEntries());
+        assertEquals(2, home.getMetrics().getActiveTickets());
+        assertEquals(2, home.getMetrics().getCompletedTickets());
+        assertEquals(TICKET_COUNT * 2, home.getMetrics().getLogsThisWeek());
+        assertEquals(LocalDate.now(), home.getMetrics().getLastUpdate());
+        // active tickets and recent entries, the metrics come from the store
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static void assertExcerptsOnly(List<EntrySummaryResponse> entries) {
+        entries.forEach(entry -> {
+            assertNull(entry.getBody());
+            assertTrue(entry.getExcerpt().startsWith("Body "));
+        });
+    }
+
+    private static void assertTicketsResolved(List<EntrySummaryResponse> entries) {
+        entries.forEach(entry -> {
+            assertNotNull(entry.getTicketName());
+            assertNotNull(entry.getTicketSlug());
+        });
+    }
+}
@@ -1,30 +1,51 @@
 package com.changelog.tickets.service;
 
+import com.changelog.common.exception.InvalidCursorException;
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.common.util.RankedCursor;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
 import com.changelog.tickets.dto.*;
+import com.changelog.tickets.event.EntryDateChangedEvent;
 import com.changelog.tickets.exception.EntryNotFoundException;
+import com.changelog.tickets.exception.InvalidBulkRequestException;
 import com.changelog.tickets.exception.TicketNotFoundException;
 import com.changelog.tickets.mapper.EntryMapper;
+import com.changelog.tickets.model.ChangeCounter;
 import com.changelog.tickets.model.Entry;
 import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.repository.ChangeCounterRepository;
 import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.EntrySearchHit;
+import com.changelog.tickets.repository.EntrySummaryView;
 import com.changelog.tickets.repository.TicketRepository;
 import com.changelog.tickets.util.EntryIdGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -37,27 +58,50 @@ class EntryServiceImplTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private ChangeCounterRepository changeCounterRepository;
+
     @Mock
     private EntryIdGenerator entryIdGenerator;
 
     @Mock
     private EntryMapper entryMapper;
 
+    @Mock
+    private TicketDetailCache ticketDetailCache;
+
+    @Mock
+    private TechnologyDictionary technologyDictionary;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ChangelogProperties properties = new ChangelogProperties();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private EntryServiceImpl entryService;
 
     @Test
-    void getEntriesUsesFindAllAndMapsPage() {
+    void getEntriesUsesSummaryProjectionAndMapsPage() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        Entry entry = Entry.builder()
-                .id(443682370L)
-                .date(LocalDate.of(2025, 12, 10))
-                .title("Identified bottlenecks")
-                .body("Found inefficient JPA queries.")
-                .technologies(new String[]{"Spring Boot", "PostgreSQL"})
-                .visibility("Public")
-                .build();
+        EntrySummaryView entry = new EntrySummaryView(
+                443682370L,
+                LocalDate.of(2025, 12, 10),
+                "Identified bottlenecks",
+                "Found inefficient JPA queries.",
+                new Integer[]{1, 2},
+                "Public",
+                "Refactor reevaluation processor",
+                "refactor-reevaluation-processor"
+        );
 
         EntrySummaryResponse summary = EntrySummaryResponse.builder()
                 .entryId(443682370L)
@@ -67,14 +111,15 @@ class EntryServiceImplTest {
                 .visibility("Public")
                 .build();
 
-        Page<Entry> page = new PageImpl<>(List.of(entry), pageable, 1);
+        Page<EntrySummaryView> page = new PageImpl<>(List.of(entry), pageable, 1);
 
-        when(entryRepository.findAll(pageable)).thenReturn(page);
-        when(entryMapper.toSummary(any(Entry.class))).thenReturn(summary);
+        when(entryRepository.findSummaries(pageable)).thenReturn(page);
+        when(entryMapper.toSummary(any(EntrySummaryView.class))).thenReturn(summary);
 
         EntriesPageResponse result = entryService.getEntries(pageable);
 
-        verify(entryRepository).findAll(pageable);
+        verify(entryRepository).findSummaries(pageable);
+        verify(entryRepository, never()).findAll(any(Pageable.class));
         verify(entryMapper).toSummary(entry);
 
         assertEquals(0, result.getPage());
@@ -88,6 +133,83 @@ class EntryServiceImplTest {
         assertEquals("refactor-reevaluation-processor", first.getTicketSlug());
     }
 
+    @Test
+    void getEntriesWithEmptyCursorReadsFirstKeysetPage() {
+        EntrySummaryView newest = summaryView(3L, LocalDate.of(2025, 12, 12));
+        EntrySummaryView extra = summaryView(2L, LocalDate.of(2025, 12, 12));
+
+        when(entryRepository.findLatestSummaries(Limit.of(2))).thenReturn(List.of(newest, extra));
+        when(entryMapper.toSummary(newest)).thenReturn(EntrySummaryResponse.builder().entryId(3L).build());
+
+        EntriesPageResponse result = entryService.getEntries("", 1);
+
+        verify(entryRepository, never()).findAll(any(Pageable.class));
+        verify(entryRepository, never()).count();
+
+        assertEquals(1, result.getEntries().size());
+        assertEquals(3L, result.getEntries().get(0).getEntryId());
+        assertEquals(1, result.getSize());
+        assertNull(result.getTotalElements());
+        assertEquals(new KeysetCursor(LocalDate.of(2025, 12, 12), 3L), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getEntriesWithCursorSeeksPastCursorPosition() {
+        EntrySummaryView older = summaryView(1L, LocalDate.of(2025, 12, 1));
+
+        when(entryRepository.findLatestSummariesBefore(LocalDate.of(2025, 12, 12), 3L, Limit.of(11)))
+                .thenReturn(List.of(older));
+        when(entryMapper.toSummary(older)).thenReturn(EntrySummaryResponse.builder().entryId(1L).build());
+
+        String cursor = new KeysetCursor(LocalDate.of(2025, 12, 12), 3L).encode();
+        EntriesPageResponse result = entryService.getEntries(cursor, 10);
+
+        assertEquals(1, result.getEntries().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getEntriesWithMalformedCursorThrowsInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> entryService.getEntries("not-a-cursor", 10));
+
+        verifyNoInteractions(entryRepository);
+    }
+
+    @Test
+    void searchEntriesWithFullTextRanksAndResumesFromRankedCursor() {
+        properties.getSearch().setFullTextEnabled(true);
+        EntrySummaryView best = summaryView(7L, LocalDate.of(2025, 12, 1));
+        EntrySummaryView next = summaryView(9L, LocalDate.of(2025, 12, 5));
+        RankedCursor after = new RankedCursor(0.5f, LocalDate.of(2025, 12, 12), 3L);
+
+        when(entryRepository.searchFullText(eq("pool"), isNull(), isNull(), isNull(), isNull(),
+                aryEq(new Integer[]{1}), eq(true), eq(0.5f), eq(LocalDate.of(2025, 12, 12)), eq(3L), eq(3)))
+                .thenReturn(List.of(hit(7L, 0.4f), hit(9L, 0.2f), hit(8L, 0.1f)));
+        // Unordered, as the IN query returns them
+        when(technologyDictionary.existingCodes(List.of("Java"))).thenReturn(new Integer[]{1});
+        when(entryRepository.findSummariesByIdIn(List.of(7L, 9L))).thenReturn(List.of(next, best));
+        when(entryMapper.toSummary(best)).thenReturn(EntrySummaryResponse.builder().entryId(7L).build());
+        when(entryMapper.toSummary(next)).thenReturn(EntrySummaryResponse.builder().entryId(9L).build());
+
+        EntrySearchFilters filters = EntrySearchFilters.builder().search(" pool ").technologies(List.of("Java")).build();
+        EntriesPageResponse result = entryService.searchEntries(filters, after.encode(), 2);
+
+        assertEquals(List.of(7L, 9L), result.getEntries().stream().map(EntrySummaryResponse::getEntryId).toList());
+        assertEquals(new RankedCursor(0.2f, LocalDate.of(2025, 12, 5), 9L), RankedCursor.decode(result.getNextCursor()));
+        verify(entryRepository, never()).findSummaries(any(), any(Sort.class), anyInt());
+    }
+
+    @Test
+    void searchEntriesWithFullTextRejectsDateCursor() {
+        properties.getSearch().setFullTextEnabled(true);
+        String cursor = new KeysetCursor(LocalDate.of(2025, 12, 12), 3L).encode();
+        EntrySearchFilters filters = EntrySearchFilters.builder().search("pool").build();
+
+        assertThrows(InvalidCursorException.class, () -> entryService.searchEntries(filters, cursor, 10));
+
+        verifyNoInteractions(entryRepository);
+    }
+
     @Test
     void createEntryFindsTicketGeneratesIdSavesAndReturnsSummary() {
         CreateEntryRequest request = new CreateEntryRequest();
@@ -107,6 +229,7 @@ class EntryServiceImplTest {
         long generatedId = 417555206L;
         when(ticketRepository.findById(Long.valueOf(request.getTicketId()))).thenReturn(Optional.of(ticket));
         when(entryIdGenerator.generateId()).thenReturn(generatedId);
+        when(technologyDictionary.codesFor(new String[]{"Spring Boot", "Hibernate"})).thenReturn(new Integer[]{1, 3});
 
         when(entryRepository.save(any(Entry.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -128,6 +251,8 @@ class EntryServiceImplTest {
 
         verify(ticketRepository).findById(456530599L);
         verify(entryIdGenerator).generateId();
+        verify(ticketDetailCache).evict(456530599L);
+        verify(eventPublisher).publishEvent(new EntryDateChangedEvent(generatedId, null, request.getDate()));
 
         ArgumentCaptor<Entry> entryCaptor = ArgumentCaptor.forClass(Entry.class);
         verify(entryRepository).save(entryCaptor.capture());
@@ -138,7 +263,7 @@ class EntryServiceImplTest {
         assertEquals(request.getTitle(), toSave.getTitle());
         assertEquals(request.getBody(), toSave.getBody());
         assertEquals(request.getDate(), toSave.getDate());
-        assertArrayEquals(new String[]{"Spring Boot", "Hibernate"}, toSave.getTechnologies());
+        assertArrayEquals(new Integer[]{1, 3}, toSave.getTechnologyIds());
         assertEquals("Public", toSave.getVisibility());
 
         verify(entryMapper).toSummary(any(Entry.class));
@@ -160,16 +285,96 @@ class EntryServiceImplTest {
         verify(entryIdGenerator, never()).generateId();
     }
 
+    @Test
+    void createEntriesChecksTicketsOnceAndReportsEachItem() {
+        CreateEntryRequest untitled = bulkRequest("456530599", LocalDate.of(2025, 12, 9));
+        untitled.setTitle(null);
+        List<CreateEntryRequest> requests = List.of(
+                bulkRequest("456530599", LocalDate.of(2025, 12, 10)),
+                untitled,
+                bulkRequest("999", LocalDate.of(2025, 12, 11)),
+                bulkRequest("456530599", LocalDate.of(2025, 12, 12)));
+
+        when(ticketRepository.findExistingIds(Set.of(456530599L, 999L))).thenReturn(List.of(456530599L));
+        when(ticketRepository.getReferenceById(456530599L)).thenReturn(Ticket.builder().id(456530599L).build());
+        when(entryIdGenerator.generateIds(2)).thenReturn(new long[]{417555206L, 417555207L});
+
+        BulkEntryResponse response = entryService.createEntries(requests);
+
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getRejected());
+        List<BulkEntryResult> results = response.getResults();
+        assertEquals(417555206L, results.get(0).getEntryId());
+        assertEquals("title: must not be blank", results.get(1).getError());
+        assertEquals("Ticket with id 999 not found", results.get(2).getError());
+        assertEquals(417555207L, results.get(3).getEntryId());
+
+        verify(ticketRepository, times(1)).findExistingIds(anyCollection());
+        verify(ticketRepository, never()).findById(anyLong());
+
+        ArgumentCaptor<List<Entry>> saved = ArgumentCaptor.forClass(List.class);
+        verify(entryRepository).saveAll(saved.capture());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+        verify(ticketDetailCache, times(1)).evict(456530599L);
+        verify(eventPublisher).publishEvent(new EntryDateChangedEvent(417555207L, null, LocalDate.of(2025, 12, 12)));
+    }
+
+    @Test
+    void createEntriesFlushesEveryFlushSizeItems() {
+        properties.getBulk().setFlushSize(2);
+        List<CreateEntryRequest> requests = List.of(
+                bulkRequest("456530599", LocalDate.of(2025, 12, 10)),
+                bulkRequest("456530599", LocalDate.of(2025, 12, 11)),
+                bulkRequest("456530599", LocalDate.of(2025, 12, 12)));
+
+        when(ticketRepository.findExistingIds(Set.of(456530599L))).thenReturn(List.of(456530599L));
+        when(entryIdGenerator.generateIds(3)).thenReturn(new long[]{1L, 2L, 3L});
+
+        entryService.createEntries(requests);
+
+        verify(entryRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void createEntriesRejectsOversizedBatchBeforeTouchingTheDatabase() {
+        properties.getBulk().setMaxEntries(1);
+        List<CreateEntryRequest> requests = List.of(
+                bulkRequest("456530599", LocalDate.of(2025, 12, 10)),
+                bulkRequest("456530599", LocalDate.of(2025, 12, 11)));
+
+        assertThrows(InvalidBulkRequestException.class, () -> entryService.createEntries(requests));
+
+        verifyNoInteractions(ticketRepository, entryRepository, entryIdGenerator);
+    }
+
+    @Test
+    void createEntriesRejectsMissingDateVisibilityAndNonNumericTicket() {
+        CreateEntryRequest request = new CreateEntryRequest();
+        request.setTicketId("abc");
+        request.setTitle("Title");
+
+        BulkEntryResponse response = entryService.createEntries(List.of(request));
+
+        assertEquals(0, response.getCreated());
+        assertEquals("date: must not be null; visibility: must not be null; ticketId: must be a number",
+                response.getResults().get(0).getError());
+        verify(ticketRepository, never()).findExistingIds(anyCollection());
+    }
+
     @Test
     void updateEntryUpdatesFieldsSavesAndReturnsDetail() {
         Long id = 443682370L;
 
         Entry existing = Entry.builder()
                 .id(id)
+                .ticket(Ticket.builder().id(456530599L).build())
                 .date(LocalDate.of(2025, 12, 10))
                 .title("Old title")
                 .body("Old body")
-                .technologies(new String[]{"Spring Boot"})
+                .technologyIds(new Integer[]{1})
                 .visibility("Public")
                 .build();
 
@@ -181,6 +386,7 @@ class EntryServiceImplTest {
         request.setVisibility("Public");
 
         when(entryRepository.findById(id)).thenReturn(Optional.of(existing));
+        when(technologyDictionary.codesFor(new String[]{"Spring Boot", "PostgreSQL"})).thenReturn(new Integer[]{1, 2});
         when(entryRepository.save(any(Entry.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -204,10 +410,13 @@ class EntryServiceImplTest {
         assertEquals("Updated title", saved.getTitle());
         assertEquals("Updated body", saved.getBody());
         assertEquals(LocalDate.of(2025, 12, 11), saved.getDate());
-        assertArrayEquals(new String[]{"Spring Boot", "PostgreSQL"}, saved.getTechnologies());
+        assertArrayEquals(new Integer[]{1, 2}, saved.getTechnologyIds());
         assertEquals("Public", saved.getVisibility());
 
         verify(entryMapper).toDetailResponse(saved);
+        verify(ticketDetailCache).evict(456530599L);
+        verify(eventPublisher).publishEvent(
+                new EntryDateChangedEvent(id, LocalDate.of(2025, 12, 10), LocalDate.of(2025, 12, 11)));
         assertEquals(mapped, result);
     }
 
@@ -229,7 +438,7 @@ class EntryServiceImplTest {
     void deleteEntryFindsAndDeletes() {
         Long id = 443682370L;
 
-        Entry existing = Entry.builder().id(id).build();
+        Entry existing = Entry.builder().id(id).ticket(Ticket.builder().id(456530599L).build()).build();
         when(entryRepository.findById(id)).thenReturn(Optional.of(existing));
         doNothing().when(entryRepository).delete(existing);
 
@@ -237,6 +446,9 @@ class EntryServiceImplTest {
 
         verify(entryRepository).findById(id);
         verify(entryRepository).delete(existing);
+        verify(changeCounterRepository).bump(ChangeCounter.ENTRIES);
+        verify(ticketDetailCache).evict(456530599L);
+        verify(eventPublisher).publishEvent(new EntryDateChangedEvent(id, null, null));
     }
 
     @Test
@@ -248,5 +460,33 @@ class EntryServiceImplTest {
 
         verify(entryRepository).findById(id);
         verify(entryRepository, never()).delete(any());
+        verifyNoInteractions(changeCounterRepository);
+    }
+
+    private static EntrySummaryView summaryView(Long id, LocalDate date) {
+        return new EntrySummaryView(id, date, null, null, null, "Public", "Ticket", "ticket");
+    }
+
+    private static EntrySearchHit hit(Long id, float rank) {
+        return new EntrySearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
+
+    private static CreateEntryRequest bulkRequest(String ticketId, LocalDate date) {
+        CreateEntryRequest request = new CreateEntryRequest();
+        request.setTicketId(ticketId);
+        request.setTitle("Entry of " + date);
+        request.setDate(date);
+        request.setVisibility("Public");
+        return request;
     }
 }
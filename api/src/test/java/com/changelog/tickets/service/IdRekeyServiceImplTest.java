@@ -0,0 +1,144 @@
+package com.changelog.tickets.service;
+
+import com.changelog.common.id.TimeOrderedIdGenerator;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.model.Entry;
+import com.changelog.tickets.model.Ticket;
+import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
+import com.changelog.tickets.repository.TicketRepository;
+import com.changelog.tickets.util.TicketIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "changelog.ids.rekey-batch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({IdRekeyServiceImpl.class, ChangelogProperties.class})
+class IdRekeyServiceImplTest {
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2025, 6, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private IdRekeyService idRekeyService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Ids deliberately in reverse creation order
+        for (int t = 0; t < 3; t++) {
+            long ticketId = 100_000_300L - t;
+            Ticket ticket = em.persist(Ticket.builder()
+                    .id(ticketId)
+                    .slug("ticket-" + t)
+                    .title("Ticket " + t)
+                    .status(TicketStatus.ACTIVE)
+                    .visibility("Public")
+                    .startDate(LocalDate.of(2025, 6, 1))
+                    .build());
+
+            em.persist(Entry.builder()
+                    .id(200_000_300L - t)
+                    .ticket(ticket)
+                    .date(LocalDate.of(2025, 6, 1))
+                    .title("Entry " + t)
+                    .visibility("Public")
+                    .build());
+
+            em.flush();
+            setCreatedAt("cl_ticket", ticketId, CREATED.plusMinutes(t));
+            setCreatedAt("cl_entry", 200_000_300L - t, CREATED.plusMinutes(t));
+        }
+
+        em.clear();
+    }
+
+    @Test
+    void rekeyTicketsMovesIdsInCreationOrderAndCascadesToEntries() {
+        assertEquals(3, idRekeyService.rekeyTickets());
+        em.clear();
+
+        List<Ticket> tickets = ticketRepository.findAll(Sort.by("createdAt"));
+        assertEquals(List.of("ticket-0", "ticket-1", "ticket-2"), tickets.stream().map(Ticket::getSlug).toList());
+
+        long previous = 0;
+        for (Ticket ticket : tickets) {
+            assertTrue(ticket.getId() > TicketIdGenerator.MAX_BLOCK_ID);
+            assertTrue(ticket.getId() > previous);
+            assertEquals(ticket.getCreatedAt().toInstant(),
+                    Instant.ofEpochMilli(TimeOrderedIdGenerator.timestampOf(ticket.getId())));
+            previous = ticket.getId();
+        }
+
+        List<Entry> entries = entryRepository.findAll();
+        assertEquals(3, entries.size());
+        entries.forEach(entry -> assertTrue(entry.getTicket().getId() > TicketIdGenerator.MAX_BLOCK_ID));
+    }
+
+    @Test
+    void rekeyEntriesLeavesTicketsAlone() {
+        assertEquals(3, idRekeyService.rekeyEntries());
+        em.clear();
+
+        entryRepository.findAll().forEach(entry -> {
+            assertTrue(entry.getId() > 999_999_999L);
+            assertTrue(entry.getTicket().getId() <= TicketIdGenerator.MAX_BLOCK_ID);
+        });
+    }
+
+    @Test
+    void rowsCreatedBeforeTheIdEpochMoveOutOfTheBlockRangeOnce() {
+        // Keyed at the epoch itself they would get 9-digit IDs and be picked up again and again
+        setCreatedAt("cl_ticket", 100_000_300L, OffsetDateTime.of(2019, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+        setCreatedAt("cl_ticket", 100_000_299L, OffsetDateTime.of(2019, 3, 2, 0, 0, 0, 0, ZoneOffset.UTC));
+
+        assertEquals(3, idRekeyService.rekeyTickets());
+        assertEquals(0, idRekeyService.rekeyTickets());
+        em.clear();
+
+        List<Ticket> tickets = ticketRepository.findAll(Sort.by("createdAt"));
+        assertEquals(List.of("ticket-0", "ticket-1", "ticket-2"), tickets.stream().map(Ticket::getSlug).toList());
+        long previous = 0;
+        for (Ticket ticket : tickets) {
+            assertTrue(ticket.getId() > TicketIdGenerator.MAX_BLOCK_ID);
+            assertTrue(ticket.getId() > previous);
+            previous = ticket.getId();
+        }
+    }
+
+    @Test
+    void rekeyIsNoOpOnceEverythingMoved() {
+        idRekeyService.rekeyTickets();
+
+        assertEquals(0, idRekeyService.rekeyTickets());
+    }
+
+    private void setCreatedAt(String table, long id, OffsetDateTime createdAt) {
+        em.getEntityManager()
+                .createNativeQuery("UPDATE " + table + " SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,55 @@
+package com.changelog.tickets.service;
+
+import com.changelog.tickets.exception.TicketNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The service and repository timers the dev and prod profiles turn on, tagged by method and
+ * outcome (the exception tag for services, state for repositories).
+ */
+@SpringBootTest(properties = "management.observations.annotations.enabled=true")
+class ServiceTimingTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void timesServiceCallsByMethodAndOutcome() {
+        long before = failedSlugLookups();
+
+        assertThrows(TicketNotFoundException.class, () -> ticketService.getTicketBySlug("no-such-ticket"));
+
+        assertEquals(before + 1, failedSlugLookups());
+    }
+
+    @Test
+    void timesRepositoryInvocations() {
+        // The lookup itself succeeds, finding nothing
+        assertThrows(TicketNotFoundException.class, () -> ticketService.getTicketBySlug("missing-too"));
+
+        Timer lookups = registry.get("spring.data.repository.invocations")
+                .tag("repository", "TicketRepository")
+                .tag("state", "SUCCESS")
+                .timer();
+        assertTrue(lookups.count() > 0);
+    }
+
+    // The registry outlives each test, so compare counts rather than expect fresh meters
+    private long failedSlugLookups() {
+        Timer timer = registry.find("changelog.service")
+                .tag("class", TicketServiceImpl.class.getName())
+                .tag("method", "getTicketBySlug")
+                .tag("exception", TicketNotFoundException.class.getSimpleName())
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -1,37 +1,51 @@
 package com.changelog.tickets.service;
 
+import com.changelog.common.util.KeysetCursor;
+import com.changelog.config.ChangelogProperties;
+import com.changelog.tickets.cache.TechnologyDictionary;
+import com.changelog.tickets.cache.TicketDetailCache;
 import com.changelog.tickets.dto.CreateTicketRequest;
+import com.changelog.tickets.dto.EntriesPageResponse;
 import com.changelog.tickets.dto.EntrySummaryResponse;
 import com.changelog.tickets.dto.TicketDetailResponse;
 import com.changelog.tickets.dto.TicketFilters;
 import com.changelog.tickets.dto.TicketSummaryResponse;
 import com.changelog.tickets.dto.TicketsPageResponse;
 import com.changelog.tickets.dto.UpdateTicketRequest;
+import com.changelog.tickets.event.TicketStatusChangedEvent;
 import com.changelog.tickets.exception.TicketNotFoundException;
 import com.changelog.tickets.mapper.EntryMapper;
 import com.changelog.tickets.mapper.TicketMapper;
 import com.changelog.tickets.model.Entry;
 import com.changelog.tickets.model.Ticket;
 import com.changelog.tickets.model.TicketStatus;
+import com.changelog.tickets.repository.EntryRepository;
 import com.changelog.tickets.repository.TicketRepository;
+import com.changelog.tickets.repository.TicketSummaryView;
 import com.changelog.tickets.util.TicketIdGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -41,6 +55,9 @@ class TicketServiceImplTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private EntryRepository entryRepository;
+
     @Mock
     private TicketIdGenerator ticketIdGenerator;
 
@@ -50,24 +67,31 @@ class TicketServiceImplTest {
     @Mock
     private EntryMapper entryMapper;
 
+    @Spy
+    private ChangelogProperties properties = new ChangelogProperties();
+
+    @Spy
+    private TicketDetailCache ticketDetailCache = new TicketDetailCache(new ChangelogProperties());
+
+    @Mock
+    private TechnologyDictionary technologyDictionary;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TicketServiceImpl ticketService;
 
     @Test
-    void getTicketsWithStatusFilterUsesFindAllWithSpecAndMapsPage() {
+    void getTicketsWithStatusFilterUsesSummaryQueryWithSpecAndMapsPage() {
 
         TicketFilters filters = TicketFilters.builder()
                 .status(TicketStatus.ACTIVE)
                 .build();
         Pageable pageable = PageRequest.of(0, 10);
 
-        Ticket ticket = Ticket.builder()
-                .id(1L)
-                .slug("refactor-reevaluation-processor")
-                .title("Refactor reevaluation processor")
-                .status(TicketStatus.ACTIVE)
-                .startDate(LocalDate.of(2025, 12, 10))
-                .build();
+        TicketSummaryView ticket = summaryView(1L, "refactor-reevaluation-processor", TicketStatus.ACTIVE,
+                LocalDate.of(2025, 12, 10));
 
         TicketSummaryResponse mockSummary = TicketSummaryResponse.builder()
                 .id(1L)
@@ -75,14 +99,15 @@ class TicketServiceImplTest {
                 .status(TicketStatus.ACTIVE)
                 .build();
 
-        Page<Ticket> page = new PageImpl<>(List.of(ticket), pageable, 1);
+        Page<TicketSummaryView> page = new PageImpl<>(List.of(ticket), pageable, 1);
 
-        when(ticketRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-        when(ticketMapper.toSummary(any())).thenReturn(mockSummary);
+        when(ticketRepository.findSummaries(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(ticketMapper.toSummary(any(TicketSummaryView.class))).thenReturn(mockSummary);
 
         TicketsPageResponse result = ticketService.getTickets(filters, pageable);
 
-        verify(ticketRepository).findAll(any(Specification.class), eq(pageable));
+        verify(ticketRepository).findSummaries(any(Specification.class), eq(pageable));
+        verify(ticketRepository, never()).findAll(any(Specification.class), any(Pageable.class));
 
         assertEquals(0, result.getPage());
         assertEquals(10, result.getSize());
@@ -97,27 +122,22 @@ class TicketServiceImplTest {
     }
 
     @Test
-    void getTicketsWithoutStatusFilterUsesFindAll() {
+    void getTicketsWithoutStatusFilterUsesSummaryQuery() {
 
         TicketFilters filters = TicketFilters.builder().build();
         Pageable pageable = PageRequest.of(0, 5);
 
-        Ticket ticket = Ticket.builder()
-                .id(2L)
-                .slug("some-other-ticket")
-                .title("Some other ticket")
-                .status(TicketStatus.COMPLETED)
-                .startDate(LocalDate.of(2025, 12, 9))
-                .build();
+        TicketSummaryView ticket = summaryView(2L, "some-other-ticket", TicketStatus.COMPLETED,
+                LocalDate.of(2025, 12, 9));
 
-        Page<Ticket> page = new PageImpl<>(List.of(ticket), pageable, 1);
+        Page<TicketSummaryView> page = new PageImpl<>(List.of(ticket), pageable, 1);
 
-        when(ticketRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-        when(ticketMapper.toSummary(any())).thenReturn(TicketSummaryResponse.builder().id(2L).build());
+        when(ticketRepository.findSummaries(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(ticketMapper.toSummary(any(TicketSummaryView.class))).thenReturn(TicketSummaryResponse.builder().id(2L).build());
 
         TicketsPageResponse result = ticketService.getTickets(filters, pageable);
 
-        verify(ticketRepository).findAll(any(Specification.class), eq(pageable));
+        verify(ticketRepository).findSummaries(any(Specification.class), eq(pageable));
 
         assertEquals(0, result.getPage());
         assertEquals(5, result.getSize());
@@ -126,6 +146,164 @@ class TicketServiceImplTest {
         assertEquals(2L, result.getTickets().get(0).getId());
     }
 
+    @Test
+    void getTicketsWithSearchUsesLikeSpecificationWhenFullTextDisabled() {
+
+        TicketFilters filters = TicketFilters.builder()
+                .search("batching")
+                .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(ticketRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        ticketService.getTickets(filters, pageable);
+
+        verify(ticketRepository).findSummaries(any(Specification.class), eq(pageable));
+        verify(ticketRepository, never()).searchFullTextIds(any(), any(), any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void getTicketsWithSearchUsesRankedFullTextQueryWhenEnabled() {
+
+        properties.getSearch().setFullTextEnabled(true);
+
+        TicketFilters filters = TicketFilters.builder()
+                .status(TicketStatus.ACTIVE)
+                .visibility(" ")
+                .search("  jpa batching ")
+                .build();
+        Pageable pageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "startDate"));
+
+        TicketSummaryView ticket = summaryView(456530599L, "refactor-reevaluation-processor", TicketStatus.ACTIVE,
+                LocalDate.of(2025, 12, 10));
+
+        when(technologyDictionary.existingCodes(null)).thenReturn(new Integer[0]);
+        when(ticketRepository.searchFullTextIds(any(), any(), any(), any(), any(), anyBoolean(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(456530599L), PageRequest.of(1, 5), 6));
+        when(ticketRepository.findSummariesByIdIn(List.of(456530599L))).thenReturn(List.of(ticket));
+        when(ticketMapper.toSummary(ticket))
+                .thenReturn(TicketSummaryResponse.builder().id(456530599L).build());
+
+        TicketsPageResponse result = ticketService.getTickets(filters, pageable);
+
+        verify(ticketRepository).searchFullTextIds(eq("jpa batching"), eq("ACTIVE"), isNull(), isNull(),
+                aryEq(new Integer[0]), eq(true), eq(PageRequest.of(1, 5)));
+        verify(ticketRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+
+        assertEquals(1, result.getPage());
+        assertEquals(5, result.getSize());
+        assertEquals(6, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(456530599L, result.getTickets().get(0).getId());
+    }
+
+    @Test
+    void getTicketsWithFullTextSearchKeepsRankOrderOfIds() {
+
+        properties.getSearch().setFullTextEnabled(true);
+
+        Pageable pageable = PageRequest.of(0, 10);
+        TicketSummaryView first = summaryView(2L, "best-match", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 1));
+        TicketSummaryView second = summaryView(1L, "other-match", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 10));
+
+        when(ticketRepository.searchFullTextIds(any(), any(), any(), any(), any(), anyBoolean(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        when(ticketRepository.findSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(second, first));
+        when(ticketMapper.toSummary(any(TicketSummaryView.class))).thenAnswer(invocation -> TicketSummaryResponse.builder()
+                .id(invocation.<TicketSummaryView>getArgument(0).id())
+                .build());
+
+        TicketsPageResponse result = ticketService.getTickets(TicketFilters.builder().search("match").build(), pageable);
+
+        assertEquals(List.of(2L, 1L), result.getTickets().stream().map(TicketSummaryResponse::getId).toList());
+    }
+
+    @Test
+    void getTicketsWithoutSearchIgnoresFullTextSetting() {
+
+        properties.getSearch().setFullTextEnabled(true);
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(ticketRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        ticketService.getTickets(TicketFilters.builder().status(TicketStatus.ACTIVE).build(), pageable);
+
+        verify(ticketRepository).findSummaries(any(Specification.class), eq(pageable));
+        verify(ticketRepository, never()).searchFullTextIds(any(), any(), any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void getTicketsWithCursorSeeksWithoutCountAndReturnsNextCursor() {
+
+        TicketSummaryView newest = summaryView(3L, "newest", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 12));
+        TicketSummaryView middle = summaryView(2L, "middle", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 11));
+        TicketSummaryView extra = summaryView(1L, "extra", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 10));
+
+        when(ticketRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt()))
+                .thenReturn(List.of(newest, middle, extra));
+        when(ticketMapper.toSummary(any(TicketSummaryView.class))).thenAnswer(invocation -> TicketSummaryResponse.builder()
+                .id(invocation.<TicketSummaryView>getArgument(0).id())
+                .build());
+
+        TicketsPageResponse result = ticketService.getTickets(TicketFilters.builder().build(), "", 2);
+
+        verify(ticketRepository).findSummaries(
+                any(Specification.class), eq(Sort.by(Sort.Direction.DESC, "startDate", "id")), eq(3));
+        verify(ticketRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+
+        assertEquals(2, result.getTickets().size());
+        assertEquals(3L, result.getTickets().get(0).getId());
+        assertEquals(2L, result.getTickets().get(1).getId());
+        assertEquals(2, result.getSize());
+        assertNull(result.getPage());
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertEquals(new KeysetCursor(LocalDate.of(2025, 12, 11), 2L), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getTicketsWithCursorOmitsNextCursorOnLastPage() {
+
+        TicketSummaryView only = summaryView(1L, "only", TicketStatus.ACTIVE, LocalDate.of(2025, 12, 10));
+
+        when(ticketRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).thenReturn(List.of(only));
+        when(ticketMapper.toSummary(only)).thenReturn(TicketSummaryResponse.builder().id(1L).build());
+
+        String cursor = new KeysetCursor(LocalDate.of(2025, 12, 11), 2L).encode();
+        TicketsPageResponse result = ticketService.getTickets(TicketFilters.builder().build(), cursor, 2);
+
+        assertEquals(1, result.getTickets().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getTicketsWithCursorAndFullTextSearchSeeksOnStartDate() {
+
+        properties.getSearch().setFullTextEnabled(true);
+
+        when(ticketRepository.searchFullTextIdsBefore(any(), any(), any(), any(), any(), anyBoolean(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        String cursor = new KeysetCursor(LocalDate.of(2025, 12, 11), 2L).encode();
+        TicketFilters filters = TicketFilters.builder()
+                .statusNot(TicketStatus.ARCHIVED)
+                .visibility("Public")
+                .search("batching")
+                .build();
+
+        when(technologyDictionary.existingCodes(null)).thenReturn(new Integer[0]);
+
+        TicketsPageResponse result = ticketService.getTickets(filters, cursor, 10);
+
+        verify(ticketRepository).searchFullTextIdsBefore(eq("batching"), isNull(), eq("ARCHIVED"), eq("Public"),
+                aryEq(new Integer[0]), eq(true), eq(LocalDate.of(2025, 12, 11)), eq(2L), eq(11));
+        assertTrue(result.getTickets().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
     @Test
     void createTicketGeneratesIdSavesEntityAndReturnsSummary() {
 
@@ -151,7 +329,7 @@ class TicketServiceImplTest {
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
                 .background(request.getBackground())
-                .technologies(request.getTechnologies())
+                .technologyIds(new Integer[]{1, 2})
                 .build();
 
         TicketSummaryResponse mockSummary = TicketSummaryResponse.builder()
@@ -161,7 +339,7 @@ class TicketServiceImplTest {
                 .build();
 
         when(ticketRepository.save(any(Ticket.class))).thenReturn(saved);
-        when(ticketMapper.toSummary(any())).thenReturn(mockSummary);
+        when(ticketMapper.toSummary(any(Ticket.class))).thenReturn(mockSummary);
 
         TicketSummaryResponse result = ticketService.createTicket(request);
 
@@ -180,6 +358,8 @@ class TicketServiceImplTest {
         assertEquals(generatedId, result.getId());
         assertEquals("refactor-reevaluation-processor", result.getSlug());
         assertEquals(TicketStatus.ACTIVE, result.getStatus());
+
+        verify(eventPublisher).publishEvent(new TicketStatusChangedEvent(generatedId, null, TicketStatus.ACTIVE));
     }
 
     @Test
@@ -194,7 +374,7 @@ class TicketServiceImplTest {
                 .visibility("P")
                 .startDate(LocalDate.of(2025, 12, 10))
                 .background("Background")
-                .technologies(new String[]{"Java", "Spring Boot"})
+                .technologyIds(new Integer[]{1, 2})
                 .learned("Learned stuff")
                 .roadblocksSummary("Roadblocks")
                 .metricsSummary("Metrics")
@@ -215,6 +395,34 @@ class TicketServiceImplTest {
         assertEquals("Metrics", result.getMetricsSummary());
     }
 
+    @Test
+    void getTicketByIdServesRepeatedLookupsFromCacheUntilUpdated() {
+
+        Long id = 123L;
+        Ticket ticket = Ticket.builder()
+                .id(id)
+                .slug("refactor-reevaluation-processor")
+                .title("Refactor reevaluation processor")
+                .status(TicketStatus.ACTIVE)
+                .visibility("P")
+                .startDate(LocalDate.of(2025, 12, 10))
+                .build();
+
+        when(ticketRepository.findById(id)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ticketService.getTicketById(id);
+        ticketService.getTicketById(id);
+        verify(ticketRepository, times(1)).findById(id);
+
+        ticketService.archiveTicket(id);
+        verify(ticketDetailCache).evict(id);
+
+        assertEquals(TicketStatus.ARCHIVED, ticketService.getTicketById(id).getStatus());
+        // archive's own lookup plus the reload after eviction
+        verify(ticketRepository, times(3)).findById(id);
+    }
+
     @Test
     void getTicketByIdThrowsTicketNotFoundWhenMissing() {
 
@@ -233,7 +441,7 @@ class TicketServiceImplTest {
                 .date(LocalDate.of(2025, 12, 10))
                 .title("Identified bottlenecks")
                 .body("Found inefficient JPA queries.")
-                .technologies(new String[]{"Spring Boot", "PostgreSQL"})
+                .technologyIds(new Integer[]{2, 3})
                 .visibility("Public")
                 .build();
 
@@ -242,7 +450,7 @@ class TicketServiceImplTest {
                 .date(LocalDate.of(2025, 12, 11))
                 .title("Implemented batching")
                 .body("Reduced DB calls.")
-                .technologies(new String[]{"Hibernate"})
+                .technologyIds(new Integer[]{4})
                 .visibility("Public")
                 .build();
 
@@ -255,14 +463,15 @@ class TicketServiceImplTest {
                 .startDate(LocalDate.of(2025, 12, 10))
                 .endDate(LocalDate.of(2025, 12, 12))
                 .background("Background text")
-                .technologies(new String[]{"Java", "Spring Boot"})
+                .technologyIds(new Integer[]{1, 2})
                 .learned("Learned advanced batching strategies.")
                 .roadblocksSummary("Some roadblocks.")
                 .metricsSummary("Cut from 15m to 30s.")
-                .entries(List.of(entry1, entry2))
                 .build();
 
         when(ticketRepository.findBySlug(slug)).thenReturn(Optional.of(ticket));
+        when(entryRepository.findLatestByTicketId(456530599L, Limit.of(TicketServiceImpl.DETAIL_ENTRIES_SIZE + 1)))
+                .thenReturn(List.of(entry2, entry1));
 
         EntrySummaryResponse summary1 = EntrySummaryResponse.builder()
                 .entryId(443682370L)
@@ -294,8 +503,95 @@ class TicketServiceImplTest {
         assertEquals(TicketStatus.COMPLETED, result.getStatus());
         assertNotNull(result.getEntries());
         assertEquals(2, result.getEntries().size());
-        assertEquals(443682370L, result.getEntries().get(0).getEntryId());
-        assertEquals(443682371L, result.getEntries().get(1).getEntryId());
+        assertEquals(443682371L, result.getEntries().get(0).getEntryId());
+        assertEquals(443682370L, result.getEntries().get(1).getEntryId());
+        assertNull(result.getNextEntriesCursor());
+    }
+
+    @Test
+    void getTicketBySlugReturnsFirstEntriesPageAndCursorForLongTickets() {
+        Ticket ticket = Ticket.builder().id(456530599L).slug("long-running").build();
+
+        List<Entry> entries = LongStream.rangeClosed(1, TicketServiceImpl.DETAIL_ENTRIES_SIZE + 1)
+                .mapToObj(i -> Entry.builder().id(1000L - i).date(LocalDate.of(2025, 12, 31).minusDays(i)).build())
+                .toList();
+
+        when(ticketRepository.findBySlug("long-running")).thenReturn(Optional.of(ticket));
+        when(entryRepository.findLatestByTicketId(456530599L, Limit.of(TicketServiceImpl.DETAIL_ENTRIES_SIZE + 1)))
+                .thenReturn(entries);
+        when(entryMapper.toSummary(any(Entry.class))).thenReturn(EntrySummaryResponse.builder().build());
+
+        TicketDetailResponse result = ticketService.getTicketBySlug("long-running");
+
+        Entry lastShown = entries.get(TicketServiceImpl.DETAIL_ENTRIES_SIZE - 1);
+        assertEquals(TicketServiceImpl.DETAIL_ENTRIES_SIZE, result.getEntries().size());
+        assertEquals(new KeysetCursor(lastShown.getDate(), lastShown.getId()),
+                KeysetCursor.decode(result.getNextEntriesCursor()));
+    }
+
+    @Test
+    void getEntriesForTicketWithCursorSeeksWithinTicket() {
+        Entry older = Entry.builder().id(1L).date(LocalDate.of(2025, 12, 1)).build();
+
+        when(ticketRepository.existsById(456530599L)).thenReturn(true);
+        when(entryRepository.findLatestByTicketIdBefore(456530599L, LocalDate.of(2025, 12, 12), 3L, Limit.of(11)))
+                .thenReturn(List.of(older));
+        when(entryMapper.toSummary(older)).thenReturn(EntrySummaryResponse.builder().entryId(1L).build());
+
+        String cursor = new KeysetCursor(LocalDate.of(2025, 12, 12), 3L).encode();
+        EntriesPageResponse result = ticketService.getEntriesForTicket(456530599L, cursor, 10);
+
+        assertEquals(1, result.getEntries().size());
+        assertNull(result.getNextCursor());
+        assertNull(result.getTotalElements());
+    }
+
+    @Test
+    void getEntriesForTicketWithPageableReturnsOffsetPage() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date"));
+        Entry entry = Entry.builder().id(1L).date(LocalDate.of(2025, 12, 1)).build();
+
+        when(ticketRepository.existsById(456530599L)).thenReturn(true);
+        when(entryRepository.findByTicketId(456530599L, pageable)).thenReturn(new PageImpl<>(List.of(entry), pageable, 1));
+        when(entryMapper.toSummary(entry)).thenReturn(EntrySummaryResponse.builder().entryId(1L).build());
+
+        EntriesPageResponse result = ticketService.getEntriesForTicket(456530599L, pageable);
+
+        assertEquals(0, result.getPage());
+        assertEquals(1L, result.getTotalElements());
+        assertEquals(1L, result.getEntries().get(0).getEntryId());
+    }
+
+    @Test
+    void getEntriesForTicketThrowsTicketNotFoundWhenMissing() {
+        when(ticketRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(TicketNotFoundException.class, () -> ticketService.getEntriesForTicket(999L, "", 10));
+
+        verifyNoInteractions(entryRepository);
+    }
+
+    @Test
+    void getTicketBySlugServesRepeatedLookupsFromCacheUntilEvicted() {
+        String slug = "refactor-reevaluation-processor";
+        Ticket ticket = Ticket.builder()
+                .id(123L)
+                .slug(slug)
+                .title("Refactor reevaluation processor")
+                .status(TicketStatus.ACTIVE)
+                .build();
+
+        when(ticketRepository.findBySlug(slug)).thenReturn(Optional.of(ticket));
+        when(entryRepository.findLatestByTicketId(eq(123L), any(Limit.class))).thenReturn(List.of());
+
+        TicketDetailResponse first = ticketService.getTicketBySlug(slug);
+        assertSame(first, ticketService.getTicketBySlug(slug));
+        verify(ticketRepository, times(1)).findBySlug(slug);
+
+        ticketDetailCache.evict(123L);
+
+        ticketService.getTicketBySlug(slug);
+        verify(ticketRepository, times(2)).findBySlug(slug);
     }
 
     @Test
@@ -337,6 +633,7 @@ class TicketServiceImplTest {
         request.setTechnologies(new String[]{"Java", "Spring Boot", "PostgreSQL", "Hibernate"});
 
         when(ticketRepository.findById(id)).thenReturn(Optional.of(existing));
+        when(technologyDictionary.codesFor(request.getTechnologies())).thenReturn(new Integer[]{1, 2, 3, 4});
         when(ticketRepository.save(any(Ticket.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -368,12 +665,11 @@ class TicketServiceImplTest {
         assertEquals(request.getEndDate(), saved.getEndDate());
         assertEquals("Updated background", saved.getBackground());
         assertEquals("Cut from 15m to 30s.", saved.getMetricsSummary());
-        assertArrayEquals(
-                new String[]{"Java", "Spring Boot", "PostgreSQL", "Hibernate"},
-                saved.getTechnologies()
-        );
+        assertArrayEquals(new Integer[]{1, 2, 3, 4}, saved.getTechnologyIds());
 
         verify(ticketMapper).toDetailResponse(saved);
+        verify(ticketDetailCache).evict(id);
+        verify(eventPublisher).publishEvent(new TicketStatusChangedEvent(id, TicketStatus.ACTIVE, TicketStatus.COMPLETED));
         assertEquals(mapped, result);
     }
 
@@ -403,6 +699,7 @@ class TicketServiceImplTest {
 
         assertEquals(TicketStatus.ARCHIVED, existing.getStatus());
         verify(ticketRepository).save(existing);
+        verify(eventPublisher).publishEvent(new TicketStatusChangedEvent(id, TicketStatus.ACTIVE, TicketStatus.ARCHIVED));
     }
 
     @Test
@@ -413,4 +710,8 @@ class TicketServiceImplTest {
 
         assertThrows(TicketNotFoundException.class, () -> ticketService.archiveTicket(id));
     }
+
+    private static TicketSummaryView summaryView(Long id, String slug, TicketStatus status, LocalDate startDate) {
+        return new TicketSummaryView(id, slug, null, null, status, "Public", startDate, null, null);
+    }
 }
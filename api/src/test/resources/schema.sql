@@ -0,0 +1,68 @@
+-- H2 counterpart of the Liquibase DDL, run before Hibernate's ddl-auto=update.
+-- Declared here rather than left to Hibernate, so array columns and constraints match Postgres.
+CREATE TABLE IF NOT EXISTS cl_ticket (
+    id BIGINT NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    background TEXT,
+    technology_ids INTEGER ARRAY,
+    learned TEXT,
+    roadblocks_summary TEXT,
+    metrics_summary TEXT,
+    visibility VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_cl_ticket PRIMARY KEY (id),
+    CONSTRAINT uq_cl_ticket_slug UNIQUE (slug)
+);
+
+CREATE TABLE IF NOT EXISTS cl_entry (
+    id BIGINT NOT NULL,
+    ticket_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    title VARCHAR(255),
+    body TEXT,
+    excerpt VARCHAR(300),
+    technology_ids INTEGER ARRAY,
+    visibility VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_cl_entry PRIMARY KEY (id),
+    CONSTRAINT fk_cl_entry_ticket FOREIGN KEY (ticket_id) REFERENCES cl_ticket (id) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+-- Unique on the name itself, H2 has no expression indexes for lower(name)
+CREATE TABLE IF NOT EXISTS cl_technology (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+
+    CONSTRAINT pk_cl_technology PRIMARY KEY (id),
+    CONSTRAINT uq_cl_technology_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS cl_id_block (
+    name VARCHAR(64) NOT NULL,
+    next_value BIGINT NOT NULL,
+
+    CONSTRAINT pk_cl_id_block PRIMARY KEY (name)
+);
+
+MERGE INTO cl_id_block (name, next_value) KEY (name)
+VALUES ('cl_ticket', 100000000),
+       ('cl_entry', 100000000);
+
+CREATE TABLE IF NOT EXISTS cl_change_counter (
+    name VARCHAR(64) NOT NULL,
+    version BIGINT NOT NULL,
+
+    CONSTRAINT pk_cl_change_counter PRIMARY KEY (name)
+);
+
+MERGE INTO cl_change_counter (name, version) KEY (name)
+VALUES ('cl_ticket', 0),
+       ('cl_entry', 0);
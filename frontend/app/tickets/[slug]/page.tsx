@@ -1,7 +1,7 @@
 import { notFound } from "next/navigation";
 import { TicketMetaPanel } from "@/components/TicketMetaPanel";
 import { SectionCard } from "@/components/SectionCard";
-import { EntryTimeline } from "@/components/EntryTimeline";
+import { TicketEntryTimeline } from "@/components/TicketEntryTimeline";
 import { PageHeader } from "@/components/PageHeader";
 import { THEME } from "@/lib/theme";
 import { getTicketDetailBySlug } from "@/lib/api/tickets";
@@ -22,7 +22,6 @@ export default async function TicketDetailPage({ params }: PageProps) {
   }
 
   const ticket = ticketDetail;
-  const entries = ticketDetail.entries;
 
   return (
     <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-12 md:py-16">
@@ -103,10 +102,11 @@ export default async function TicketDetailPage({ params }: PageProps) {
           )}
 
             <SectionCard title="Daily Timeline">
-              <EntryTimeline
-                  entries={entries}
+              <TicketEntryTimeline
+                  ticketId={ticket.id}
                   ticketStatus={ticket.status}
-                  showTicketTitle={false}
+                  initialEntries={ticketDetail.entries}
+                  initialCursor={ticketDetail.nextEntriesCursor}
               />
             </SectionCard>
           </div>
@@ -48,7 +48,7 @@ export default async function Home() {
         ticketSlug: e.ticketSlug,
         date: e.date,
         title: e.title ?? undefined,
-        body: e.body ?? undefined,
+        body: e.body ?? e.excerpt ?? undefined,
         technologies: e.technologies,
         isPublic: e.visibility === 'Public',
     }));
@@ -0,0 +1,85 @@
+'use client';
+
+import { useState } from "react";
+import { EntryTimeline } from "@/components/EntryTimeline";
+import { Button } from "@/components/ui/button";
+import { getTicketEntriesPage } from "@/lib/api/entries";
+import type { Entry, TicketStatus } from "@/lib/types";
+import { THEME } from "@/lib/theme";
+
+interface TicketEntryTimelineProps {
+    ticketId: string;
+    ticketStatus?: TicketStatus;
+    // The newest entries, as embedded in the ticket detail
+    initialEntries: Entry[];
+    // Continues with the older ones through GET /api/v1/tickets/{id}/entries?cursor=
+    initialCursor?: string;
+}
+
+export function TicketEntryTimeline({
+                                        ticketId,
+                                        ticketStatus,
+                                        initialEntries,
+                                        initialCursor,
+                                    }: TicketEntryTimelineProps) {
+    const [entries, setEntries] = useState<Entry[]>(initialEntries);
+    const [cursor, setCursor] = useState<string | undefined>(initialCursor);
+    const [loading, setLoading] = useState(false);
+    const [error, setError] = useState(false);
+
+    async function loadEarlier() {
+        if (cursor === undefined) return;
+
+        try {
+            setLoading(true);
+            setError(false);
+
+            const page = await getTicketEntriesPage(ticketId, cursor);
+
+            setEntries((current) => {
+                const seen = new Set(current.map((e) => e.id));
+                return [...current, ...page.entries.filter((e) => !seen.has(e.id))];
+            });
+            setCursor(page.nextCursor);
+        } catch (err) {
+            console.error("Error loading entries:", err);
+            setError(true);
+        } finally {
+            setLoading(false);
+        }
+    }
+
+    return (
+        <div className="space-y-6">
+            {/* The timeline runs oldest first, so earlier entries come in above */}
+            {cursor !== undefined && (
+                <div className="flex items-center gap-3">
+                    <Button
+                        size="sm"
+                        variant="outline"
+                        onClick={loadEarlier}
+                        disabled={loading}
+                        style={{
+                            borderColor: THEME.colors.border.subtle,
+                            color: THEME.colors.text.secondary,
+                        }}
+                    >
+                        {loading ? "Loading..." : "Load earlier entries"}
+                    </Button>
+
+                    {error && (
+                        <span className="text-xs font-mono" style={{ color: THEME.colors.text.muted }}>
+                            Could not load entries, try again
+                        </span>
+                    )}
+                </div>
+            )}
+
+            <EntryTimeline
+                entries={entries}
+                ticketStatus={ticketStatus}
+                showTicketTitle={false}
+            />
+        </div>
+    );
+}
@@ -13,7 +13,9 @@ export type EntrySummary = {
     ticketName: string;
     ticketSlug: string;
     title: string;
-    body: string;
+    // Dashboard entries carry a short excerpt, never the full body
+    body?: string | null;
+    excerpt?: string | null;
     technologies: string[];
     date: string;
     visibility: string;
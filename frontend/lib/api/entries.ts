@@ -8,6 +8,8 @@ export type EntrySummaryResponse = {
   ticketSlug: string;
   title: string | null;
   body: string | null;
+  // Filled instead of body on the paged global list
+  excerpt?: string | null;
   technologies: string[];
   date: string;
   visibility: string;
@@ -19,6 +21,8 @@ export type EntriesPageResponse = {
   size: number;
   totalElements: number;
   totalPages: number;
+  // Only set on cursor pages that have a next page
+  nextCursor?: string;
 };
 
 function isPublicFromVisibility(visibility?: string): boolean {
@@ -32,7 +36,7 @@ function mapSummaryToEntry(e: EntrySummaryResponse): Entry {
     ticketSlug: e.ticketSlug,
     date: e.date,
     title: e.title ?? undefined,
-    body: e.body ?? undefined,
+    body: e.body ?? e.excerpt ?? undefined,
     technologies: e.technologies ?? [],
     isPublic: isPublicFromVisibility(e.visibility),
   };
@@ -69,12 +73,40 @@ export async function getEntriesPage(params?: {
 }
 
 /**
- * V1 Admin page uses: GET entries for a specific ticket id
- * (your backend: GET /api/v1/tickets/{ticketId}/entries)
+ * One cursor page of a ticket's entries, newest first.
+ * GET /api/v1/tickets/{ticketId}/entries?cursor={cursor}&size={size}
+ * Pass the ticket detail's nextEntriesCursor (or "" for the first page).
+ */
+export async function getTicketEntriesPage(
+    ticketId: string,
+    cursor: string,
+    size = 20
+): Promise<{ entries: Entry[]; nextCursor?: string }> {
+  const res = await authedGet<EntriesPageResponse>(`/api/v1/tickets/${ticketId}/entries`, {
+    params: { cursor, size },
+  });
+
+  return {
+    entries: (res.entries ?? []).map(mapSummaryToEntry),
+    nextCursor: res.nextCursor,
+  };
+}
+
+/**
+ * V1 Admin page uses: every entry of a ticket, for editing.
+ * Walks the cursor pages of GET /api/v1/tickets/{ticketId}/entries.
  */
 export async function getEntriesForTicket(ticketId: string): Promise<Entry[]> {
-  const res = await authedGet<EntrySummaryResponse[]>(`/api/v1/tickets/${ticketId}/entries`);
-  return (res ?? []).map(mapSummaryToEntry);
+  const all: Entry[] = [];
+  let cursor: string | undefined = "";
+
+  while (cursor !== undefined) {
+    const page = await getTicketEntriesPage(ticketId, cursor, 100);
+    all.push(...page.entries);
+    cursor = page.nextCursor;
+  }
+
+  return all;
 }
 
 /**
@@ -26,7 +26,9 @@ type BackendTicketDetailResponse = {
   learned?: string | null;
   roadblocksSummary?: string | null;
   metricsSummary?: string | null;
+  // Newest entries only; nextEntriesCursor continues via getTicketEntriesPage
   entries: BackendEntrySummaryResponse[];
+  nextEntriesCursor?: string | null;
 };
 
 type BackendTicketSummaryResponse = {
@@ -52,6 +54,7 @@ type BackendTicketsPageResponse = {
 
 export type TicketDetail = Ticket & {
   entries: Entry[];
+  nextEntriesCursor?: string;
 };
 
 function isPublicFromVisibility(visibility?: string): boolean {
@@ -86,6 +89,7 @@ function mapBackendDetailToTicketDetail(dto: BackendTicketDetailResponse): Ticke
     metricsSummary: dto.metricsSummary ?? undefined,
     isPublic: isPublicFromVisibility(dto.visibility),
     entries: (dto.entries ?? []).map(mapBackendEntryToEntry),
+    nextEntriesCursor: dto.nextEntriesCursor ?? undefined,
   };
 }
 